@@ -53,11 +53,19 @@ function bindSubmitJobSettingsForm() {
             var jobParameter = $("#job-parameter").val();
             var cron = $("#cron").val();
             var streamingProcess = $("#streaming-process").prop("checked");
+            var prefetchDepth = $("#prefetch-depth").val();
+            var processSubBatchSize = $("#process-sub-batch-size").val();
+            var processSubBatchOrdered = $("#process-sub-batch-ordered").prop("checked");
+            var targetBatchLatencyMilliseconds = $("#target-batch-latency-milliseconds").val();
+            var maxBatchSize = $("#max-batch-size").val();
             var maxTimeDiffSeconds = $("#max-time-diff-seconds").val();
             var monitorPort = $("#monitor-port").val();
             var monitorExecution = $("#monitor-execution").prop("checked");
             var failover = $("#failover").prop("checked");
+            var failoverBatchSize = $("#failover-batch-size").val();
+            var failoverFairnessPolicy = $("#failover-fairness-policy").val();
             var misfire = $("#misfire").prop("checked");
+            var workStealing = $("#work-stealing").prop("checked");
             var driver = $("#driver").val();
             var url = $("#url").val();
             var username = $("#username").val();
@@ -66,11 +74,17 @@ function bindSubmitJobSettingsForm() {
             var shardingItemParameters = $("#sharding-item-parameters").val();
             var jobShardingStrategyType = $("#job-sharding-strategy-type").val();
             var scriptCommandLine = $("#script-command-line").val();
+            var itemTimeoutMilliseconds = $("#item-timeout-milliseconds").val();
             var jobExecutorServiceHandler = $("#job-executor-service-handler").val();
+            var threadPoolName = $("#thread-pool-name").val();
+            var threadPoolCoreSize = $("#thread-pool-core-size").val();
+            var threadPoolMaxSize = $("#thread-pool-max-size").val();
+            var threadPoolQueueCapacity = $("#thread-pool-queue-capacity").val();
+            var threadPoolRejectionPolicy = $("#thread-pool-rejection-policy").val();
             var jobErrorHandler = $("#job-error-handler").val();
             var description = $("#description").val();
             var reconcileIntervalMinutes = $("#reconcile-interval-minutes").val();
-            var postJson = {jobName: jobName, jobType : jobType, shardingTotalCount: shardingTotalCount, jobParameter: jobParameter, cron: cron, streamingProcess: streamingProcess, maxTimeDiffSeconds: maxTimeDiffSeconds, monitorPort: monitorPort, monitorExecution: monitorExecution, failover: failover, misfire: misfire, shardingItemParameters: shardingItemParameters, jobShardingStrategyType: jobShardingStrategyType, jobExecutorServiceHandler: jobExecutorServiceHandler, jobErrorHandler: jobErrorHandler, description: description, scriptCommandLine: scriptCommandLine, reconcileIntervalMinutes:reconcileIntervalMinutes};
+            var postJson = {jobName: jobName, jobType : jobType, shardingTotalCount: shardingTotalCount, jobParameter: jobParameter, cron: cron, streamingProcess: streamingProcess, prefetchDepth: prefetchDepth, processSubBatchSize: processSubBatchSize, processSubBatchOrdered: processSubBatchOrdered, targetBatchLatencyMilliseconds: targetBatchLatencyMilliseconds, maxBatchSize: maxBatchSize, maxTimeDiffSeconds: maxTimeDiffSeconds, monitorPort: monitorPort, monitorExecution: monitorExecution, failover: failover, failoverBatchSize: failoverBatchSize, failoverFairnessPolicy: failoverFairnessPolicy, misfire: misfire, workStealing: workStealing, itemTimeoutMilliseconds: itemTimeoutMilliseconds, shardingItemParameters: shardingItemParameters, jobShardingStrategyType: jobShardingStrategyType, jobExecutorServiceHandler: jobExecutorServiceHandler, threadPoolName: threadPoolName, threadPoolCoreSize: threadPoolCoreSize, threadPoolMaxSize: threadPoolMaxSize, threadPoolQueueCapacity: threadPoolQueueCapacity, threadPoolRejectionPolicy: threadPoolRejectionPolicy, jobErrorHandler: jobErrorHandler, description: description, scriptCommandLine: scriptCommandLine, reconcileIntervalMinutes:reconcileIntervalMinutes};
             var jobParams = getJobParams();
             if (jobParams.monitorExecution !== monitorExecution || jobParams.failover !== failover || jobParams.misfire !== misfire) {
                 showUpdateConfirmModal();
@@ -229,18 +229,37 @@ function renderJob(data) {
     $("#job-parameter").attr("value", data.jobParameter);
     $("#monitor-execution").attr("checked", data.monitorExecution);
     $("#failover").attr("checked", data.failover);
+    $("#failover-batch-size").attr("value", data.failoverBatchSize);
+    $("#failover-fairness-policy").attr("value", data.failoverFairnessPolicy);
     $("#misfire").attr("checked", data.misfire);
+    $("#work-stealing").attr("checked", data.workStealing);
+    $("#item-timeout-milliseconds").attr("value", data.itemTimeoutMilliseconds);
     $("#streaming-process").attr("checked", data.streamingProcess);
+    $("#prefetch-depth").attr("value", data.prefetchDepth);
+    $("#process-sub-batch-size").attr("value", data.processSubBatchSize);
+    $("#process-sub-batch-ordered").attr("checked", data.processSubBatchOrdered);
+    $("#target-batch-latency-milliseconds").attr("value", data.targetBatchLatencyMilliseconds);
+    $("#max-batch-size").attr("value", data.maxBatchSize);
     $("#max-time-diff-seconds").attr("value", data.maxTimeDiffSeconds);
     $("#monitor-port").attr("value", data.monitorPort);
     $("#job-sharding-strategy-type").attr("value", data.jobShardingStrategyType);
     $("#job-executor-service-handler").attr("value", data.jobExecutorServiceHandlerType);
+    $("#thread-pool-name").attr("value", data.threadPoolName);
+    $("#thread-pool-core-size").attr("value", data.threadPoolCoreSize);
+    $("#thread-pool-max-size").attr("value", data.threadPoolMaxSize);
+    $("#thread-pool-queue-capacity").attr("value", data.threadPoolQueueCapacity);
+    $("#thread-pool-rejection-policy").attr("value", data.threadPoolRejectionPolicy);
     $("#job-error-handler").attr("value", data.jobErrorHandlerType);
     $("#reconcile-interval-minutes").attr("value", data.reconcileIntervalMinutes);
     $("#description").text(data.description);
     $("#script-command-line").attr("value", data.scriptCommandLine);
     if ("DATAFLOW" === $("#job-type").val()) {
         $("#streaming-process-group").show();
+        $("#prefetch-depth-group").show();
+        $("#process-sub-batch-size-group").show();
+        $("#process-sub-batch-ordered-group").show();
+        $("#target-batch-latency-milliseconds-group").show();
+        $("#max-batch-size-group").show();
     }
     if ("SCRIPT" === $("#job-type").val()) {
         $("#script-commandLine-group").show();
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.elasticjob.lite.api.listener.AbstractDistribute
 import org.apache.shardingsphere.elasticjob.lite.api.listener.ElasticJobListener;
 import org.apache.shardingsphere.elasticjob.lite.api.script.ScriptJob;
 import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.executor.JobFacade;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
@@ -28,9 +29,12 @@ import org.apache.shardingsphere.elasticjob.lite.internal.guarantee.GuaranteeSer
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobShutdownHookPlugin;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobTriggerEngine;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.LiteJob;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.LiteJobFacade;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.QuartzJobTriggerEngine;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.SchedulerFacade;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.TimerWheelJobTriggerEngine;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.lite.tracing.JobEventBus;
 import org.apache.shardingsphere.elasticjob.lite.tracing.api.TracingConfiguration;
@@ -38,7 +42,9 @@ import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.quartz.TriggerKey;
 import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.KeyMatcher;
 import org.quartz.simpl.SimpleThreadPool;
 
 import java.util.Arrays;
@@ -54,6 +60,14 @@ public final class JobScheduler {
     
     private static final String JOB_FACADE_DATA_MAP_KEY = "jobFacade";
     
+    private static final String SHARED_SCHEDULER_NAME = "ElasticJobSharedScheduler";
+    
+    private static final int SHARED_SCHEDULER_THREAD_COUNT = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final String QUARTZ_TRIGGER_ENGINE_TYPE = "QUARTZ";
+    
+    private static final String TIMER_WHEEL_TRIGGER_ENGINE_TYPE = "TIMER_WHEEL";
+    
     private final CoordinatorRegistryCenter regCenter;
     
     private final ElasticJob elasticJob;
@@ -78,7 +92,7 @@ public final class JobScheduler {
         this.regCenter = regCenter;
         this.elasticJob = elasticJob;
         this.liteJobConfig = liteJobConfig;
-        JobRegistry.getInstance().addJobInstance(liteJobConfig.getJobName(), new JobInstance());
+        JobRegistry.getInstance().addJobInstance(liteJobConfig.getJobName(), new JobInstance(liteJobConfig.getInstanceWeight()));
         List<ElasticJobListener> elasticJobListenerList = Arrays.asList(elasticJobListeners);
         setGuaranteeServiceForElasticJobListeners(regCenter, elasticJobListenerList);
         schedulerFacade = new SchedulerFacade(regCenter, liteJobConfig.getJobName(), elasticJobListenerList);
@@ -100,30 +114,50 @@ public final class JobScheduler {
     public void init() {
         LiteJobConfiguration liteJobConfigFromRegCenter = schedulerFacade.updateJobConfiguration(null == elasticJob ? ScriptJob.class.getName() : elasticJob.getClass().getName(), liteJobConfig);
         JobRegistry.getInstance().setCurrentShardingTotalCount(liteJobConfigFromRegCenter.getJobName(), liteJobConfigFromRegCenter.getTypeConfig().getCoreConfig().getShardingTotalCount());
-        JobScheduleController jobScheduleController = new JobScheduleController(createScheduler(), createJobDetail(elasticJob), liteJobConfigFromRegCenter.getJobName());
+        JobScheduleController jobScheduleController = new JobScheduleController(createTriggerEngine(), liteJobConfig.getMaxQueuedTriggers());
         JobRegistry.getInstance().registerJob(liteJobConfigFromRegCenter.getJobName(), jobScheduleController, regCenter);
         schedulerFacade.registerStartUpInfo(!liteJobConfigFromRegCenter.isDisabled());
         jobScheduleController.scheduleJob(liteJobConfigFromRegCenter.getTypeConfig().getCoreConfig().getCron());
     }
     
+    private JobTriggerEngine createTriggerEngine() {
+        String triggerEngineType = liteJobConfig.getTriggerEngineType();
+        if (triggerEngineType.isEmpty() || QUARTZ_TRIGGER_ENGINE_TYPE.equals(triggerEngineType)) {
+            return new QuartzJobTriggerEngine(createScheduler(), createJobDetail(elasticJob), liteJobConfig.getJobName(), liteJobConfig.isSharedScheduler());
+        }
+        if (TIMER_WHEEL_TRIGGER_ENGINE_TYPE.equals(triggerEngineType)) {
+            LiteJob liteJob = createLiteJob(elasticJob);
+            return new TimerWheelJobTriggerEngine(liteJobConfig.getJobName(), () -> liteJob.execute(liteJobConfig.getJobName()), schedulerFacade.newJobTriggerListener()::triggerMisfired);
+        }
+        throw new JobConfigurationException("Can not find trigger engine type '%s'.", triggerEngineType);
+    }
+    
     private Scheduler createScheduler() {
         Scheduler result;
         try {
-            StdSchedulerFactory factory = new StdSchedulerFactory();
-            factory.initialize(getQuartzProps());
-            result = factory.getScheduler();
-            result.getListenerManager().addTriggerListener(schedulerFacade.newJobTriggerListener());
+            result = liteJobConfig.isSharedScheduler() ? getSharedScheduler() : createQuartzScheduler(getQuartzProps(liteJobConfig.getJobName(), 1));
+            result.getListenerManager().addTriggerListener(schedulerFacade.newJobTriggerListener(), KeyMatcher.keyEquals(TriggerKey.triggerKey(liteJobConfig.getJobName())));
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
         return result;
     }
     
-    private Properties getQuartzProps() {
+    private static Scheduler getSharedScheduler() throws SchedulerException {
+        return QuartzJobTriggerEngine.retainSharedScheduler(getQuartzProps(SHARED_SCHEDULER_NAME, SHARED_SCHEDULER_THREAD_COUNT));
+    }
+    
+    private static Scheduler createQuartzScheduler(final Properties quartzProps) throws SchedulerException {
+        StdSchedulerFactory factory = new StdSchedulerFactory();
+        factory.initialize(quartzProps);
+        return factory.getScheduler();
+    }
+    
+    private static Properties getQuartzProps(final String schedulerName, final int threadCount) {
         Properties result = new Properties();
         result.put("org.quartz.threadPool.class", SimpleThreadPool.class.getName());
-        result.put("org.quartz.threadPool.threadCount", "1");
-        result.put("org.quartz.scheduler.instanceName", liteJobConfig.getJobName());
+        result.put("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
+        result.put("org.quartz.scheduler.instanceName", schedulerName);
         result.put("org.quartz.jobStore.misfireThreshold", "1");
         result.put("org.quartz.plugin.shutdownhook.class", JobShutdownHookPlugin.class.getName());
         result.put("org.quartz.plugin.shutdownhook.cleanShutdown", Boolean.TRUE.toString());
@@ -139,6 +173,15 @@ public final class JobScheduler {
         return result;
     }
     
+    private LiteJob createLiteJob(final ElasticJob elasticJob) {
+        LiteJob result = new LiteJob();
+        result.setJobFacade(jobFacade);
+        if (null != elasticJob && !elasticJob.getClass().getName().equals(ScriptJob.class.getName())) {
+            result.setElasticJob(elasticJob);
+        }
+        return result;
+    }
+    
    /**
     * Shutdown job.
     */
@@ -61,6 +61,13 @@ public final class ShardingContext {
      */
     private final String shardingParameter;
     
+    /**
+     * Suggested batch size of data to fetch.
+     * 
+     * <p>Only suggested for dataflow job with adaptive batch size configured, 0 means no suggestion.</p>
+     */
+    private final int suggestedBatchSize;
+    
     public ShardingContext(final ShardingContexts shardingContexts, final int shardingItem) {
         jobName = shardingContexts.getJobName();
         taskId = shardingContexts.getTaskId();
@@ -68,5 +75,16 @@ public final class ShardingContext {
         jobParameter = shardingContexts.getJobParameter();
         this.shardingItem = shardingItem;
         shardingParameter = shardingContexts.getShardingItemParameters().get(shardingItem);
+        suggestedBatchSize = 0;
+    }
+    
+    public ShardingContext(final ShardingContext shardingContext, final int suggestedBatchSize) {
+        jobName = shardingContext.jobName;
+        taskId = shardingContext.taskId;
+        shardingTotalCount = shardingContext.shardingTotalCount;
+        jobParameter = shardingContext.jobParameter;
+        shardingItem = shardingContext.shardingItem;
+        shardingParameter = shardingContext.shardingParameter;
+        this.suggestedBatchSize = suggestedBatchSize;
     }
 }
@@ -20,21 +20,30 @@ package org.apache.shardingsphere.elasticjob.lite.api.listener;
 import lombok.Setter;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.executor.ShardingContexts;
+import org.apache.shardingsphere.elasticjob.lite.internal.guarantee.GuaranteeBarrier;
+import org.apache.shardingsphere.elasticjob.lite.internal.guarantee.GuaranteeRound;
 import org.apache.shardingsphere.elasticjob.lite.internal.guarantee.GuaranteeService;
 import org.apache.shardingsphere.elasticjob.lite.util.env.TimeService;
 
+import java.util.function.BooleanSupplier;
+
 /**
  * Distributed once elasticjob listener.
+ * 
+ * <p>
+ * Last arrived sharding item is judged by children count returned from registering transaction, 
+ * others wait on barrier woken up by removal of guarantee root node until their round passed.
+ * </p>
  */
 public abstract class AbstractDistributeOnceElasticJobListener implements ElasticJobListener {
     
     private final long startedTimeoutMilliseconds;
     
-    private final Object startedWait = new Object();
+    private final GuaranteeBarrier startedBarrier = new GuaranteeBarrier();
     
     private final long completedTimeoutMilliseconds;
     
-    private final Object completedWait = new Object();
+    private final GuaranteeBarrier completedBarrier = new GuaranteeBarrier();
     
     @Setter
     private GuaranteeService guaranteeService;
@@ -56,21 +65,13 @@ public abstract class AbstractDistributeOnceElasticJobListener implements Elasti
     
     @Override
     public final void beforeJobExecuted(final ShardingContexts shardingContexts) {
-        guaranteeService.registerStart(shardingContexts.getShardingItemParameters().keySet());
-        if (guaranteeService.isAllStarted()) {
+        GuaranteeRound round = guaranteeService.registerStart(shardingContexts.getShardingItemParameters().keySet());
+        if (round.isLastArrived()) {
             doBeforeJobExecutedAtLastStarted(shardingContexts);
             guaranteeService.clearAllStartedInfo();
             return;
         }
-        long before = timeService.getCurrentMillis();
-        try {
-            synchronized (startedWait) {
-                startedWait.wait(startedTimeoutMilliseconds);
-            }
-        } catch (final InterruptedException ex) {
-            Thread.interrupted();
-        }
-        if (timeService.getCurrentMillis() - before >= startedTimeoutMilliseconds) {
+        if (!await(startedBarrier, () -> guaranteeService.isStartedPassed(round), startedTimeoutMilliseconds)) {
             guaranteeService.clearAllStartedInfo();
             handleTimeout(startedTimeoutMilliseconds);
         }
@@ -78,26 +79,35 @@ public abstract class AbstractDistributeOnceElasticJobListener implements Elasti
     
     @Override
     public final void afterJobExecuted(final ShardingContexts shardingContexts) {
-        guaranteeService.registerComplete(shardingContexts.getShardingItemParameters().keySet());
-        if (guaranteeService.isAllCompleted()) {
+        GuaranteeRound round = guaranteeService.registerComplete(shardingContexts.getShardingItemParameters().keySet());
+        if (round.isLastArrived()) {
             doAfterJobExecutedAtLastCompleted(shardingContexts);
             guaranteeService.clearAllCompletedInfo();
             return;
         }
-        long before = timeService.getCurrentMillis();
-        try {
-            synchronized (completedWait) {
-                completedWait.wait(completedTimeoutMilliseconds);
-            }
-        } catch (final InterruptedException ex) {
-            Thread.interrupted();
-        }
-        if (timeService.getCurrentMillis() - before >= completedTimeoutMilliseconds) {
+        if (!await(completedBarrier, () -> guaranteeService.isCompletedPassed(round), completedTimeoutMilliseconds)) {
             guaranteeService.clearAllCompletedInfo();
             handleTimeout(completedTimeoutMilliseconds);
         }
     }
     
+    private boolean await(final GuaranteeBarrier barrier, final BooleanSupplier passed, final long timeoutMilliseconds) {
+        long before = timeService.getCurrentMillis();
+        while (true) {
+            long generation = barrier.getGeneration();
+            if (passed.getAsBoolean()) {
+                return true;
+            }
+            long remaining = timeoutMilliseconds - (timeService.getCurrentMillis() - before);
+            if (remaining <= 0L) {
+                return false;
+            }
+            if (!barrier.awaitAdvance(generation, remaining)) {
+                return true;
+            }
+        }
+    }
+    
     private void handleTimeout(final long timeoutMilliseconds) {
         throw new JobSystemException("Job timeout. timeout mills is %s.", timeoutMilliseconds);
     }
@@ -120,17 +130,13 @@ public abstract class AbstractDistributeOnceElasticJobListener implements Elasti
      * Notify waiting task start.
      */
     public void notifyWaitingTaskStart() {
-        synchronized (startedWait) {
-            startedWait.notifyAll();
-        }
+        startedBarrier.advance();
     }
     
     /**
      * Notify waiting task complete.
      */
     public void notifyWaitingTaskComplete() {
-        synchronized (completedWait) {
-            completedWait.notifyAll();
-        }
+        completedBarrier.advance();
     }
 }
@@ -43,10 +43,28 @@ public final class JobCoreConfiguration {
     
     private final boolean failover;
     
+    private final int failoverBatchSize;
+    
+    private final String failoverFairnessPolicy;
+    
     private final boolean misfire;
     
+    private final boolean workStealing;
+    
+    private final long itemTimeoutMilliseconds;
+    
     private final String jobExecutorServiceHandlerType;
     
+    private final String threadPoolName;
+    
+    private final int threadPoolCoreSize;
+    
+    private final int threadPoolMaxSize;
+    
+    private final int threadPoolQueueCapacity;
+    
+    private final String threadPoolRejectionPolicy;
+    
     private final String jobErrorHandlerType;
     
     private final String description;
@@ -78,9 +96,27 @@ public final class JobCoreConfiguration {
         
         private boolean failover;
         
+        private int failoverBatchSize;
+        
+        private String failoverFairnessPolicy = "";
+        
         private boolean misfire = true;
+        
+        private boolean workStealing;
+        
+        private long itemTimeoutMilliseconds;
     
         private String jobExecutorServiceHandlerType;
+        
+        private String threadPoolName = "";
+        
+        private int threadPoolCoreSize;
+        
+        private int threadPoolMaxSize;
+        
+        private int threadPoolQueueCapacity;
+        
+        private String threadPoolRejectionPolicy = "";
     
         private String jobErrorHandlerType;
         
@@ -138,6 +174,42 @@ public final class JobCoreConfiguration {
             return this;
         }
         
+        /**
+         * Set max count of crashed sharding items claimed by one job instance in one failover round.
+         *
+         * <p>
+         * Crashed sharding items claimed in one round are executed in one trigger.
+         * 0 or 1 means claim crashed sharding items one by one.
+         * </p>
+         *
+         * @param failoverBatchSize max count of crashed sharding items claimed in one failover round
+         *
+         * @return job configuration builder
+         */
+        public Builder failoverBatchSize(final int failoverBatchSize) {
+            this.failoverBatchSize = failoverBatchSize;
+            return this;
+        }
+        
+        /**
+         * Set failover fairness policy.
+         *
+         * <p>
+         * Default for {@code AVERAGE}, which claims fair share of crashed sharding items among online job instances.
+         * {@code GREEDY} claims crashed sharding items as many as failover batch size.
+         * </p>
+         *
+         * @param failoverFairnessPolicy failover fairness policy
+         *
+         * @return job configuration builder
+         */
+        public Builder failoverFairnessPolicy(final String failoverFairnessPolicy) {
+            if (null != failoverFairnessPolicy) {
+                this.failoverFairnessPolicy = failoverFairnessPolicy;
+            }
+            return this;
+        }
+        
         /**
          * Set enable misfire.
          *
@@ -150,6 +222,22 @@ public final class JobCoreConfiguration {
             return this;
         }
         
+        /**
+         * Set enable work stealing.
+         *
+         * <p>
+         * Idle job instance steals sharding items which are not started yet from busy job instances in the same trigger.
+         * </p>
+         *
+         * @param workStealing enable or disable work stealing
+         *
+         * @return job configuration builder
+         */
+        public Builder workStealing(final boolean workStealing) {
+            this.workStealing = workStealing;
+            return this;
+        }
+        
         /**
          * Set job error handler type.
          *
@@ -174,6 +262,112 @@ public final class JobCoreConfiguration {
             return this;
         }
         
+        /**
+         * Set thread pool name.
+         *
+         * <p>
+         * Only for `BOUNDED` job executor service handler.
+         * Jobs with the same thread pool name share one thread pool, each job has its own thread pool if thread pool name is empty.
+         * </p>
+         *
+         * @param threadPoolName thread pool name
+         *
+         * @return job configuration builder
+         */
+        public Builder threadPoolName(final String threadPoolName) {
+            if (null != threadPoolName) {
+                this.threadPoolName = threadPoolName;
+            }
+            return this;
+        }
+        
+        /**
+         * Set core size of thread pool.
+         *
+         * <p>
+         * Only for `BOUNDED` job executor service handler, zero means twice of available processors.
+         * </p>
+         *
+         * @param threadPoolCoreSize core size of thread pool
+         *
+         * @return job configuration builder
+         */
+        public Builder threadPoolCoreSize(final int threadPoolCoreSize) {
+            this.threadPoolCoreSize = threadPoolCoreSize;
+            return this;
+        }
+        
+        /**
+         * Set max size of thread pool.
+         *
+         * <p>
+         * Only for `BOUNDED` job executor service handler, zero means same as core size.
+         * Threads more than core size are created only when queue is full.
+         * </p>
+         *
+         * @param threadPoolMaxSize max size of thread pool
+         *
+         * @return job configuration builder
+         */
+        public Builder threadPoolMaxSize(final int threadPoolMaxSize) {
+            this.threadPoolMaxSize = threadPoolMaxSize;
+            return this;
+        }
+        
+        /**
+         * Set queue capacity of thread pool.
+         *
+         * <p>
+         * Only for `BOUNDED` job executor service handler, zero means default capacity.
+         * </p>
+         *
+         * @param threadPoolQueueCapacity queue capacity of thread pool
+         *
+         * @return job configuration builder
+         */
+        public Builder threadPoolQueueCapacity(final int threadPoolQueueCapacity) {
+            this.threadPoolQueueCapacity = threadPoolQueueCapacity;
+            return this;
+        }
+        
+        /**
+         * Set rejection policy of thread pool.
+         *
+         * <p>
+         * Only for `BOUNDED` job executor service handler.
+         * `CALLER_RUNS` executes sharding item in the submitting thread to slow down submission, `ABORT` fails the rejected sharding item.
+         * Default is `CALLER_RUNS`.
+         * </p>
+         *
+         * @param threadPoolRejectionPolicy rejection policy of thread pool
+         *
+         * @return job configuration builder
+         */
+        public Builder threadPoolRejectionPolicy(final String threadPoolRejectionPolicy) {
+            if (null != threadPoolRejectionPolicy) {
+                this.threadPoolRejectionPolicy = threadPoolRejectionPolicy;
+            }
+            return this;
+        }
+        
+        /**
+         * Set execution timeout milliseconds of each sharding item.
+         *
+         * <p>
+         * Sharding item exceed timeout is interrupted and recorded as execution failure, and other sharding items of the fire go on.
+         * Interruption is cooperative, sharding item should respond to interruption or it keeps occupying its thread.
+         * Zero means never timeout.
+         * </p>
+         *
+         * @param itemTimeoutMilliseconds execution timeout milliseconds of each sharding item
+         *
+         * @return job configuration builder
+         */
+        public Builder itemTimeoutMilliseconds(final long itemTimeoutMilliseconds) {
+            this.itemTimeoutMilliseconds = itemTimeoutMilliseconds;
+            return this;
+        }
+        
         /**
          * Set job description.
          *
@@ -197,8 +391,14 @@ public final class JobCoreConfiguration {
             Preconditions.checkArgument(!Strings.isNullOrEmpty(jobName), "jobName can not be empty.");
             Preconditions.checkArgument(!Strings.isNullOrEmpty(cron), "cron can not be empty.");
             Preconditions.checkArgument(shardingTotalCount > 0, "shardingTotalCount should larger than zero.");
-            return new JobCoreConfiguration(
-                    jobName, cron, shardingTotalCount, shardingItemParameters, jobParameter, failover, misfire, jobExecutorServiceHandlerType, jobErrorHandlerType, description);
+            Preconditions.checkArgument(threadPoolCoreSize >= 0, "threadPoolCoreSize can not be negative.");
+            Preconditions.checkArgument(threadPoolMaxSize >= 0, "threadPoolMaxSize can not be negative.");
+            Preconditions.checkArgument(threadPoolQueueCapacity >= 0, "threadPoolQueueCapacity can not be negative.");
+            Preconditions.checkArgument(itemTimeoutMilliseconds >= 0, "itemTimeoutMilliseconds can not be negative.");
+            Preconditions.checkArgument(failoverBatchSize >= 0, "failoverBatchSize can not be negative.");
+            return new JobCoreConfiguration(jobName, cron, shardingTotalCount, shardingItemParameters, jobParameter, failover, failoverBatchSize, failoverFairnessPolicy,
+                    misfire, workStealing, itemTimeoutMilliseconds,
+                    jobExecutorServiceHandlerType, threadPoolName, threadPoolCoreSize, threadPoolMaxSize, threadPoolQueueCapacity, threadPoolRejectionPolicy, jobErrorHandlerType, description);
         }
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.lite.config;
 
+import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -45,6 +46,14 @@ public final class LiteJobConfiguration implements JobRootConfiguration {
     
     private final boolean overwrite;
     
+    private final boolean sharedScheduler;
+    
+    private final String triggerEngineType;
+    
+    private final int maxQueuedTriggers;
+    
+    private final int instanceWeight;
+    
     /**
      * Get job name.
      * 
@@ -90,6 +99,14 @@ public final class LiteJobConfiguration implements JobRootConfiguration {
         
         private boolean overwrite;
         
+        private boolean sharedScheduler;
+        
+        private String triggerEngineType = "";
+        
+        private int maxQueuedTriggers;
+        
+        private int instanceWeight = 1;
+        
         private int reconcileIntervalMinutes = 10;
     
         /**
@@ -206,13 +223,88 @@ public final class LiteJobConfiguration implements JobRootConfiguration {
             return this;
         }
         
+        /**
+         * Set whether schedule job by scheduler shared with other jobs in same JVM.
+         * 
+         * <p>
+         * Shared scheduler saves scheduler thread of every job when many jobs run in one JVM, and pause or resume job still only affects the job itself.
+         * It is local configuration and will not be persisted to registry center.
+         * </p>
+         *
+         * @param sharedScheduler whether schedule job by scheduler shared with other jobs
+         *
+         * @return ElasticJob lite configuration builder
+         */
+        public Builder sharedScheduler(final boolean sharedScheduler) {
+            this.sharedScheduler = sharedScheduler;
+            return this;
+        }
+        
+        /**
+         * Set trigger engine type.
+         * 
+         * <p>
+         * Default for {@code QUARTZ}, {@code TIMER_WHEEL} fires all jobs in same JVM by one hashed wheel timer.
+         * Shared scheduler is only available for {@code QUARTZ}.
+         * It is local configuration and will not be persisted to registry center.
+         * </p>
+         *
+         * @param triggerEngineType trigger engine type
+         *
+         * @return ElasticJob lite configuration builder
+         */
+        public Builder triggerEngineType(final String triggerEngineType) {
+            if (null != triggerEngineType) {
+                this.triggerEngineType = triggerEngineType;
+            }
+            return this;
+        }
+        
+        /**
+         * Set max count of manual triggers queued while job is running.
+         * 
+         * <p>
+         * Manual triggers arrived while job is running are coalesced into queue, and fired one after another as soon as current fire completed.
+         * Triggers exceed max count are dropped, 0 means drop all manual triggers arrived while job is running.
+         * It is local configuration and will not be persisted to registry center.
+         * </p>
+         *
+         * @param maxQueuedTriggers max count of manual triggers queued while job is running
+         *
+         * @return ElasticJob lite configuration builder
+         */
+        public Builder maxQueuedTriggers(final int maxQueuedTriggers) {
+            Preconditions.checkArgument(maxQueuedTriggers >= 0, "maxQueuedTriggers can not be negative.");
+            this.maxQueuedTriggers = maxQueuedTriggers;
+            return this;
+        }
+        
+        /**
+         * Set weight of current job instance.
+         * 
+         * <p>
+         * Weight is persisted with online status of job instance, weighted sharding strategies assign more sharding items to job instance with larger weight.
+         * It is local configuration of each job instance and will not be persisted to job configuration of registry center.
+         * </p>
+         *
+         * @param instanceWeight weight of current job instance
+         *
+         * @return ElasticJob lite configuration builder
+         */
+        public Builder instanceWeight(final int instanceWeight) {
+            Preconditions.checkArgument(instanceWeight > 0, "instanceWeight should larger than zero.");
+            this.instanceWeight = instanceWeight;
+            return this;
+        }
+        
         /**
          * Build ElasticJob lite configuration.
          * 
          * @return ElasticJob lite configuration
          */
         public final LiteJobConfiguration build() {
-            return new LiteJobConfiguration(jobConfig, monitorExecution, maxTimeDiffSeconds, monitorPort, jobShardingStrategyType, reconcileIntervalMinutes, disabled, overwrite);
+            return new LiteJobConfiguration(jobConfig, monitorExecution, maxTimeDiffSeconds, monitorPort, jobShardingStrategyType, reconcileIntervalMinutes, disabled, overwrite, 
+                    sharedScheduler, triggerEngineType, maxQueuedTriggers, instanceWeight);
         }
     }
 }
@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.elasticjob.lite.config.dataflow;
 
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.lite.api.JobType;
@@ -26,7 +29,7 @@ import org.apache.shardingsphere.elasticjob.lite.config.JobTypeConfiguration;
 /**
  * Dataflow job configuration.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public final class DataflowJobConfiguration implements JobTypeConfiguration {
     
@@ -35,4 +38,132 @@ public final class DataflowJobConfiguration implements JobTypeConfiguration {
     private final JobType jobType = JobType.DATAFLOW;
     
     private final boolean streamingProcess;
+    
+    private final int prefetchDepth;
+    
+    private final int processSubBatchSize;
+    
+    private final boolean processSubBatchOrdered;
+    
+    private final long targetBatchLatencyMilliseconds;
+    
+    private final int maxBatchSize;
+    
+    public DataflowJobConfiguration(final JobCoreConfiguration coreConfig, final boolean streamingProcess) {
+        this(coreConfig, streamingProcess, 0, 0, true, 0L, 0);
+    }
+    
+    /**
+     * Create dataflow job configuration builder.
+     *
+     * @param coreConfig job core configuration
+     * @param streamingProcess is streaming process or not
+     * @return dataflow job configuration builder
+     */
+    public static Builder newBuilder(final JobCoreConfiguration coreConfig, final boolean streamingProcess) {
+        return new Builder(coreConfig, streamingProcess);
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Builder {
+        
+        private final JobCoreConfiguration coreConfig;
+        
+        private final boolean streamingProcess;
+        
+        private int prefetchDepth;
+        
+        private int processSubBatchSize;
+        
+        private boolean processSubBatchOrdered = true;
+        
+        private long targetBatchLatencyMilliseconds;
+        
+        private int maxBatchSize;
+        
+        /**
+         * Set prefetch depth.
+         *
+         * <p>
+         * Batches of data fetched in advance while streaming process, 0 means do not prefetch.
+         * </p>
+         *
+         * @param prefetchDepth prefetch depth
+         *
+         * @return dataflow job configuration builder
+         */
+        public Builder prefetchDepth(final int prefetchDepth) {
+            this.prefetchDepth = prefetchDepth;
+            return this;
+        }
+        
+        /**
+         * Set process sub batch size.
+         *
+         * <p>
+         * Fetched data is split into sub batches of this size and processed concurrently, 0 means do not split.
+         * </p>
+         *
+         * @param processSubBatchSize process sub batch size
+         *
+         * @return dataflow job configuration builder
+         */
+        public Builder processSubBatchSize(final int processSubBatchSize) {
+            this.processSubBatchSize = processSubBatchSize;
+            return this;
+        }
+        
+        /**
+         * Set whether sub batches are completed in order of data.
+         *
+         * @param processSubBatchOrdered sub batches are completed in order of data or not
+         *
+         * @return dataflow job configuration builder
+         */
+        public Builder processSubBatchOrdered(final boolean processSubBatchOrdered) {
+            this.processSubBatchOrdered = processSubBatchOrdered;
+            return this;
+        }
+        
+        /**
+         * Set target batch latency milliseconds.
+         *
+         * <p>
+         * Suggested batch size is adapted to process a batch within this latency, 0 means do not adapt.
+         * </p>
+         *
+         * @param targetBatchLatencyMilliseconds target batch latency milliseconds
+         *
+         * @return dataflow job configuration builder
+         */
+        public Builder targetBatchLatencyMilliseconds(final long targetBatchLatencyMilliseconds) {
+            this.targetBatchLatencyMilliseconds = targetBatchLatencyMilliseconds;
+            return this;
+        }
+        
+        /**
+         * Set max batch size.
+         *
+         * @param maxBatchSize upper limit of suggested batch size
+         *
+         * @return dataflow job configuration builder
+         */
+        public Builder maxBatchSize(final int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+        
+        /**
+         * Build dataflow job configuration.
+         *
+         * @return dataflow job configuration
+         */
+        public final DataflowJobConfiguration build() {
+            Preconditions.checkArgument(prefetchDepth >= 0, "prefetchDepth can not be negative.");
+            Preconditions.checkArgument(processSubBatchSize >= 0, "processSubBatchSize can not be negative.");
+            Preconditions.checkArgument(targetBatchLatencyMilliseconds >= 0L, "targetBatchLatencyMilliseconds can not be negative.");
+            Preconditions.checkArgument(0L == targetBatchLatencyMilliseconds || maxBatchSize > 0, "maxBatchSize should be positive when targetBatchLatencyMilliseconds is configured.");
+            return new DataflowJobConfiguration(coreConfig, streamingProcess, prefetchDepth, processSubBatchSize, processSubBatchOrdered, targetBatchLatencyMilliseconds, maxBatchSize);
+        }
+    }
 }
@@ -17,26 +17,43 @@
 
 package org.apache.shardingsphere.elasticjob.lite.executor;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.shardingsphere.elasticjob.lite.api.ElasticJob;
 import org.apache.shardingsphere.elasticjob.lite.api.ShardingContext;
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.JobRootConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.lite.tracing.event.JobExecutionEvent.ExecutionSource;
 import org.apache.shardingsphere.elasticjob.lite.tracing.event.JobStatusTraceEvent.State;
 import org.apache.shardingsphere.elasticjob.lite.exception.ExceptionUtils;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobExecutionEnvironmentException;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.handler.error.JobErrorHandler;
 import org.apache.shardingsphere.elasticjob.lite.handler.error.JobErrorHandlerFactory;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.ConfigurableJobExecutorServiceHandler;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.JobExecutorServiceHandler;
 import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.JobExecutorServiceHandlerFactory;
 import org.apache.shardingsphere.elasticjob.lite.executor.type.JobItemExecutor;
 import org.apache.shardingsphere.elasticjob.lite.util.env.IpUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ElasticJob executor.
@@ -44,6 +61,8 @@ import java.util.concurrent.ExecutorService;
 @Slf4j
 public final class ElasticJobExecutor {
     
+    private static final ScheduledExecutorService ITEM_TIMEOUT_SCHEDULER = createItemTimeoutScheduler();
+    
     private final ElasticJob elasticJob;
     
     private final JobFacade jobFacade;
@@ -60,21 +79,58 @@ public final class ElasticJobExecutor {
     
     private final JobItemExecutor jobItemExecutor;
     
+    private final boolean workStealing;
+    
+    private final long itemTimeoutMilliseconds;
+    
     public ElasticJobExecutor(final ElasticJob elasticJob, final JobFacade jobFacade, final JobItemExecutor jobItemExecutor) {
         this.elasticJob = elasticJob;
         this.jobFacade = jobFacade;
         jobRootConfig = jobFacade.loadJobRootConfiguration(true);
         jobName = jobRootConfig.getTypeConfig().getCoreConfig().getJobName();
-        executorService = JobExecutorServiceHandlerFactory.getHandler(jobRootConfig.getTypeConfig().getCoreConfig().getJobExecutorServiceHandlerType()).createExecutorService(jobName);
+        executorService = createExecutorService(jobRootConfig.getTypeConfig().getCoreConfig());
         jobErrorHandler = JobErrorHandlerFactory.getHandler(jobRootConfig.getTypeConfig().getCoreConfig().getJobErrorHandlerType());
         itemErrorMessages = new ConcurrentHashMap<>(jobRootConfig.getTypeConfig().getCoreConfig().getShardingTotalCount(), 1);
         this.jobItemExecutor = jobItemExecutor;
+        workStealing = jobRootConfig.getTypeConfig().getCoreConfig().isWorkStealing();
+        itemTimeoutMilliseconds = jobRootConfig.getTypeConfig().getCoreConfig().getItemTimeoutMilliseconds();
+    }
+    
+    private static ScheduledExecutorService createItemTimeoutScheduler() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().namingPattern("elastic-job-item-timeout-%d").daemon(true).build());
+        result.setRemoveOnCancelPolicy(true);
+        return result;
     }
     
     /**
-     * Execute job.
+     * Execute job and wait for completion.
      */
     public void execute() {
+        try {
+            executeAsync().join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new JobSystemException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Execute job without waiting for completion.
+     * 
+     * <p>
+     * Multiple sharding items are executed in executor service, and completion registration, misfire, work stealing, failover and job listeners 
+     * are composed as continuations of sharding items, so the calling thread returns as soon as sharding items are submitted.
+     * Job is regarded as running from the misfire check until job listeners completed, failover is checked after that for crashed sharding items.
+     * </p>
+     * 
+     * @return future of job execution
+     */
+    public CompletableFuture<Void> executeAsync() {
         try {
             jobFacade.checkJobExecutionEnvironment();
         } catch (final JobExecutionEnvironmentException cause) {
@@ -86,7 +142,7 @@ public final class ElasticJobExecutor {
             jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format(
                     "Previous job '%s' - shardingItems '%s' is still running, misfired job will start after previous job completed.", jobName,
                     shardingContexts.getShardingItemParameters().keySet()));
-            return;
+            return CompletableFuture.completedFuture(null);
         }
         try {
             jobFacade.beforeJobExecuted(shardingContexts);
@@ -95,88 +151,231 @@ public final class ElasticJobExecutor {
             //CHECKSTYLE:ON
             jobErrorHandler.handleException(jobName, cause);
         }
-        execute(shardingContexts, ExecutionSource.NORMAL_TRIGGER);
-        while (jobFacade.isExecuteMisfired(shardingContexts.getShardingItemParameters().keySet())) {
-            jobFacade.clearMisfire(shardingContexts.getShardingItemParameters().keySet());
-            execute(shardingContexts, ExecutionSource.MISFIRE);
+        // Running flag is cleared only after the whole fire completed, so that next fire is misfired until then
+        return CompletableFuture.completedFuture(null)
+                .thenCompose(ignored -> executeShardingItems(shardingContexts, ExecutionSource.NORMAL_TRIGGER))
+                .thenCompose(ignored -> executeMisfired(shardingContexts))
+                .thenCompose(ignored -> stealIfNecessary())
+                .thenRun(() -> {
+                    try {
+                        jobFacade.afterJobExecuted(shardingContexts);
+                        //CHECKSTYLE:OFF
+                    } catch (final Throwable cause) {
+                        //CHECKSTYLE:ON
+                        jobErrorHandler.handleException(jobName, cause);
+                    }
+                })
+                .whenComplete((result, cause) -> jobFacade.clearRunningFlag())
+                .thenRun(jobFacade::failoverIfNecessary);
+    }
+    
+    private CompletableFuture<Void> executeMisfired(final ShardingContexts shardingContexts) {
+        if (!jobFacade.isExecuteMisfired(shardingContexts.getShardingItemParameters().keySet())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        jobFacade.clearMisfire(shardingContexts.getShardingItemParameters().keySet());
+        return executeShardingItems(shardingContexts, ExecutionSource.MISFIRE).thenCompose(ignored -> executeMisfired(shardingContexts));
+    }
+    
+    private CompletableFuture<Void> stealIfNecessary() {
+        if (!workStealing) {
+            return CompletableFuture.completedFuture(null);
         }
-        jobFacade.failoverIfNecessary();
-        try {
-            jobFacade.afterJobExecuted(shardingContexts);
-            //CHECKSTYLE:OFF
-        } catch (final Throwable cause) {
-            //CHECKSTYLE:ON
-            jobErrorHandler.handleException(jobName, cause);
+        ShardingContexts stolenShardingContexts = jobFacade.getStolenShardingContexts();
+        if (stolenShardingContexts.getShardingItemParameters().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return executeShardingItems(stolenShardingContexts, ExecutionSource.WORK_STEALING).thenCompose(ignored -> stealIfNecessary());
     }
     
-    private void execute(final ShardingContexts shardingContexts, final ExecutionSource executionSource) {
+    private CompletableFuture<Void> executeShardingItems(final ShardingContexts shardingContexts, final ExecutionSource executionSource) {
         if (shardingContexts.getShardingItemParameters().isEmpty()) {
             jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format("Sharding item for job '%s' is empty.", jobName));
-            return;
+            return CompletableFuture.completedFuture(null);
         }
         jobFacade.registerJobBegin(shardingContexts);
+        if (isStealable(executionSource)) {
+            jobFacade.registerStealableItems(shardingContexts);
+        }
         String taskId = shardingContexts.getTaskId();
         jobFacade.postJobStatusTraceEvent(taskId, State.TASK_RUNNING, "");
-        try {
-            process(shardingContexts, executionSource);
-        } finally {
+        Map<Integer, Long> itemDurations = new ConcurrentHashMap<>(shardingContexts.getShardingItemParameters().size(), 1);
+        Set<Integer> stolenItems = ConcurrentHashMap.newKeySet();
+        return process(shardingContexts, executionSource, itemDurations, stolenItems).whenComplete((result, cause) -> {
             // TODO Consider increasing the status of job failure, and how to handle the overall loop of job failure
-            jobFacade.registerJobCompleted(shardingContexts);
+            jobFacade.registerJobCompleted(excludeStolenItems(shardingContexts, stolenItems));
             if (itemErrorMessages.isEmpty()) {
                 jobFacade.postJobStatusTraceEvent(taskId, State.TASK_FINISHED, "");
             } else {
                 jobFacade.postJobStatusTraceEvent(taskId, State.TASK_ERROR, itemErrorMessages.toString());
             }
+            // Execution durations only serve next sharding, so they are registered after the fire is reported
+            jobFacade.registerExecutionDurations(itemDurations);
+        });
+    }
+    
+    private boolean isStealable(final ExecutionSource executionSource) {
+        return workStealing && (ExecutionSource.NORMAL_TRIGGER == executionSource || ExecutionSource.MISFIRE == executionSource);
+    }
+    
+    private ShardingContexts excludeStolenItems(final ShardingContexts shardingContexts, final Set<Integer> stolenItems) {
+        if (stolenItems.isEmpty()) {
+            return shardingContexts;
         }
+        Map<Integer, String> shardingItemParameters = new LinkedHashMap<>(shardingContexts.getShardingItemParameters());
+        shardingItemParameters.keySet().removeAll(stolenItems);
+        return new ShardingContexts(shardingContexts.getTaskId(), shardingContexts.getJobName(), shardingContexts.getShardingTotalCount(), shardingContexts.getJobParameter(), shardingItemParameters);
     }
     
-    private void process(final ShardingContexts shardingContexts, final ExecutionSource executionSource) {
+    private CompletableFuture<Void> process(final ShardingContexts shardingContexts, final ExecutionSource executionSource, final Map<Integer, Long> itemDurations, final Set<Integer> stolenItems) {
         Collection<Integer> items = shardingContexts.getShardingItemParameters().keySet();
-        if (1 == items.size()) {
+        if (1 == items.size() && 0 == itemTimeoutMilliseconds) {
             int item = shardingContexts.getShardingItemParameters().keySet().iterator().next();
-            JobExecutionEvent jobExecutionEvent = new JobExecutionEvent(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobName, executionSource, item);
-            process(shardingContexts, item, jobExecutionEvent);
-            return;
+            ShardingItemTimeout itemTimeout = new ShardingItemTimeout(item, new JobExecutionEvent(
+                    IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobName, executionSource, item), itemDurations);
+            // Single sharding item is processed in calling thread, and exception of job error handler completes the future exceptionally
+            return CompletableFuture.runAsync(() -> process(shardingContexts, itemTimeout, stolenItems), Runnable::run);
         }
-        final CountDownLatch latch = new CountDownLatch(items.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(items.size());
         for (final int each : items) {
             JobExecutionEvent jobExecutionEvent = new JobExecutionEvent(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobName, executionSource, each);
             if (executorService.isShutdown()) {
-                return;
+                break;
+            }
+            ShardingItemTimeout itemTimeout = new ShardingItemTimeout(each, jobExecutionEvent, itemDurations);
+            try {
+                // Exception of job error handler in executor service only fails its own sharding item
+                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> process(shardingContexts, itemTimeout, stolenItems), executorService).exceptionally(cause -> null);
+                // Timeout sharding item is left running in its thread, and does not hold the fire any longer
+                futures.add(0 == itemTimeoutMilliseconds ? future : future.acceptEither(itemTimeout.getTimeoutFuture(), ignored -> { }));
+            } catch (final RejectedExecutionException ex) {
+                log.warn("Job '{}' item '{}' is rejected by executor service.", jobName, each);
+                jobFacade.postJobExecutionEvent(jobExecutionEvent.executionFailure(ExceptionUtils.transform(ex)));
+                itemErrorMessages.put(each, ExceptionUtils.transform(ex));
             }
-            executorService.submit(() -> {
-                try {
-                    process(shardingContexts, each, jobExecutionEvent);
-                } finally {
-                    latch.countDown();
-                }
-            });
-        }
-        try {
-            latch.await();
-        } catch (final InterruptedException ex) {
-            Thread.currentThread().interrupt();
         }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
     
     @SuppressWarnings("unchecked")
-    private void process(final ShardingContexts shardingContexts, final int item, final JobExecutionEvent startEvent) {
+    private void process(final ShardingContexts shardingContexts, final ShardingItemTimeout itemTimeout, final Set<Integer> stolenItems) {
+        int item = itemTimeout.getItem();
+        JobExecutionEvent startEvent = itemTimeout.getStartEvent();
+        if (isStealable(startEvent.getSource()) && !jobFacade.claimShardingItem(item)) {
+            log.trace("Job '{}' item '{}' is stolen by other job instance.", jobName, item);
+            stolenItems.add(item);
+            return;
+        }
         jobFacade.postJobExecutionEvent(startEvent);
         log.trace("Job '{}' executing, item is: '{}'.", jobName, item);
         JobExecutionEvent completeEvent;
+        long startTime = System.nanoTime();
+        itemTimeout.start();
         try {
-            jobItemExecutor.process(elasticJob, jobRootConfig, jobFacade, new ShardingContext(shardingContexts, item));
+            jobItemExecutor.process(elasticJob, jobRootConfig, jobFacade, new ShardingContext(shardingContexts, item), executorService);
+            if (!itemTimeout.finish()) {
+                return;
+            }
             completeEvent = startEvent.executionSuccess();
             log.trace("Job '{}' executed, item is: '{}'.", jobName, item);
             jobFacade.postJobExecutionEvent(completeEvent);
+            itemTimeout.recordDuration(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
             // CHECKSTYLE:OFF
         } catch (final Throwable cause) {
             // CHECKSTYLE:ON
+            if (!itemTimeout.finish()) {
+                return;
+            }
+            itemTimeout.recordDuration(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
             completeEvent = startEvent.executionFailure(ExceptionUtils.transform(cause));
             jobFacade.postJobExecutionEvent(completeEvent);
             itemErrorMessages.put(item, ExceptionUtils.transform(cause));
             jobErrorHandler.handleException(jobName, cause);
         }
     }
+    
+    private ExecutorService createExecutorService(final JobCoreConfiguration coreConfig) {
+        JobExecutorServiceHandler jobExecutorServiceHandler = JobExecutorServiceHandlerFactory.getHandler(coreConfig.getJobExecutorServiceHandlerType());
+        return jobExecutorServiceHandler instanceof ConfigurableJobExecutorServiceHandler
+                ? ((ConfigurableJobExecutorServiceHandler) jobExecutorServiceHandler).createExecutorService(coreConfig) : jobExecutorServiceHandler.createExecutorService(jobName);
+    }
+    
+    /**
+     * Timeout of sharding item.
+     * 
+     * <p>
+     * Result of sharding item is ignored if timeout happens before sharding item finishes.
+     * Thread of timeout sharding item is interrupted, and its interrupt status is cleared when it finishes, so that it does not leak to next task of thread.
+     * Running node of timeout sharding item is released in registry center when the fire completes,
+     * so next fire of current job instance is misfired by local registry until sharding item finishes.
+     * </p>
+     */
+    @RequiredArgsConstructor
+    private final class ShardingItemTimeout {
+        
+        @Getter
+        private final int item;
+        
+        @Getter
+        private final JobExecutionEvent startEvent;
+        
+        private final Map<Integer, Long> itemDurations;
+        
+        @Getter
+        private final CompletableFuture<Void> timeoutFuture = new CompletableFuture<>();
+        
+        private Thread thread;
+        
+        private ScheduledFuture<?> scheduledFuture;
+        
+        private boolean finished;
+        
+        private boolean timedOut;
+        
+        private synchronized void start() {
+            if (itemTimeoutMilliseconds > 0) {
+                thread = Thread.currentThread();
+                scheduledFuture = ITEM_TIMEOUT_SCHEDULER.schedule(this::timeout, itemTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+            }
+        }
+        
+        private synchronized boolean finish() {
+            if (finished) {
+                return !timedOut;
+            }
+            finished = true;
+            if (null != scheduledFuture) {
+                scheduledFuture.cancel(false);
+            }
+            thread = null;
+            if (timedOut) {
+                Thread.interrupted();
+                jobFacade.registerTimeoutItemFinished(item);
+                log.debug("Job '{}' item '{}' finished after timeout.", jobName, item);
+            }
+            return !timedOut;
+        }
+        
+        private void recordDuration(final long duration) {
+            itemDurations.put(item, duration);
+        }
+        
+        private void timeout() {
+            // Timeout is reported before interrupting, so that sharding item can not complete the fire before its timeout is reported
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                timedOut = true;
+                jobFacade.registerTimeoutItemRunning(item);
+                String errorMessage = String.format("Job '%s' item '%s' execution timeout after %s milliseconds.", jobName, item, itemTimeoutMilliseconds);
+                log.warn(errorMessage);
+                jobFacade.postJobExecutionEvent(startEvent.executionFailure(errorMessage));
+                itemErrorMessages.put(item, errorMessage);
+                recordDuration(itemTimeoutMilliseconds);
+                thread.interrupt();
+            }
+            timeoutFuture.complete(null);
+        }
+    }
 }
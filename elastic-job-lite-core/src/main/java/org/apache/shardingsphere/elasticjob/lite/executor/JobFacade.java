@@ -23,6 +23,7 @@ import org.apache.shardingsphere.elasticjob.lite.tracing.event.JobStatusTraceEve
 import org.apache.shardingsphere.elasticjob.lite.exception.JobExecutionEnvironmentException;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Job facade.
@@ -63,6 +64,74 @@ public interface JobFacade {
      */
     void registerJobCompleted(ShardingContexts shardingContexts);
     
+    /**
+     * Clear running flag after all executions of the fire completed.
+     * 
+     * <p>Executions of misfired and stolen sharding items, and job listeners, are included in the fire.</p>
+     */
+    void clearRunningFlag();
+    
+    /**
+     * Register sharding item still running after timeout.
+     * 
+     * <p>Running node of sharding item is released when the fire completes, sharding item is misfired locally until it finishes.</p>
+     * 
+     * @param item sharding item
+     */
+    void registerTimeoutItemRunning(int item);
+    
+    /**
+     * Register sharding item finished after timeout.
+     * 
+     * @param item sharding item
+     */
+    void registerTimeoutItemFinished(int item);
+    
+    /**
+     * Register execution durations of sharding items.
+     *
+     * @param itemDurations execution durations in milliseconds, key is sharding item
+     */
+    void registerExecutionDurations(Map<Integer, Long> itemDurations);
+    
+    /**
+     * Get suggested batch size of sharding item.
+     *
+     * @param item sharding item
+     * @return suggested batch size, null if not registered yet
+     */
+    Integer getSuggestedBatchSize(int item);
+    
+    /**
+     * Register suggested batch size of sharding item.
+     *
+     * @param item sharding item
+     * @param suggestedBatchSize suggested batch size
+     */
+    void registerSuggestedBatchSize(int item, int suggestedBatchSize);
+    
+    /**
+     * Register sharding items as stealable if work stealing enabled.
+     *
+     * @param shardingContexts sharding contexts
+     */
+    void registerStealableItems(ShardingContexts shardingContexts);
+    
+    /**
+     * Claim sharding item before executing it.
+     *
+     * @param item sharding item
+     * @return claimed or not, false means sharding item is stolen by other job instance
+     */
+    boolean claimShardingItem(int item);
+    
+    /**
+     * Get sharding contexts of sharding items stolen from other job instances.
+     *
+     * @return sharding contexts, empty if nothing stolen
+     */
+    ShardingContexts getStolenShardingContexts();
+    
     /**
      * Get sharding contexts.
      *
@@ -72,6 +141,8 @@ public interface JobFacade {
     
     /**
      * Set task misfire flag.
+     * 
+     * <p>Job is set to running if not misfired, until running flag is cleared.</p>
      *
      * @param shardingItems sharding items to be set misfire flag
      * @return whether satisfy misfire condition
@@ -99,7 +170,8 @@ public interface JobFacade {
      * <p>The ineligible job includes:
      * 1. Need to shutdown;
      * 2. Need to resharding;
-     * 3. Not stream job.
+     * 3. Local server disabled;
+     * 4. Not stream job.
      * 
      * @return job is eligible running or not
      */
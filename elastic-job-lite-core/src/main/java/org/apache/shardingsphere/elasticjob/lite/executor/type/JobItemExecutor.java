@@ -22,6 +22,8 @@ import org.apache.shardingsphere.elasticjob.lite.api.ShardingContext;
 import org.apache.shardingsphere.elasticjob.lite.config.JobRootConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.executor.JobFacade;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Job item executor.
  * 
@@ -36,6 +38,7 @@ public interface JobItemExecutor<T extends ElasticJob> {
      * @param jobRootConfig job root configuration
      * @param jobFacade job facade
      * @param shardingContext sharding context
+     * @param executorService executor service of job
      */
-    void process(T elasticJob, JobRootConfiguration jobRootConfig, JobFacade jobFacade, ShardingContext shardingContext);
+    void process(T elasticJob, JobRootConfiguration jobRootConfig, JobFacade jobFacade, ShardingContext shardingContext, ExecutorService executorService);
 }
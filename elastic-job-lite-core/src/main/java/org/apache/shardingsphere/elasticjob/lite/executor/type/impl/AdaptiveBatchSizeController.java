@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.executor.type.impl;
+
+/**
+ * Adaptive batch size controller.
+ * 
+ * <p>
+ * Batch size is adjusted by additive increase and multiplicative decrease toward target batch latency.
+ * Batch size is halved if processing latency exceeds target, and increased by one twentieth of max batch size if batch is full and processing latency meets target.
+ * </p>
+ */
+final class AdaptiveBatchSizeController {
+    
+    private static final int INITIAL_DIVISOR = 4;
+    
+    private static final int INCREASE_DIVISOR = 20;
+    
+    private final long targetLatencyMilliseconds;
+    
+    private final int maxBatchSize;
+    
+    private volatile int batchSize;
+    
+    AdaptiveBatchSizeController(final long targetLatencyMilliseconds, final int maxBatchSize, final Integer initialBatchSize) {
+        this.targetLatencyMilliseconds = targetLatencyMilliseconds;
+        this.maxBatchSize = maxBatchSize;
+        batchSize = null == initialBatchSize || initialBatchSize <= 0 ? Math.max(1, maxBatchSize / INITIAL_DIVISOR) : Math.min(initialBatchSize, maxBatchSize);
+    }
+    
+    /**
+     * Get suggested batch size.
+     * 
+     * @return suggested batch size
+     */
+    int getBatchSize() {
+        return batchSize;
+    }
+    
+    /**
+     * Adjust batch size after batch processed.
+     * 
+     * @param dataSize size of processed data
+     * @param latencyMilliseconds processing latency in milliseconds
+     */
+    synchronized void onBatchProcessed(final int dataSize, final long latencyMilliseconds) {
+        if (latencyMilliseconds > targetLatencyMilliseconds) {
+            batchSize = Math.max(1, batchSize / 2);
+        } else if (dataSize >= batchSize) {
+            batchSize = Math.min(maxBatchSize, batchSize + Math.max(1, maxBatchSize / INCREASE_DIVISOR));
+        }
+    }
+}
@@ -17,55 +17,290 @@
 
 package org.apache.shardingsphere.elasticjob.lite.executor.type.impl;
 
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.shardingsphere.elasticjob.lite.api.ShardingContext;
 import org.apache.shardingsphere.elasticjob.lite.api.dataflow.DataflowJob;
 import org.apache.shardingsphere.elasticjob.lite.config.JobRootConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.executor.JobFacade;
 import org.apache.shardingsphere.elasticjob.lite.executor.type.JobItemExecutor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Dataflow job executor.
  */
 public final class DataflowJobExecutor implements JobItemExecutor<DataflowJob> {
     
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(
+            new BasicThreadFactory.Builder().namingPattern("elastic-job-dataflow-prefetch-%d").daemon(true).build());
+    
     @Override
-    public void process(final DataflowJob elasticJob, final JobRootConfiguration jobRootConfig, final JobFacade jobFacade, final ShardingContext shardingContext) {
+    public void process(final DataflowJob elasticJob, final JobRootConfiguration jobRootConfig, final JobFacade jobFacade, final ShardingContext shardingContext,
+                        final ExecutorService executorService) {
         DataflowJobConfiguration dataflowConfig = (DataflowJobConfiguration) jobRootConfig.getTypeConfig();
-        if (dataflowConfig.isStreamingProcess()) {
-            streamingExecute(elasticJob, jobFacade, shardingContext);
-        } else {
-            oneOffExecute(elasticJob, shardingContext);
+        AdaptiveBatchSizeController batchSizeController = dataflowConfig.getTargetBatchLatencyMilliseconds() > 0L
+                ? new AdaptiveBatchSizeController(dataflowConfig.getTargetBatchLatencyMilliseconds(), dataflowConfig.getMaxBatchSize(),
+                jobFacade.getSuggestedBatchSize(shardingContext.getShardingItem())) : null;
+        DataProcessor dataProcessor = new DataProcessor(elasticJob, shardingContext, dataflowConfig, executorService, batchSizeController);
+        try {
+            if (dataflowConfig.isStreamingProcess() && dataflowConfig.getPrefetchDepth() > 0) {
+                pipelinedStreamingExecute(elasticJob, jobFacade, shardingContext, dataflowConfig.getPrefetchDepth(), dataProcessor);
+            } else if (dataflowConfig.isStreamingProcess()) {
+                streamingExecute(elasticJob, jobFacade, shardingContext, dataProcessor);
+            } else {
+                oneOffExecute(elasticJob, shardingContext, dataProcessor);
+            }
+        } finally {
+            if (null != batchSizeController) {
+                jobFacade.registerSuggestedBatchSize(shardingContext.getShardingItem(), batchSizeController.getBatchSize());
+            }
         }
     }
     
-    private void streamingExecute(final DataflowJob elasticJob, final JobFacade jobFacade, final ShardingContext shardingContext) {
-        List<Object> data = fetchData(elasticJob, shardingContext);
+    private void streamingExecute(final DataflowJob elasticJob, final JobFacade jobFacade, final ShardingContext shardingContext, final DataProcessor dataProcessor) {
+        List<Object> data = fetchData(elasticJob, shardingContext, dataProcessor);
         while (null != data && !data.isEmpty()) {
-            processData(elasticJob, shardingContext, data);
-            if (!jobFacade.isEligibleForJobRunning()) {
+            dataProcessor.process(data);
+            if (Thread.currentThread().isInterrupted() || !jobFacade.isEligibleForJobRunning()) {
                 break;
             }
-            data = fetchData(elasticJob, shardingContext);
+            data = fetchData(elasticJob, shardingContext, dataProcessor);
+        }
+    }
+    
+    /**
+     * Streaming execute with fetch data and process data overlapped.
+     * 
+     * <p>
+     * Data is fetched in prefetch thread into a bounded queue, and processed in calling thread.
+     * Prefetch thread blocks when queue is full, so at most prefetch depth batches are fetched but not processed.
+     * Batches fetched but not processed are discarded when processing fails or job is not eligible for running any longer.
+     * </p>
+     */
+    private void pipelinedStreamingExecute(final DataflowJob elasticJob, final JobFacade jobFacade, final ShardingContext shardingContext,
+                                           final int prefetchDepth, final DataProcessor dataProcessor) {
+        BlockingQueue<FetchResult> fetchResults = new ArrayBlockingQueue<>(prefetchDepth);
+        Future<?> prefetchFuture = PREFETCH_EXECUTOR.submit(() -> prefetch(elasticJob, shardingContext, dataProcessor, fetchResults));
+        try {
+            while (true) {
+                FetchResult fetchResult = fetchResults.take();
+                if (null != fetchResult.cause) {
+                    throw toRuntimeException(fetchResult.cause);
+                }
+                if (null == fetchResult.data || fetchResult.data.isEmpty()) {
+                    return;
+                }
+                dataProcessor.process(fetchResult.data);
+                if (!jobFacade.isEligibleForJobRunning()) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            prefetchFuture.cancel(true);
+        }
+    }
+    
+    private void prefetch(final DataflowJob elasticJob, final ShardingContext shardingContext, final DataProcessor dataProcessor, final BlockingQueue<FetchResult> fetchResults) {
+        try {
+            List<Object> data;
+            do {
+                data = fetchData(elasticJob, shardingContext, dataProcessor);
+                fetchResults.put(new FetchResult(data, null));
+            } while (null != data && !data.isEmpty());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            // CHECKSTYLE:OFF
+        } catch (final Throwable cause) {
+            // CHECKSTYLE:ON
+            try {
+                fetchResults.put(new FetchResult(null, cause));
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private RuntimeException toRuntimeException(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
         }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new JobSystemException(cause);
     }
     
-    private void oneOffExecute(final DataflowJob elasticJob, final ShardingContext shardingContext) {
-        List<Object> data = fetchData(elasticJob, shardingContext);
+    private void oneOffExecute(final DataflowJob elasticJob, final ShardingContext shardingContext, final DataProcessor dataProcessor) {
+        List<Object> data = fetchData(elasticJob, shardingContext, dataProcessor);
         if (null != data && !data.isEmpty()) {
-            processData(elasticJob, shardingContext, data);
+            dataProcessor.process(data);
         }
     }
     
     @SuppressWarnings("unchecked")
-    private List<Object> fetchData(final DataflowJob elasticJob, final ShardingContext shardingContext) {
-        return elasticJob.fetchData(shardingContext);
+    private List<Object> fetchData(final DataflowJob elasticJob, final ShardingContext shardingContext, final DataProcessor dataProcessor) {
+        AdaptiveBatchSizeController batchSizeController = dataProcessor.batchSizeController;
+        return elasticJob.fetchData(null == batchSizeController ? shardingContext : new ShardingContext(shardingContext, batchSizeController.getBatchSize()));
     }
     
     @SuppressWarnings("unchecked")
     private void processData(final DataflowJob elasticJob, final ShardingContext shardingContext, final List<Object> data) {
         elasticJob.processData(shardingContext, data);
     }
+    
+    /**
+     * Data processor.
+     * 
+     * <p>
+     * Data is split into sub-batches if process sub-batch size is configured, and sub-batches are processed concurrently in executor service of job.
+     * Calling thread runs sub-batches which are not started by executor service yet, so that sub-batches are never starved by sharding items which wait for them.
+     * Data processor returns only after all started sub-batches finish, and sub-batches not started yet are skipped after failure.
+     * For ordered sub-batches, failure of the first failed sub-batch in data order is thrown and skips sub-batches after it when it is observed.
+     * For unordered sub-batches, failure of the first failed sub-batch in completion order is thrown and skips all sub-batches not started yet immediately.
+     * If calling thread is interrupted while waiting for sub-batches, data processor returns at once with interrupt status kept,
+     * and sub-batches not started yet are skipped.
+     * Processing latency of each batch is fed to batch size controller if adaptive batch size is configured.
+     * </p>
+     */
+    @RequiredArgsConstructor
+    private final class DataProcessor {
+        
+        private final DataflowJob elasticJob;
+        
+        private final ShardingContext shardingContext;
+        
+        private final DataflowJobConfiguration dataflowConfig;
+        
+        private final ExecutorService executorService;
+        
+        private final AdaptiveBatchSizeController batchSizeController;
+        
+        private void process(final List<Object> data) {
+            if (null == batchSizeController) {
+                processBatch(data);
+                return;
+            }
+            long startNanoTime = System.nanoTime();
+            try {
+                processBatch(data);
+            } finally {
+                batchSizeController.onBatchProcessed(data.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanoTime));
+            }
+        }
+        
+        private void processBatch(final List<Object> data) {
+            int subBatchSize = dataflowConfig.getProcessSubBatchSize();
+            if (0 == subBatchSize || data.size() <= subBatchSize) {
+                processData(elasticJob, shardingContext, data);
+                return;
+            }
+            AtomicBoolean aborted = new AtomicBoolean();
+            AtomicReference<Throwable> firstCompletedFailure = new AtomicReference<>();
+            List<SubBatch> subBatches = new ArrayList<>();
+            for (List<Object> each : Lists.partition(data, subBatchSize)) {
+                subBatches.add(new SubBatch(each, aborted, dataflowConfig.isProcessSubBatchOrdered() ? null : firstCompletedFailure));
+            }
+            for (SubBatch each : subBatches.subList(1, subBatches.size())) {
+                try {
+                    executorService.execute(each);
+                } catch (final RejectedExecutionException ignored) {
+                    // Rejected sub-batch is run in calling thread
+                }
+            }
+            Throwable failure = null;
+            for (SubBatch each : subBatches) {
+                each.run();
+                Throwable cause;
+                try {
+                    cause = each.awaitFailure();
+                } catch (final InterruptedException ex) {
+                    aborted.set(true);
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (null != cause && null == failure) {
+                    aborted.set(true);
+                    failure = cause;
+                }
+            }
+            if (null != firstCompletedFailure.get()) {
+                failure = firstCompletedFailure.get();
+            }
+            if (null != failure) {
+                throw toRuntimeException(failure);
+            }
+        }
+        
+        @RequiredArgsConstructor
+        private final class SubBatch implements Runnable {
+            
+            private final CompletableFuture<Void> future = new CompletableFuture<>();
+            
+            private final AtomicBoolean started = new AtomicBoolean();
+            
+            private final List<Object> data;
+            
+            private final AtomicBoolean aborted;
+            
+            private final AtomicReference<Throwable> firstCompletedFailure;
+            
+            @Override
+            public void run() {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                if (aborted.get()) {
+                    future.complete(null);
+                    return;
+                }
+                try {
+                    processData(elasticJob, shardingContext, data);
+                    future.complete(null);
+                    // CHECKSTYLE:OFF
+                } catch (final Throwable cause) {
+                    // CHECKSTYLE:ON
+                    if (null != firstCompletedFailure) {
+                        firstCompletedFailure.compareAndSet(null, cause);
+                        aborted.set(true);
+                    }
+                    future.completeExceptionally(cause);
+                }
+            }
+            
+            private Throwable awaitFailure() throws InterruptedException {
+                try {
+                    future.get();
+                    return null;
+                } catch (final ExecutionException ex) {
+                    return ex.getCause();
+                }
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FetchResult {
+        
+        private final List<Object> data;
+        
+        private final Throwable cause;
+    }
 }
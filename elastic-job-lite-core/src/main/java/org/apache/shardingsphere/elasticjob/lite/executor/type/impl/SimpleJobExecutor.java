@@ -23,13 +23,16 @@ import org.apache.shardingsphere.elasticjob.lite.config.JobRootConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.executor.JobFacade;
 import org.apache.shardingsphere.elasticjob.lite.executor.type.JobItemExecutor;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Simple job executor.
  */
 public final class SimpleJobExecutor implements JobItemExecutor<SimpleJob> {
     
     @Override
-    public void process(final SimpleJob elasticJob, final JobRootConfiguration jobRootConfig, final JobFacade jobFacade, final ShardingContext shardingContext) {
+    public void process(final SimpleJob elasticJob, final JobRootConfiguration jobRootConfig, final JobFacade jobFacade, final ShardingContext shardingContext,
+                        final ExecutorService executorService) {
         elasticJob.execute(shardingContext);
     }
 }
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.elasticjob.lite.handler.sharding;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.lite.util.env.IpUtils;
 
 import java.lang.management.ManagementFactory;
@@ -27,17 +26,33 @@ import java.lang.management.ManagementFactory;
 /**
  * Job instance.
  */
-@RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "jobInstanceId")
 public final class JobInstance {
     
     private static final String DELIMITER = "@-@";
     
+    private static final int DEFAULT_WEIGHT = 1;
+    
     private final String jobInstanceId;
     
+    private final int weight;
+    
     public JobInstance() {
-        jobInstanceId = IpUtils.getIp() + DELIMITER + ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+        this(DEFAULT_WEIGHT);
+    }
+    
+    public JobInstance(final int weight) {
+        this(IpUtils.getIp() + DELIMITER + ManagementFactory.getRuntimeMXBean().getName().split("@")[0], weight);
+    }
+    
+    public JobInstance(final String jobInstanceId) {
+        this(jobInstanceId, DEFAULT_WEIGHT);
+    }
+    
+    public JobInstance(final String jobInstanceId, final int weight) {
+        this.jobInstanceId = jobInstanceId;
+        this.weight = weight;
     }
     
     /**
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.IncrementalJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sharding strategy which for consistent hashing with virtual nodes.
+ * 
+ * <p>
+ * Each job instance is placed on a hash ring with virtual nodes in proportion to its weight, 
+ * and each sharding item is assigned to the first virtual node clockwise from the hash of job name and sharding item.
+ * When a job instance joins or leaves, only sharding items between it and its predecessors on the ring move,
+ * and only those moved sharding items are persisted.
+ * </p>
+ */
+public final class ConsistentHashJobShardingStrategy implements IncrementalJobShardingStrategy {
+    
+    private static final int VIRTUAL_NODES_PER_WEIGHT = 160;
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        for (JobInstance each : jobInstances) {
+            result.put(each, new ArrayList<>(shardingTotalCount / jobInstances.size() + 1));
+        }
+        NavigableMap<Long, JobInstance> ring = createRing(jobInstances);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            Entry<Long, JobInstance> entry = ring.ceilingEntry(hash(jobName + "#" + i));
+            result.get(null == entry ? ring.firstEntry().getValue() : entry.getValue()).add(i);
+        }
+        return result;
+    }
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount, final Map<Integer, String> currentShardingResult) {
+        return sharding(jobInstances, jobName, shardingTotalCount);
+    }
+    
+    private NavigableMap<Long, JobInstance> createRing(final List<JobInstance> jobInstances) {
+        NavigableMap<Long, JobInstance> result = new TreeMap<>();
+        for (JobInstance each : jobInstances) {
+            int virtualNodeCount = Math.max(each.getWeight(), 1) * VIRTUAL_NODES_PER_WEIGHT;
+            for (int i = 0; i < virtualNodeCount; i++) {
+                result.putIfAbsent(hash(each.getJobInstanceId() + "#" + i), each);
+            }
+        }
+        return result;
+    }
+    
+    private long hash(final String key) {
+        return HASH_FUNCTION.hashString(key, Charsets.UTF_8).asLong();
+    }
+    
+    @Override
+    public String getType() {
+        return "CONSISTENT_HASH";
+    }
+}
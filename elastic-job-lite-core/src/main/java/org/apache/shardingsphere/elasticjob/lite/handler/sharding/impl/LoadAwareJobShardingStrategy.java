@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.CostAwareJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Sharding strategy which for balancing execution cost of sharding items.
+ * 
+ * <p>
+ * Sharding items are sorted by average execution duration descending, and each one is assigned to the job instance with least cost per weight,
+ * to minimize execution duration of the slowest job instance.
+ * Sharding items never executed are considered to cost the average of executed ones.
+ * 
+ * For example:
+ * 
+ * If there are 2 job servers and costs of sharding items are 0=100, 1=10, 2=10, 3=80, each job server is divided into: 1=[0], 2=[1,2,3].
+ * </p>
+ */
+public final class LoadAwareJobShardingStrategy implements CostAwareJobShardingStrategy {
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        return sharding(jobInstances, jobName, shardingTotalCount, Collections.emptyMap());
+    }
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount, final Map<Integer, Long> shardingItemCosts) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        PriorityQueue<JobInstanceLoad> jobInstanceLoads = new PriorityQueue<>(jobInstances.size());
+        for (JobInstance each : jobInstances) {
+            List<Integer> shardingItems = new ArrayList<>(shardingTotalCount / jobInstances.size() + 1);
+            result.put(each, shardingItems);
+            jobInstanceLoads.add(new JobInstanceLoad(jobInstanceLoads.size(), Math.max(each.getWeight(), 1), shardingItems));
+        }
+        long[] costs = getCosts(shardingTotalCount, shardingItemCosts);
+        List<Integer> items = new ArrayList<>(shardingTotalCount);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            items.add(i);
+        }
+        items.sort(Comparator.comparingLong((Integer each) -> costs[each]).reversed());
+        for (int each : items) {
+            JobInstanceLoad jobInstanceLoad = jobInstanceLoads.poll();
+            jobInstanceLoad.shardingItems.add(each);
+            jobInstanceLoad.cost += costs[each];
+            jobInstanceLoads.add(jobInstanceLoad);
+        }
+        for (List<Integer> each : result.values()) {
+            Collections.sort(each);
+        }
+        return result;
+    }
+    
+    private long[] getCosts(final int shardingTotalCount, final Map<Integer, Long> shardingItemCosts) {
+        long[] result = new long[shardingTotalCount];
+        long totalCost = 0;
+        int executedCount = 0;
+        for (int i = 0; i < shardingTotalCount; i++) {
+            Long cost = shardingItemCosts.get(i);
+            if (null != cost) {
+                result[i] = Math.max(cost, 1L);
+                totalCost += result[i];
+                executedCount++;
+            }
+        }
+        long defaultCost = 0 == executedCount ? 1L : Math.max(totalCost / executedCount, 1L);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            if (!shardingItemCosts.containsKey(i)) {
+                result[i] = defaultCost;
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "LOAD_AWARE";
+    }
+    
+    private static final class JobInstanceLoad implements Comparable<JobInstanceLoad> {
+        
+        private final int index;
+        
+        private final int weight;
+        
+        private final List<Integer> shardingItems;
+        
+        private long cost;
+        
+        private JobInstanceLoad(final int index, final int weight, final List<Integer> shardingItems) {
+            this.index = index;
+            this.weight = weight;
+            this.shardingItems = shardingItems;
+        }
+        
+        @Override
+        public int compareTo(final JobInstanceLoad o) {
+            int result = Double.compare((double) cost / weight, (double) o.cost / o.weight);
+            return 0 == result ? Integer.compare(index, o.index) : result;
+        }
+    }
+}
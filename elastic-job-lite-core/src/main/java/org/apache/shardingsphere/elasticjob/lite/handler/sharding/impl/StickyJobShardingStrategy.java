@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.IncrementalJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Sharding strategy which keep sharding items on their current job instances as much as possible.
+ * 
+ * <p>
+ * Each job instance is given a quota of shardingTotalCount / instances, and the first shardingTotalCount % instances job instances
+ * which own most sharding items currently are given one more.
+ * Job instances keep their current sharding items within quota, 
+ * sharding items of departed job instances, unassigned sharding items and sharding items over quota are moved to job instances under quota.
+ * 
+ * For example:
+ * 
+ * 1. If there are 2 job servers with 1=[0,1,2], 2=[3,4,5], and job server 3 joins, each job server is divided into: 1=[0,1], 2=[3,4], 3=[2,5];
+ * 2. If there are 3 job servers with 1=[0,1], 2=[2,3], 3=[4,5], and job server 2 leaves, each job server is divided into: 1=[0,1,2], 3=[3,4,5].
+ * </p>
+ */
+public final class StickyJobShardingStrategy implements IncrementalJobShardingStrategy {
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        return sharding(jobInstances, jobName, shardingTotalCount, Collections.emptyMap());
+    }
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount, final Map<Integer, String> currentShardingResult) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<JobInstance, List<Integer>> result = keepCurrentShardingItems(jobInstances, shardingTotalCount, currentShardingResult);
+        Map<JobInstance, Integer> quotas = getQuotas(result, shardingTotalCount);
+        List<Integer> movingShardingItems = getMovingShardingItems(result, quotas, shardingTotalCount);
+        for (Entry<JobInstance, List<Integer>> entry : result.entrySet()) {
+            int quota = quotas.get(entry.getKey());
+            while (entry.getValue().size() < quota) {
+                entry.getValue().add(movingShardingItems.remove(0));
+            }
+            Collections.sort(entry.getValue());
+        }
+        return result;
+    }
+    
+    private Map<JobInstance, List<Integer>> keepCurrentShardingItems(final List<JobInstance> jobInstances, final int shardingTotalCount, final Map<Integer, String> currentShardingResult) {
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        Map<String, List<Integer>> shardingItemsByJobInstanceId = new HashMap<>(jobInstances.size(), 1);
+        for (JobInstance each : jobInstances) {
+            List<Integer> shardingItems = new ArrayList<>(shardingTotalCount / jobInstances.size() + 1);
+            result.put(each, shardingItems);
+            shardingItemsByJobInstanceId.put(each.getJobInstanceId(), shardingItems);
+        }
+        for (int i = 0; i < shardingTotalCount; i++) {
+            List<Integer> shardingItems = shardingItemsByJobInstanceId.get(currentShardingResult.get(i));
+            if (null != shardingItems) {
+                shardingItems.add(i);
+            }
+        }
+        return result;
+    }
+    
+    private Map<JobInstance, Integer> getQuotas(final Map<JobInstance, List<Integer>> shardingResults, final int shardingTotalCount) {
+        List<JobInstance> jobInstances = new ArrayList<>(shardingResults.keySet());
+        jobInstances.sort((o1, o2) -> Integer.compare(shardingResults.get(o2).size(), shardingResults.get(o1).size()));
+        Map<JobInstance, Integer> result = new HashMap<>(jobInstances.size(), 1);
+        int itemCountPerSharding = shardingTotalCount / jobInstances.size();
+        int aliquant = shardingTotalCount % jobInstances.size();
+        for (int i = 0; i < jobInstances.size(); i++) {
+            result.put(jobInstances.get(i), i < aliquant ? itemCountPerSharding + 1 : itemCountPerSharding);
+        }
+        return result;
+    }
+    
+    private List<Integer> getMovingShardingItems(final Map<JobInstance, List<Integer>> shardingResults, final Map<JobInstance, Integer> quotas, final int shardingTotalCount) {
+        boolean[] kept = new boolean[shardingTotalCount];
+        for (Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
+            List<Integer> shardingItems = entry.getValue();
+            int quota = quotas.get(entry.getKey());
+            while (shardingItems.size() > quota) {
+                shardingItems.remove(shardingItems.size() - 1);
+            }
+            for (int each : shardingItems) {
+                kept[each] = true;
+            }
+        }
+        List<Integer> result = new LinkedList<>();
+        for (int i = 0; i < shardingTotalCount; i++) {
+            if (!kept[i]) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "STICKY";
+    }
+}
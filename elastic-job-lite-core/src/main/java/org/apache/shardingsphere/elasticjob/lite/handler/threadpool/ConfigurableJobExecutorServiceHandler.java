@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.threadpool;
+
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Job executor service handler which creates executor service from job core configuration.
+ */
+public interface ConfigurableJobExecutorServiceHandler extends JobExecutorServiceHandler {
+    
+    /**
+     * Create executor service.
+     * 
+     * @param coreConfig job core configuration
+     * 
+     * @return executor service
+     */
+    ExecutorService createExecutorService(JobCoreConfiguration coreConfig);
+    
+    /**
+     * Release executor service used by job.
+     * 
+     * <p>
+     * Executor service is shut down when it is not used by any job.
+     * </p>
+     * 
+     * @param jobName job name
+     */
+    void releaseExecutorService(String jobName);
+}
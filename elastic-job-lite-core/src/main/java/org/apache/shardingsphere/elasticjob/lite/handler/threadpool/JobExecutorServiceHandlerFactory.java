@@ -57,4 +57,17 @@ public final class JobExecutorServiceHandlerFactory {
         }
         return HANDLERS.get(type);
     }
+    
+    /**
+     * Release executor services used by job.
+     *
+     * @param jobName job name
+     */
+    public static void releaseExecutorServices(final String jobName) {
+        for (JobExecutorServiceHandler each : HANDLERS.values()) {
+            if (each instanceof ConfigurableJobExecutorServiceHandler) {
+                ((ConfigurableJobExecutorServiceHandler) each).releaseExecutorService(jobName);
+            }
+        }
+    }
 }
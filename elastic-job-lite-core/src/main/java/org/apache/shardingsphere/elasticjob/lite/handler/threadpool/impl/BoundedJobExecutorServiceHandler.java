@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl;
+
+import com.google.common.base.Strings;
+import lombok.EqualsAndHashCode;
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.ConfigurableJobExecutorServiceHandler;
+import org.apache.shardingsphere.elasticjob.lite.util.concurrent.ElasticJobExecutorService;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Job executor service handler with bounded thread pool.
+ *
+ * <p>
+ * Core size, max size, queue capacity and rejection policy of thread pool are read from job core configuration.
+ * Jobs configured with same thread pool name share one thread pool, and the configuration of the first job creating it takes effect.
+ * When a job using the thread pool changes its configuration, the thread pool is resized in place,
+ * or rebuilt if the queue capacity is changed. The thread pool is shut down after all jobs using it are released.
+ * Jobs without thread pool name use thread pool of their own.
+ * </p>
+ */
+public final class BoundedJobExecutorServiceHandler implements ConfigurableJobExecutorServiceHandler {
+    
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    
+    private static final String CALLER_RUNS_POLICY = "CALLER_RUNS";
+    
+    private static final String ABORT_POLICY = "ABORT";
+    
+    private final Map<String, BoundedThreadPool> threadPools = new ConcurrentHashMap<>();
+    
+    @Override
+    public ExecutorService createExecutorService(final String jobName) {
+        return getExecutorService("inner-job-" + jobName, jobName, new ThreadPoolSettings(0, 0, 0, null));
+    }
+    
+    @Override
+    public ExecutorService createExecutorService(final JobCoreConfiguration coreConfig) {
+        String namingPattern = Strings.isNullOrEmpty(coreConfig.getThreadPoolName()) ? "inner-job-" + coreConfig.getJobName() : "inner-pool-" + coreConfig.getThreadPoolName();
+        return getExecutorService(namingPattern, coreConfig.getJobName(), new ThreadPoolSettings(coreConfig.getThreadPoolCoreSize(),
+                coreConfig.getThreadPoolMaxSize(), coreConfig.getThreadPoolQueueCapacity(), coreConfig.getThreadPoolRejectionPolicy()));
+    }
+    
+    private ExecutorService getExecutorService(final String namingPattern, final String jobName, final ThreadPoolSettings settings) {
+        return threadPools.compute(namingPattern, (key, threadPool) -> {
+            if (null == threadPool || threadPool.executorService.isShutdown()) {
+                BoundedThreadPool result = new BoundedThreadPool(key, settings);
+                result.jobSettings.put(jobName, settings);
+                return result;
+            }
+            ThreadPoolSettings previous = threadPool.jobSettings.get(jobName);
+            BoundedThreadPool result = threadPool;
+            if (null != previous && !previous.equals(settings) && !threadPool.settings.equals(settings)) {
+                if (threadPool.settings.queueCapacity == settings.queueCapacity) {
+                    threadPool.resize(settings);
+                } else {
+                    // Replaced thread pool is not shut down for the fires still submitting sharding items to it, its idle threads time out
+                    result = new BoundedThreadPool(key, settings);
+                    result.jobSettings.putAll(threadPool.jobSettings);
+                }
+            }
+            result.jobSettings.put(jobName, settings);
+            return result;
+        }).executorService;
+    }
+    
+    @Override
+    public void releaseExecutorService(final String jobName) {
+        for (String each : threadPools.keySet()) {
+            threadPools.computeIfPresent(each, (key, threadPool) -> {
+                if (null == threadPool.jobSettings.remove(jobName) || !threadPool.jobSettings.isEmpty()) {
+                    return threadPool;
+                }
+                threadPool.executorService.shutdown();
+                return null;
+            });
+        }
+    }
+    
+    private static RejectedExecutionHandler getRejectedExecutionHandler(final String rejectionPolicy) {
+        if (Strings.isNullOrEmpty(rejectionPolicy) || CALLER_RUNS_POLICY.equals(rejectionPolicy)) {
+            return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        if (ABORT_POLICY.equals(rejectionPolicy)) {
+            return new ThreadPoolExecutor.AbortPolicy();
+        }
+        throw new JobConfigurationException("Can not find thread pool rejection policy '%s'.", rejectionPolicy);
+    }
+    
+    @Override
+    public String getType() {
+        return "BOUNDED";
+    }
+    
+    @EqualsAndHashCode
+    private static final class ThreadPoolSettings {
+        
+        private final int coreSize;
+        
+        private final int maxSize;
+        
+        private final int queueCapacity;
+        
+        private final String rejectionPolicy;
+        
+        private ThreadPoolSettings(final int threadPoolCoreSize, final int threadPoolMaxSize, final int threadPoolQueueCapacity, final String threadPoolRejectionPolicy) {
+            coreSize = threadPoolCoreSize > 0 ? threadPoolCoreSize : Runtime.getRuntime().availableProcessors() * 2;
+            maxSize = Math.max(coreSize, threadPoolMaxSize);
+            queueCapacity = threadPoolQueueCapacity > 0 ? threadPoolQueueCapacity : DEFAULT_QUEUE_CAPACITY;
+            rejectionPolicy = Strings.isNullOrEmpty(threadPoolRejectionPolicy) ? CALLER_RUNS_POLICY : threadPoolRejectionPolicy;
+        }
+    }
+    
+    private static final class BoundedThreadPool {
+        
+        private final ElasticJobExecutorService elasticJobExecutorService;
+        
+        private final ExecutorService executorService;
+        
+        private final Map<String, ThreadPoolSettings> jobSettings = new HashMap<>();
+        
+        private ThreadPoolSettings settings;
+        
+        private BoundedThreadPool(final String namingPattern, final ThreadPoolSettings settings) {
+            elasticJobExecutorService = new ElasticJobExecutorService(namingPattern, settings.coreSize, settings.maxSize,
+                    new ArrayBlockingQueue<>(settings.queueCapacity), getRejectedExecutionHandler(settings.rejectionPolicy));
+            executorService = elasticJobExecutorService.createExecutorService();
+            this.settings = settings;
+        }
+        
+        private void resize(final ThreadPoolSettings settings) {
+            elasticJobExecutorService.resize(settings.coreSize, settings.maxSize, getRejectedExecutionHandler(settings.rejectionPolicy));
+            this.settings = settings;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.JobExecutorServiceHandler;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Job executor service handler with virtual thread per task.
+ *
+ * <p>
+ * Suit for I/O bound jobs which execute massive sharding items concurrently.
+ * Virtual thread is looked up reflectively, fall back to job executor service handler using CPU if JVM does not support virtual thread.
+ * </p>
+ */
+@Slf4j
+public final class VirtualThreadJobExecutorServiceHandler implements JobExecutorServiceHandler {
+    
+    private static final Method OF_VIRTUAL_METHOD;
+    
+    private static final Method NAME_METHOD;
+    
+    private static final Method FACTORY_METHOD;
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    
+    private static final boolean VIRTUAL_THREAD_SUPPORTED;
+    
+    private final JobExecutorServiceHandler fallbackHandler = new CPUUsageJobExecutorServiceHandler();
+    
+    static {
+        Method ofVirtualMethod = null;
+        Method nameMethod = null;
+        Method factoryMethod = null;
+        Method newThreadPerTaskExecutorMethod = null;
+        boolean virtualThreadSupported;
+        try {
+            Class<?> threadBuilderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            nameMethod = threadBuilderClass.getMethod("name", String.class, long.class);
+            factoryMethod = threadBuilderClass.getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // Virtual thread is preview feature before Java 21, ofVirtual throws exception if preview is not enabled
+            ofVirtualMethod.invoke(null);
+            virtualThreadSupported = true;
+        } catch (final ReflectiveOperationException ex) {
+            virtualThreadSupported = false;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        NAME_METHOD = nameMethod;
+        FACTORY_METHOD = factoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+        VIRTUAL_THREAD_SUPPORTED = virtualThreadSupported;
+        if (!virtualThreadSupported) {
+            log.info("Virtual thread is not supported by current JVM, job executor service handler 'VIRTUAL_THREAD' falls back to 'CPU'.");
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_SUPPORTED;
+    }
+    
+    @Override
+    public ExecutorService createExecutorService(final String jobName) {
+        if (!VIRTUAL_THREAD_SUPPORTED) {
+            return fallbackHandler.createExecutorService(jobName);
+        }
+        try {
+            Object threadBuilder = NAME_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null), "inner-job-" + jobName + "-", 0L);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, FACTORY_METHOD.invoke(threadBuilder));
+        } catch (final ReflectiveOperationException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL_THREAD";
+    }
+}
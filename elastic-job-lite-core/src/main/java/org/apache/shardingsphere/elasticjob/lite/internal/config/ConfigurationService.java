@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.lite.internal.config;
 import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobExecutionEnvironmentException;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.lite.util.env.TimeService;
@@ -33,7 +34,10 @@ public final class ConfigurationService {
     
     private final JobNodeStorage jobNodeStorage;
     
+    private final String jobName;
+    
     public ConfigurationService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         timeService = new TimeService();
     }
@@ -41,20 +45,26 @@ public final class ConfigurationService {
     /**
      * Load job configuration.
      * 
+     * <p>Load from cache will reuse the job configuration snapshot which is updated by configuration change listener.</p>
+     * 
      * @param fromCache load from cache or not
      * @return job configuration
      */
     public LiteJobConfiguration load(final boolean fromCache) {
-        String result;
-        if (fromCache) {
-            result = jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT);
-            if (null == result) {
-                result = jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT);
-            }
-        } else {
-            result = jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT);
+        if (!fromCache) {
+            return LiteJobConfigurationGsonFactory.fromJson(jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT));
+        }
+        LiteJobConfiguration result = JobRegistry.getInstance().getJobConfigSnapshot(jobName);
+        if (null != result) {
+            return result;
+        }
+        String json = jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT);
+        if (null == json) {
+            json = jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT);
         }
-        return LiteJobConfigurationGsonFactory.fromJson(result);
+        result = LiteJobConfigurationGsonFactory.fromJson(json);
+        JobRegistry.getInstance().initJobConfigSnapshot(jobName, result);
+        return result;
     }
     
     /**
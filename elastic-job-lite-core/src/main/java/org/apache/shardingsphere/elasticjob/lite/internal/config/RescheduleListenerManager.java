@@ -41,6 +41,8 @@ public final class RescheduleListenerManager extends AbstractListenerManager {
     @Override
     public void start() {
         addDataListener(new CronSettingAndJobEventChangedJobListener());
+        addDataListener(new JobConfigurationChangedJobListener());
+        JobRegistry.getInstance().enableJobConfigSnapshot(jobName);
     }
     
     class CronSettingAndJobEventChangedJobListener extends AbstractJobListener {
@@ -52,4 +54,19 @@ public final class RescheduleListenerManager extends AbstractListenerManager {
             }
         }
     }
+    
+    class JobConfigurationChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            if (!configNode.isConfigPath(path)) {
+                return;
+            }
+            if (Type.NODE_ADDED == eventType || Type.NODE_UPDATED == eventType) {
+                JobRegistry.getInstance().updateJobConfigSnapshot(jobName, LiteJobConfigurationGsonFactory.fromJson(data));
+            } else if (Type.NODE_REMOVED == eventType) {
+                JobRegistry.getInstance().updateJobConfigSnapshot(jobName, null);
+            }
+        }
+    }
 }
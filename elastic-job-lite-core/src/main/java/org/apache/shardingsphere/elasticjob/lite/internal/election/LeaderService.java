@@ -19,12 +19,12 @@ package org.apache.shardingsphere.elasticjob.lite.internal.election;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.lite.internal.listener.JobNodeChangedNotifier;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.LeaderExecutionCallback;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
-import org.apache.shardingsphere.elasticjob.lite.util.concurrent.BlockUtils;
 
 /**
  * Leader service.
@@ -32,6 +32,8 @@ import org.apache.shardingsphere.elasticjob.lite.util.concurrent.BlockUtils;
 @Slf4j
 public final class LeaderService {
     
+    private static final long ELECTING_TIMEOUT_MILLISECONDS = 100L;
+    
     private final String jobName;
     
     private final ServerService serverService;
@@ -57,15 +59,16 @@ public final class LeaderService {
      * Judge current server is leader or not.
      * 
      * <p>
-     * If leader is electing, this method will block until leader elected success.
+     * If leader is electing, this method will block until leader elected success,
+     * or elect leader by itself if no leader elected in short time.
      * </p>
      * 
      * @return current server is leader or not
      */
     public boolean isLeaderUntilBlock() {
         while (!hasLeader() && serverService.hasAvailableServers()) {
-            log.info("Leader is electing, waiting for {} ms", 100);
-            BlockUtils.waitingShortTime();
+            log.info("Leader is electing, waiting for {} ms", ELECTING_TIMEOUT_MILLISECONDS);
+            JobNodeChangedNotifier.getInstance().waitUntil(jobName, this::hasLeader, ELECTING_TIMEOUT_MILLISECONDS);
             if (!JobRegistry.getInstance().isShutdown(jobName) && serverService.isAvailableServer(JobRegistry.getInstance().getJobInstance(jobName).getIp())) {
                 electLeader();
             }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.failover;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
+
+/**
+ * Failover fairness policy.
+ * 
+ * <p>Decide how many crashed items are claimed by one instance in one failover round.</p>
+ */
+public enum FailoverFairnessPolicy {
+    
+    /**
+     * Claim fair share of crashed items among online instances, and at most failover batch size.
+     */
+    AVERAGE {
+        
+        @Override
+        int getClaimCount(final int crashedItemCount, final int instanceCount, final int failoverBatchSize) {
+            int fairShare = 0 == instanceCount ? crashedItemCount : (crashedItemCount + instanceCount - 1) / instanceCount;
+            return Math.min(fairShare, failoverBatchSize);
+        }
+    },
+    
+    /**
+     * Claim crashed items as many as possible, and at most failover batch size.
+     */
+    GREEDY {
+        
+        @Override
+        int getClaimCount(final int crashedItemCount, final int instanceCount, final int failoverBatchSize) {
+            return Math.min(crashedItemCount, failoverBatchSize);
+        }
+    };
+    
+    /**
+     * Get failover fairness policy.
+     * 
+     * @param failoverFairnessPolicy failover fairness policy name, default policy is {@code AVERAGE} if empty
+     * @return failover fairness policy
+     */
+    public static FailoverFairnessPolicy valueFrom(final String failoverFairnessPolicy) {
+        if (Strings.isNullOrEmpty(failoverFairnessPolicy)) {
+            return AVERAGE;
+        }
+        for (FailoverFairnessPolicy each : values()) {
+            if (each.name().equalsIgnoreCase(failoverFairnessPolicy)) {
+                return each;
+            }
+        }
+        throw new JobConfigurationException("Can not find failover fairness policy '%s'.", failoverFairnessPolicy);
+    }
+    
+    /**
+     * Get count of crashed items to claim.
+     * 
+     * @param crashedItemCount count of crashed items waiting for failover
+     * @param instanceCount count of online instances
+     * @param failoverBatchSize max count of crashed items claimed in one failover round
+     * @return count of crashed items to claim, at least 1
+     */
+    abstract int getClaimCount(int crashedItemCount, int instanceCount, int failoverBatchSize);
+}
@@ -27,8 +27,11 @@ import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractJobLi
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractListenerManager;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.lite.internal.sharding.WorkStealingService;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -44,51 +47,58 @@ public final class FailoverListenerManager extends AbstractListenerManager {
     
     private final FailoverService failoverService;
     
+    private final WorkStealingService workStealingService;
+    
     private final ConfigurationNode configNode;
     
     private final InstanceNode instanceNode;
     
+    private final FailoverNode failoverNode;
+    
     public FailoverListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName) {
         super(regCenter, jobName);
         this.jobName = jobName;
         configService = new ConfigurationService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         failoverService = new FailoverService(regCenter, jobName);
+        workStealingService = new WorkStealingService(regCenter, jobName);
         configNode = new ConfigurationNode(jobName);
         instanceNode = new InstanceNode(jobName);
+        failoverNode = new FailoverNode(jobName);
     }
     
     @Override
     public void start() {
         addDataListener(new JobCrashedJobListener());
         addDataListener(new FailoverSettingsChangedJobListener());
-    }
-    
-    private boolean isFailoverEnabled() {
-        LiteJobConfiguration jobConfig = configService.load(true);
-        return null != jobConfig && jobConfig.isFailover();
+        addDataListener(new FailoverOwnershipChangedJobListener());
+        FailoverOwnershipRegistry.getInstance().register(jobName);
     }
     
     class JobCrashedJobListener extends AbstractJobListener {
         
         @Override
         protected void dataChanged(final String path, final Type eventType, final String data) {
-            if (isFailoverEnabled() && Type.NODE_REMOVED == eventType && instanceNode.isInstancePath(path)) {
+            LiteJobConfiguration jobConfig = configService.load(true);
+            if (null != jobConfig && jobConfig.isFailover() && Type.NODE_REMOVED == eventType && instanceNode.isInstancePath(path)) {
                 String jobInstanceId = path.substring(instanceNode.getInstanceFullPath().length() + 1);
                 if (jobInstanceId.equals(JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId())) {
                     return;
                 }
                 List<Integer> failoverItems = failoverService.getFailoverItems(jobInstanceId);
-                if (!failoverItems.isEmpty()) {
-                    for (int each : failoverItems) {
-                        failoverService.setCrashedFailoverFlag(each);
-                        failoverService.failoverIfNecessary();
-                    }
-                } else {
-                    for (int each : shardingService.getShardingItems(jobInstanceId)) {
-                        failoverService.setCrashedFailoverFlag(each);
-                        failoverService.failoverIfNecessary();
-                    }
+                List<Integer> crashedItems = new ArrayList<>(failoverItems.isEmpty() ? shardingService.getShardingItems(jobInstanceId) : failoverItems);
+                crashedItems.addAll(workStealingService.getStolenItems(jobInstanceId));
+                if (crashedItems.isEmpty()) {
+                    return;
+                }
+                if (jobConfig.getTypeConfig().getCoreConfig().getFailoverBatchSize() > 1) {
+                    failoverService.setCrashedFailoverFlags(crashedItems);
+                    failoverService.failoverIfNecessary();
+                    return;
+                }
+                for (int each : crashedItems) {
+                    failoverService.setCrashedFailoverFlag(each);
+                    failoverService.failoverIfNecessary();
                 }
             }
         }
@@ -103,4 +113,20 @@ public final class FailoverListenerManager extends AbstractListenerManager {
             }
         }
     }
+    
+    class FailoverOwnershipChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            Integer item = failoverNode.getItemByExecutionFailoverPath(path);
+            if (null == item) {
+                return;
+            }
+            if (Type.NODE_REMOVED == eventType) {
+                FailoverOwnershipRegistry.getInstance().release(jobName, Collections.singletonList(item));
+            } else if (!data.isEmpty()) {
+                FailoverOwnershipRegistry.getInstance().assign(jobName, Collections.singletonList(item), data);
+            }
+        }
+    }
 }
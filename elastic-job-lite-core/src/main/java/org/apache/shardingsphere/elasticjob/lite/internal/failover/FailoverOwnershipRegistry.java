@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.failover;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractWatchedSnapshotRegistry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Failover ownership registry.
+ *
+ * <p>Failover owners are updated by failover listener when failover nodes changed, so that judging whether there are failover sharding items costs no registry center access.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FailoverOwnershipRegistry extends AbstractWatchedSnapshotRegistry<Map<Integer, String>> {
+    
+    private static final FailoverOwnershipRegistry INSTANCE = new FailoverOwnershipRegistry();
+    
+    /**
+     * Get instance of failover ownership registry.
+     *
+     * @return instance of failover ownership registry
+     */
+    public static FailoverOwnershipRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Assign failover sharding items to owner.
+     *
+     * @param jobName job name
+     * @param items failover sharding items
+     * @param jobInstanceId job instance ID of owner
+     */
+    public void assign(final String jobName, final Collection<Integer> items, final String jobInstanceId) {
+        updateSnapshot(jobName, owners -> update(owners, items, jobInstanceId));
+    }
+    
+    /**
+     * Release failover sharding items.
+     *
+     * @param jobName job name
+     * @param items failover sharding items
+     */
+    public void release(final String jobName, final Collection<Integer> items) {
+        updateSnapshot(jobName, owners -> update(owners, items, null));
+    }
+    
+    private Map<Integer, String> update(final Map<Integer, String> owners, final Collection<Integer> items, final String jobInstanceId) {
+        if (items.isEmpty()) {
+            return owners;
+        }
+        Map<Integer, String> result = new HashMap<>(owners);
+        for (Integer each : items) {
+            if (null == jobInstanceId) {
+                result.remove(each);
+            } else {
+                result.put(each, jobInstanceId);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Get failover owners of job.
+     *
+     * @param jobName job name
+     * @param loader loader of failover owners from registry center
+     * @return failover owners, key is sharding item and value is job instance ID of owner
+     */
+    public Map<Integer, String> getOwners(final String jobName, final Supplier<Map<Integer, String>> loader) {
+        return getSnapshot(jobName, () -> Collections.unmodifiableMap(loader.get()));
+    }
+}
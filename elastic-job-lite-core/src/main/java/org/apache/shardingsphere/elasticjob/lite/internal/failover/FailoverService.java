@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.elasticjob.lite.internal.failover;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingNode;
@@ -29,7 +33,10 @@ import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCen
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Failover service.
@@ -43,10 +50,13 @@ public final class FailoverService {
     
     private final ShardingService shardingService;
     
+    private final ConfigurationService configService;
+    
     public FailoverService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
+        configService = new ConfigurationService(regCenter, jobName);
     }
     
     /**
@@ -60,12 +70,29 @@ public final class FailoverService {
         }
     }
     
+    /**
+     * Set crashed failover flags in one transaction.
+     * 
+     * @param items crashed job items
+     */
+    public void setCrashedFailoverFlags(final Collection<Integer> items) {
+        List<String> itemsNodes = new ArrayList<>(items.size());
+        for (int each : items) {
+            if (!isFailoverAssigned(each)) {
+                itemsNodes.add(FailoverNode.getItemsNode(each));
+            }
+        }
+        jobNodeStorage.createJobNodesIfNeeded(itemsNodes);
+    }
+    
     private boolean isFailoverAssigned(final Integer item) {
         return jobNodeStorage.isJobNodeExisted(FailoverNode.getExecutionFailoverNode(item));
     }
     
     /**
      * Failover if necessary.
+     * 
+     * <p>Several crashed items are claimed in one leader latch round and executed in one trigger if failover batch size is configured.</p>
      */
     public void failoverIfNecessary() {
         if (needFailover()) {
@@ -87,6 +114,7 @@ public final class FailoverService {
         for (int each : items) {
             jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getExecutionFailoverNode(each));
         }
+        FailoverOwnershipRegistry.getInstance().release(jobName, items);
     }
     
     /**
@@ -96,16 +124,37 @@ public final class FailoverService {
      * @return failover items
      */
     public List<Integer> getFailoverItems(final String jobInstanceId) {
+        Map<Integer, String> owners = getFailoverOwners();
+        if (owners.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> result = new ArrayList<>(owners.size());
+        for (Entry<Integer, String> entry : owners.entrySet()) {
+            if (jobInstanceId.equals(entry.getValue())) {
+                result.add(entry.getKey());
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+    
+    private Map<Integer, String> getFailoverOwners() {
+        return FailoverOwnershipRegistry.getInstance().getOwners(jobName, this::loadFailoverOwners);
+    }
+    
+    private Map<Integer, String> loadFailoverOwners() {
         List<String> items = jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT);
-        List<Integer> result = new ArrayList<>(items.size());
+        Map<Integer, String> result = new HashMap<>();
         for (String each : items) {
             int item = Integer.parseInt(each);
             String node = FailoverNode.getExecutionFailoverNode(item);
-            if (jobNodeStorage.isJobNodeExisted(node) && jobInstanceId.equals(jobNodeStorage.getJobNodeDataDirectly(node))) {
-                result.add(item);
+            if (jobNodeStorage.isJobNodeExisted(node)) {
+                String owner = jobNodeStorage.getJobNodeDataDirectly(node);
+                if (null != owner) {
+                    result.put(item, owner);
+                }
             }
         }
-        Collections.sort(result);
         return result;
     }
     
@@ -127,10 +176,14 @@ public final class FailoverService {
      * @return failover items which crashed on localhost
      */
     public List<Integer> getLocalTakeOffItems() {
+        Map<Integer, String> owners = getFailoverOwners();
+        if (owners.isEmpty()) {
+            return Collections.emptyList();
+        }
         List<Integer> shardingItems = shardingService.getLocalShardingItems();
         List<Integer> result = new ArrayList<>(shardingItems.size());
         for (int each : shardingItems) {
-            if (jobNodeStorage.isJobNodeExisted(FailoverNode.getExecutionFailoverNode(each))) {
+            if (owners.containsKey(each)) {
                 result.add(each);
             }
         }
@@ -144,6 +197,7 @@ public final class FailoverService {
         for (String each : jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)) {
             jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getExecutionFailoverNode(Integer.parseInt(each)));
         }
+        FailoverOwnershipRegistry.getInstance().invalidate(jobName);
     }
     
     class FailoverLeaderExecutionCallback implements LeaderExecutionCallback {
@@ -153,15 +207,48 @@ public final class FailoverService {
             if (JobRegistry.getInstance().isShutdown(jobName) || !needFailover()) {
                 return;
             }
-            int crashedItem = Integer.parseInt(jobNodeStorage.getJobNodeChildrenKeys(FailoverNode.ITEMS_ROOT).get(0));
-            log.debug("Failover job '{}' begin, crashed item '{}'", jobName, crashedItem);
-            jobNodeStorage.fillEphemeralJobNode(FailoverNode.getExecutionFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
-            jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getItemsNode(crashedItem));
+            List<String> crashedItems = jobNodeStorage.getJobNodeChildrenKeys(FailoverNode.ITEMS_ROOT);
+            if (crashedItems.isEmpty()) {
+                return;
+            }
+            String jobInstanceId = JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId();
+            int claimCount = getClaimCount(crashedItems.size());
+            if (1 == claimCount) {
+                int crashedItem = Integer.parseInt(crashedItems.get(0));
+                log.debug("Failover job '{}' begin, crashed item '{}'", jobName, crashedItem);
+                jobNodeStorage.fillEphemeralJobNode(FailoverNode.getExecutionFailoverNode(crashedItem), jobInstanceId);
+                jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getItemsNode(crashedItem));
+                FailoverOwnershipRegistry.getInstance().assign(jobName, Collections.singletonList(crashedItem), jobInstanceId);
+            } else {
+                List<String> executionFailoverNodes = new ArrayList<>(claimCount);
+                List<String> itemsNodes = new ArrayList<>(claimCount);
+                List<Integer> claimedItems = new ArrayList<>(claimCount);
+                for (String each : crashedItems.subList(0, claimCount)) {
+                    int item = Integer.parseInt(each);
+                    executionFailoverNodes.add(FailoverNode.getExecutionFailoverNode(item));
+                    itemsNodes.add(FailoverNode.getItemsNode(item));
+                    claimedItems.add(item);
+                }
+                log.debug("Failover job '{}' begin, crashed items '{}'", jobName, claimedItems);
+                jobNodeStorage.fillEphemeralJobNodes(executionFailoverNodes, jobInstanceId);
+                jobNodeStorage.removeJobNodesIfExisted(itemsNodes);
+                FailoverOwnershipRegistry.getInstance().assign(jobName, claimedItems, jobInstanceId);
+            }
             // TODO Instead of using triggerJob, use executor for unified scheduling
             JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
             if (null != jobScheduleController) {
                 jobScheduleController.triggerJob();
             }
         }
+        
+        private int getClaimCount(final int crashedItemCount) {
+            LiteJobConfiguration liteJobConfig = configService.load(true);
+            if (null == liteJobConfig || liteJobConfig.getTypeConfig().getCoreConfig().getFailoverBatchSize() <= 1) {
+                return 1;
+            }
+            JobCoreConfiguration coreConfig = liteJobConfig.getTypeConfig().getCoreConfig();
+            int instanceCount = jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT).size();
+            return Math.max(1, FailoverFairnessPolicy.valueFrom(coreConfig.getFailoverFairnessPolicy()).getClaimCount(crashedItemCount, instanceCount, coreConfig.getFailoverBatchSize()));
+        }
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.guarantee;
+
+/**
+ * Guarantee barrier.
+ * 
+ * <p>
+ * Generation of barrier is advanced when guarantee root node removed. 
+ * Waiter gets generation before checking whether its round is passed, and waits for next generation if not passed, 
+ * so removal of guarantee root node happened between checking and waiting will not be missed.
+ * </p>
+ */
+public final class GuaranteeBarrier {
+    
+    private long generation;
+    
+    /**
+     * Get current generation.
+     * 
+     * @return current generation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+    
+    /**
+     * Advance generation and wake up all waiters.
+     */
+    public synchronized void advance() {
+        generation++;
+        notifyAll();
+    }
+    
+    /**
+     * Wait until generation advanced from the given one.
+     * 
+     * @param fromGeneration generation got before checking
+     * @param timeoutMilliseconds max wait time in milliseconds
+     * @return generation advanced or timeout, false if waiting is interrupted
+     */
+    public synchronized boolean awaitAdvance(final long fromGeneration, final long timeoutMilliseconds) {
+        if (generation != fromGeneration) {
+            return true;
+        }
+        try {
+            wait(timeoutMilliseconds);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+}
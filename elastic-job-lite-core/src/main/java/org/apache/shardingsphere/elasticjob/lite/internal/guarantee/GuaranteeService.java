@@ -17,11 +17,16 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.guarantee;
 
+import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.CreatedChildNodes;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+import org.apache.zookeeper.data.Stat;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Guarantee service.
@@ -41,21 +46,36 @@ public final class GuaranteeService {
      * Register start.
      * 
      * @param shardingItems to be registered sharding items 
+     * @return round of started guarantee registered in
+     * @throws JobSystemException if started guarantee nodes can not be registered
      */
-    public void registerStart(final Collection<Integer> shardingItems) {
-        for (int each : shardingItems) {
-            jobNodeStorage.createJobNodeIfNeeded(GuaranteeNode.getStartedNode(each));
+    public GuaranteeRound registerStart(final Collection<Integer> shardingItems) {
+        return register(GuaranteeNode.STARTED_ROOT, shardingItems.stream().map(GuaranteeNode::getStartedNode).collect(Collectors.toList()));
+    }
+    
+    private GuaranteeRound register(final String rootNode, final List<String> nodes) {
+        CreatedChildNodes createdChildNodes = jobNodeStorage.createJobChildNodes(rootNode, nodes);
+        if (null == createdChildNodes || null == createdChildNodes.getParentStat()) {
+            throw new JobSystemException("Can not register guarantee nodes under '%s'.", rootNode);
         }
+        Stat stat = createdChildNodes.getParentStat();
+        int shardingTotalCount = configService.load(true).getTypeConfig().getCoreConfig().getShardingTotalCount();
+        return new GuaranteeRound(stat.getCzxid(), stat.getNumChildren() >= shardingTotalCount && stat.getNumChildren() - createdChildNodes.getCreatedCount() < shardingTotalCount);
     }
     
     /**
-     * Judge whether job's sharding items are all started.
-     *
-     * @return job's sharding items are all started or not
+     * Judge whether round of started guarantee is passed.
+     * 
+     * @param round round of started guarantee
+     * @return round of started guarantee is passed or not
      */
-    public boolean isAllStarted() {
-        return jobNodeStorage.isJobNodeExisted(GuaranteeNode.STARTED_ROOT)
-                && configService.load(false).getTypeConfig().getCoreConfig().getShardingTotalCount() == jobNodeStorage.getJobNodeChildrenKeys(GuaranteeNode.STARTED_ROOT).size();
+    public boolean isStartedPassed(final GuaranteeRound round) {
+        return isPassed(GuaranteeNode.STARTED_ROOT, round);
+    }
+    
+    private boolean isPassed(final String rootNode, final GuaranteeRound round) {
+        Stat stat = jobNodeStorage.getJobNodeStat(rootNode);
+        return null == stat || stat.getCzxid() != round.getId();
     }
     
     /**
@@ -69,21 +89,21 @@ public final class GuaranteeService {
      * Register complete.
      *
      * @param shardingItems to be registered sharding items
+     * @return round of completed guarantee registered in
+     * @throws JobSystemException if completed guarantee nodes can not be registered
      */
-    public void registerComplete(final Collection<Integer> shardingItems) {
-        for (int each : shardingItems) {
-            jobNodeStorage.createJobNodeIfNeeded(GuaranteeNode.getCompletedNode(each));
-        }
+    public GuaranteeRound registerComplete(final Collection<Integer> shardingItems) {
+        return register(GuaranteeNode.COMPLETED_ROOT, shardingItems.stream().map(GuaranteeNode::getCompletedNode).collect(Collectors.toList()));
     }
     
     /**
-     * Judge whether job's sharding items are all completed.
-     *
-     * @return job's sharding items are all completed or not
+     * Judge whether round of completed guarantee is passed.
+     * 
+     * @param round round of completed guarantee
+     * @return round of completed guarantee is passed or not
      */
-    public boolean isAllCompleted() {
-        return jobNodeStorage.isJobNodeExisted(GuaranteeNode.COMPLETED_ROOT)
-                && configService.load(false).getTypeConfig().getCoreConfig().getShardingTotalCount() <= jobNodeStorage.getJobNodeChildrenKeys(GuaranteeNode.COMPLETED_ROOT).size();
+    public boolean isCompletedPassed(final GuaranteeRound round) {
+        return isPassed(GuaranteeNode.COMPLETED_ROOT, round);
     }
     
     /**
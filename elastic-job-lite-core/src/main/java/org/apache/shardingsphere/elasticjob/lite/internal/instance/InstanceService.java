@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.instance;
 
+import com.google.common.primitives.Ints;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
@@ -30,6 +32,8 @@ import java.util.List;
  */
 public final class InstanceService {
     
+    private final String jobName;
+    
     private final JobNodeStorage jobNodeStorage;
     
     private final InstanceNode instanceNode;
@@ -37,6 +41,7 @@ public final class InstanceService {
     private final ServerService serverService;
     
     public InstanceService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         instanceNode = new InstanceNode(jobName);
         serverService = new ServerService(regCenter, jobName);
@@ -44,9 +49,11 @@ public final class InstanceService {
     
     /**
      * Persist job online status.
+     * 
+     * <p>Weight of job instance is persisted as data of job instance node.</p>
      */
     public void persistOnline() {
-        jobNodeStorage.fillEphemeralJobNode(instanceNode.getLocalInstanceNode(), "");
+        jobNodeStorage.fillEphemeralJobNode(instanceNode.getLocalInstanceNode(), getLocalWeight());
     }
     
     /**
@@ -58,13 +65,21 @@ public final class InstanceService {
     
     /**
      * Clear trigger flag.
+     * 
+     * <p>Trigger flag overwrites weight of job instance, so restore weight after trigger flag cleared.</p>
      */
     public void clearTriggerFlag() {
-        jobNodeStorage.updateJobNode(instanceNode.getLocalInstanceNode(), "");
+        jobNodeStorage.updateJobNode(instanceNode.getLocalInstanceNode(), getLocalWeight());
+    }
+    
+    private int getLocalWeight() {
+        return JobRegistry.getInstance().getJobInstance(jobName).getWeight();
     }
     
     /**
      * Get available job instances.
+     * 
+     * <p>Job instance without persisted weight, or under trigger, is regarded as default weight.</p>
      *
      * @return available job instances
      */
@@ -73,7 +88,9 @@ public final class InstanceService {
         for (String each : jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)) {
             JobInstance jobInstance = new JobInstance(each);
             if (serverService.isEnableServer(jobInstance.getIp())) {
-                result.add(new JobInstance(each));
+                String data = jobNodeStorage.getJobNodeData(InstanceNode.ROOT + "/" + each);
+                Integer weight = null == data ? null : Ints.tryParse(data);
+                result.add(null == weight ? jobInstance : new JobInstance(each, weight));
             }
         }
         return result;
@@ -17,15 +17,18 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.instance;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractJobListener;
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractListenerManager;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent.Type;
 
 /**
  * Job trigger listener manager.
  */
+@Slf4j
 public final class TriggerListenerManager extends AbstractListenerManager {
     
     private final String jobName;
@@ -54,9 +57,22 @@ public final class TriggerListenerManager extends AbstractListenerManager {
                 return;
             }
             instanceService.clearTriggerFlag();
-            if (!JobRegistry.getInstance().isShutdown(jobName) && !JobRegistry.getInstance().isJobRunning(jobName)) {
-                // TODO At present, it cannot be triggered when the job is running, and it will be changed to a stacked trigger in the future.
-                JobRegistry.getInstance().getJobScheduleController(jobName).triggerJob();
+            if (JobRegistry.getInstance().isShutdown(jobName)) {
+                return;
+            }
+            JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
+            if (!JobRegistry.getInstance().isJobRunning(jobName)) {
+                jobScheduleController.triggerJob();
+                return;
+            }
+            if (!jobScheduleController.queueTrigger()) {
+                log.info("Job '{}' is running, trigger is dropped because trigger queue is full, queued triggers: {}.", jobName, jobScheduleController.getQueuedTriggerCount());
+                return;
+            }
+            log.info("Job '{}' is running, trigger is queued, queued triggers: {}.", jobName, jobScheduleController.getQueuedTriggerCount());
+            // Job may complete before trigger queued, fire queued trigger here to avoid waiting for next fire
+            if (!JobRegistry.getInstance().isJobRunning(jobName) && jobScheduleController.triggerQueuedIfNecessary()) {
+                log.info("Job '{}' fired queued trigger, queued triggers left: {}.", jobName, jobScheduleController.getQueuedTriggerCount());
             }
         }
     }
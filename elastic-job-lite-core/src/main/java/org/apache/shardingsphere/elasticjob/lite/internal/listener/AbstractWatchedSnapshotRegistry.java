@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.listener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Registry of watched snapshots of jobs.
+ *
+ * <p>
+ * Snapshot of job is kept in memory after listener of job started, and then maintained by the listener, see {@link WatchedSnapshot}.
+ * Snapshot is loaded from registry center every time if listener of job is not started.
+ * </p>
+ * 
+ * @param <T> type of snapshot
+ */
+public abstract class AbstractWatchedSnapshotRegistry<T> {
+    
+    private final Map<String, WatchedSnapshot<T>> snapshots = new ConcurrentHashMap<>();
+    
+    /**
+     * Register job after listener of job started.
+     *
+     * @param jobName job name
+     */
+    public void register(final String jobName) {
+        snapshots.putIfAbsent(jobName, new WatchedSnapshot<>());
+    }
+    
+    /**
+     * Unregister job.
+     *
+     * @param jobName job name
+     */
+    public void unregister(final String jobName) {
+        snapshots.remove(jobName);
+    }
+    
+    /**
+     * Invalidate snapshot of job.
+     * 
+     * <p>Snapshot is reloaded from registry center, because changes may be missed while registry center connection suspended.</p>
+     *
+     * @param jobName job name
+     */
+    public final void invalidate(final String jobName) {
+        WatchedSnapshot<T> snapshot = snapshots.get(jobName);
+        if (null != snapshot) {
+            snapshot.invalidate();
+        }
+    }
+    
+    protected final T getSnapshot(final String jobName, final Supplier<T> loader) {
+        WatchedSnapshot<T> snapshot = snapshots.get(jobName);
+        return null == snapshot ? loader.get() : snapshot.get(loader);
+    }
+    
+    protected final void setSnapshot(final String jobName, final T changedSnapshot) {
+        WatchedSnapshot<T> snapshot = snapshots.get(jobName);
+        if (null != snapshot) {
+            snapshot.set(changedSnapshot);
+        }
+    }
+    
+    protected final void updateSnapshot(final String jobName, final UnaryOperator<T> updater) {
+        WatchedSnapshot<T> snapshot = snapshots.get(jobName);
+        if (null != snapshot) {
+            snapshot.update(updater);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.listener;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.util.concurrent.BlockUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Job node changed notifier.
+ *
+ * <p>
+ * Threads waiting for job nodes changed are woken up by data listener of job, instead of polling registry center.
+ * Waiting falls back to polling in short time if data listener of job is not registered.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobNodeChangedNotifier {
+    
+    private static final long POLLING_INTERVAL_MILLISECONDS = 100L;
+    
+    private static final JobNodeChangedNotifier INSTANCE = new JobNodeChangedNotifier();
+    
+    private final Map<String, ChangedMonitor> monitors = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of job node changed notifier.
+     *
+     * @return instance of job node changed notifier
+     */
+    public static JobNodeChangedNotifier getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register job after data listener of job started.
+     *
+     * @param jobName job name
+     */
+    public void register(final String jobName) {
+        monitors.putIfAbsent(jobName, new ChangedMonitor());
+    }
+    
+    /**
+     * Unregister job and wake up all waiting threads.
+     *
+     * @param jobName job name
+     */
+    public void unregister(final String jobName) {
+        ChangedMonitor monitor = monitors.remove(jobName);
+        if (null != monitor) {
+            monitor.notifyChanged();
+        }
+    }
+    
+    /**
+     * Notify job nodes changed.
+     *
+     * @param jobName job name
+     */
+    public void notifyChanged(final String jobName) {
+        ChangedMonitor monitor = monitors.get(jobName);
+        if (null != monitor) {
+            monitor.notifyChanged();
+        }
+    }
+    
+    /**
+     * Wait until condition satisfied.
+     *
+     * <p>Condition is checked again every time job nodes changed, and should not be checked while holding any lock.</p>
+     *
+     * @param jobName job name
+     * @param condition condition to wait for
+     * @param timeoutMilliseconds max time to wait
+     * @return condition satisfied or not before timeout
+     */
+    public boolean waitUntil(final String jobName, final BooleanSupplier condition, final long timeoutMilliseconds) {
+        long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+        while (!Thread.currentThread().isInterrupted()) {
+            ChangedMonitor monitor = monitors.get(jobName);
+            long version = null == monitor ? 0L : monitor.getVersion();
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0L) {
+                return false;
+            }
+            if (null == monitor) {
+                BlockUtils.sleep(Math.min(remaining, POLLING_INTERVAL_MILLISECONDS));
+            } else {
+                monitor.waitChanged(version, remaining);
+            }
+        }
+        return condition.getAsBoolean();
+    }
+    
+    private static final class ChangedMonitor {
+        
+        private long version;
+        
+        private synchronized long getVersion() {
+            return version;
+        }
+        
+        private synchronized void notifyChanged() {
+            version++;
+            notifyAll();
+        }
+        
+        private synchronized void waitChanged(final long expectedVersion, final long timeoutMilliseconds) {
+            long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+            long remaining = timeoutMilliseconds;
+            while (expectedVersion == version && remaining > 0L) {
+                try {
+                    wait(remaining);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+}
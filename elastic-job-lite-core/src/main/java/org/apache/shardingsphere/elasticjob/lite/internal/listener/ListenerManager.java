@@ -36,6 +36,8 @@ import java.util.List;
  */
 public final class ListenerManager {
     
+    private final String jobName;
+    
     private final JobNodeStorage jobNodeStorage;
     
     private final ElectionListenerManager electionListenerManager;
@@ -56,7 +58,10 @@ public final class ListenerManager {
     
     private final RegistryCenterConnectionStateListener regCenterConnectionStateListener;
     
+    private final JobNodeChangedJobListener jobNodeChangedJobListener;
+    
     public ListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName, final List<ElasticJobListener> elasticJobListeners) {
+        this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         electionListenerManager = new ElectionListenerManager(regCenter, jobName);
         shardingListenerManager = new ShardingListenerManager(regCenter, jobName);
@@ -67,6 +72,7 @@ public final class ListenerManager {
         rescheduleListenerManager = new RescheduleListenerManager(regCenter, jobName);
         guaranteeListenerManager = new GuaranteeListenerManager(regCenter, jobName, elasticJobListeners);
         regCenterConnectionStateListener = new RegistryCenterConnectionStateListener(regCenter, jobName);
+        jobNodeChangedJobListener = new JobNodeChangedJobListener(jobName);
     }
     
     /**
@@ -82,5 +88,7 @@ public final class ListenerManager {
         rescheduleListenerManager.start();
         guaranteeListenerManager.start();
         jobNodeStorage.addConnectionStateListener(regCenterConnectionStateListener);
+        jobNodeStorage.addDataListener(jobNodeChangedJobListener);
+        JobNodeChangedNotifier.getInstance().register(jobName);
     }
 }
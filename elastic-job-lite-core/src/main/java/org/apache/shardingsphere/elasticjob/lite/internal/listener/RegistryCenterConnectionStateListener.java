@@ -20,7 +20,9 @@ package org.apache.shardingsphere.elasticjob.lite.internal.listener;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.state.ConnectionState;
 import org.apache.curator.framework.state.ConnectionStateListener;
+import org.apache.shardingsphere.elasticjob.lite.internal.failover.FailoverOwnershipRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceService;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobEligibilityRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
@@ -58,11 +60,14 @@ public final class RegistryCenterConnectionStateListener implements ConnectionSt
         }
         JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
         if (ConnectionState.SUSPENDED == newState || ConnectionState.LOST == newState) {
+            JobEligibilityRegistry.getInstance().suspend(jobName);
             jobScheduleController.pauseJob();
         } else if (ConnectionState.RECONNECTED == newState) {
             serverService.persistOnline(serverService.isEnableServer(JobRegistry.getInstance().getJobInstance(jobName).getIp()));
             instanceService.persistOnline();
             executionService.clearRunningInfo(shardingService.getLocalShardingItems());
+            FailoverOwnershipRegistry.getInstance().invalidate(jobName);
+            JobEligibilityRegistry.getInstance().resume(jobName);
             jobScheduleController.resumeJob();
         }
     }
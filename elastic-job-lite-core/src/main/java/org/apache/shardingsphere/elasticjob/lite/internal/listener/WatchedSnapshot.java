@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.listener;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Snapshot of registry center data watched by listener.
+ *
+ * <p>
+ * Snapshot is loaded from registry center only once, and then updated or invalidated by listener when watched data changed.
+ * Data loaded while snapshot is updated or invalidated is not kept, so that stale data never overrides changes.
+ * </p>
+ * 
+ * @param <T> type of snapshot
+ */
+public final class WatchedSnapshot<T> {
+    
+    private volatile T snapshot;
+    
+    private long version;
+    
+    /**
+     * Get snapshot, and load it if absent.
+     * 
+     * @param loader loader of snapshot from registry center
+     * @return snapshot
+     */
+    public T get(final Supplier<T> loader) {
+        T result = snapshot;
+        if (null != result) {
+            return result;
+        }
+        long loadingVersion = getVersion();
+        result = loader.get();
+        publish(loadingVersion, result);
+        return result;
+    }
+    
+    private synchronized long getVersion() {
+        return version;
+    }
+    
+    private synchronized void publish(final long loadingVersion, final T loadedSnapshot) {
+        if (loadingVersion == version) {
+            snapshot = loadedSnapshot;
+        }
+    }
+    
+    /**
+     * Set snapshot to changed data.
+     * 
+     * @param changedSnapshot changed snapshot
+     */
+    public synchronized void set(final T changedSnapshot) {
+        version++;
+        snapshot = changedSnapshot;
+    }
+    
+    /**
+     * Update snapshot if loaded.
+     * 
+     * @param updater updater of loaded snapshot
+     */
+    public synchronized void update(final UnaryOperator<T> updater) {
+        version++;
+        if (null != snapshot) {
+            snapshot = updater.apply(snapshot);
+        }
+    }
+    
+    /**
+     * Invalidate snapshot, so that it is loaded again next time.
+     */
+    public synchronized void invalidate() {
+        version++;
+        snapshot = null;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.internal.listener.WatchedSnapshot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Job eligibility registry.
+ *
+ * <p>
+ * Keep whether job is eligible for running in memory after sharding listener started, so that streaming jobs can check it after every batch without accessing registry center.
+ * Job is not eligible for running if resharding is pending, local server is disabled or registry center connection is suspended.
+ * Resharding flag is a {@link WatchedSnapshot} updated by sharding listener; it is loaded from registry center every time if sharding listener is not started.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobEligibilityRegistry {
+    
+    private static final JobEligibilityRegistry INSTANCE = new JobEligibilityRegistry();
+    
+    private final Map<String, EligibilityHolder> holders = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of job eligibility registry.
+     *
+     * @return instance of job eligibility registry
+     */
+    public static JobEligibilityRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register job after sharding listener started.
+     *
+     * @param jobName job name
+     */
+    public void register(final String jobName) {
+        holders.put(jobName, new EligibilityHolder());
+    }
+    
+    /**
+     * Unregister job.
+     *
+     * @param jobName job name
+     */
+    public void unregister(final String jobName) {
+        holders.remove(jobName);
+    }
+    
+    /**
+     * Update resharding flag of job.
+     *
+     * @param jobName job name
+     * @param reshardingPending resharding is pending or not
+     */
+    public void updateReshardingPending(final String jobName, final boolean reshardingPending) {
+        EligibilityHolder holder = holders.get(jobName);
+        if (null != holder) {
+            holder.reshardingPending.set(reshardingPending);
+        }
+    }
+    
+    /**
+     * Update local server disabled or not.
+     *
+     * @param jobName job name
+     * @param serverDisabled local server is disabled or not
+     */
+    public void updateServerDisabled(final String jobName, final boolean serverDisabled) {
+        EligibilityHolder holder = holders.get(jobName);
+        if (null != holder) {
+            holder.serverDisabled = serverDisabled;
+        }
+    }
+    
+    /**
+     * Suspend job when registry center connection suspended or lost.
+     *
+     * @param jobName job name
+     */
+    public void suspend(final String jobName) {
+        EligibilityHolder holder = holders.get(jobName);
+        if (null != holder) {
+            holder.suspended = true;
+        }
+    }
+    
+    /**
+     * Resume job when registry center connection reconnected.
+     * 
+     * <p>Resharding flag is reloaded from registry center, because its changes may be missed while connection suspended.</p>
+     *
+     * @param jobName job name
+     */
+    public void resume(final String jobName) {
+        EligibilityHolder holder = holders.get(jobName);
+        if (null != holder) {
+            holder.reshardingPending.invalidate();
+            holder.suspended = false;
+        }
+    }
+    
+    /**
+     * Judge job is eligible for running or not.
+     *
+     * @param jobName job name
+     * @param reshardingPendingLoader loader of resharding flag from registry center
+     * @return job is eligible for running or not
+     */
+    public boolean isEligible(final String jobName, final BooleanSupplier reshardingPendingLoader) {
+        EligibilityHolder holder = holders.get(jobName);
+        if (null == holder) {
+            return !reshardingPendingLoader.getAsBoolean();
+        }
+        return !holder.suspended && !holder.serverDisabled && !holder.reshardingPending.get(reshardingPendingLoader::getAsBoolean);
+    }
+    
+    private static final class EligibilityHolder {
+        
+        private final WatchedSnapshot<Boolean> reshardingPending = new WatchedSnapshot<>();
+        
+        private volatile boolean suspended;
+        
+        private volatile boolean serverDisabled;
+    }
+}
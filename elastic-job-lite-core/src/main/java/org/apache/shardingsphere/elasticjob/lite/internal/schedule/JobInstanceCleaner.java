@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.internal.election.LeaderService;
+import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceService;
+import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+
+/**
+ * Job instance cleaner.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class JobInstanceCleaner {
+    
+    /**
+     * Remove leader and instance of job from registry center when trigger engine stopped firing job.
+     * 
+     * <p>Wait for fires in flight before removing, so that sharding items still running are not failed over.</p>
+     * 
+     * @param jobName job name
+     */
+    static void clean(final String jobName) {
+        CoordinatorRegistryCenter regCenter = JobRegistry.getInstance().getRegCenter(jobName);
+        if (null == regCenter) {
+            return;
+        }
+        JobRegistry.getInstance().awaitFiresCompleted(jobName);
+        LeaderService leaderService = new LeaderService(regCenter, jobName);
+        if (leaderService.isLeader()) {
+            leaderService.removeLeader();
+        }
+        new InstanceService(regCenter, jobName).removeInstance();
+    }
+}
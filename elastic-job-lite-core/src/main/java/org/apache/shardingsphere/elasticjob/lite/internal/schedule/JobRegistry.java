@@ -19,11 +19,22 @@ package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.JobExecutorServiceHandlerFactory;
+import org.apache.shardingsphere.elasticjob.lite.internal.failover.FailoverOwnershipRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.listener.JobNodeChangedNotifier;
+import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingAssignmentRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Job registry.
@@ -41,8 +52,14 @@ public final class JobRegistry {
     
     private Map<String, Boolean> jobRunningMap = new ConcurrentHashMap<>();
     
+    private Map<String, Set<Integer>> timeoutRunningItemsMap = new ConcurrentHashMap<>();
+    
+    private Map<String, Set<CompletableFuture<?>>> firesMap = new ConcurrentHashMap<>();
+    
     private Map<String, Integer> currentShardingTotalCountMap = new ConcurrentHashMap<>();
     
+    private Map<String, AtomicReference<LiteJobConfiguration>> jobConfigSnapshotMap = new ConcurrentHashMap<>();
+    
     /**
      * Get instance of job registry.
      * 
@@ -133,6 +150,95 @@ public final class JobRegistry {
         jobRunningMap.put(jobName, isRunning);
     }
     
+    /**
+     * Set job running status to running if job is not running.
+     * 
+     * @param jobName job name
+     * @return set by current caller or not
+     */
+    public boolean setJobRunningIfNotRunning(final String jobName) {
+        return !Boolean.TRUE.equals(jobRunningMap.put(jobName, true));
+    }
+    
+    /**
+     * Add fire of job which is not completed.
+     * 
+     * <p>Fire is removed when it completes.</p>
+     * 
+     * @param jobName job name
+     * @param fire future of fire
+     */
+    public void addFire(final String jobName, final CompletableFuture<?> fire) {
+        firesMap.compute(jobName, (key, fires) -> {
+            Set<CompletableFuture<?>> result = null == fires ? ConcurrentHashMap.newKeySet() : fires;
+            result.add(fire);
+            return result;
+        });
+        fire.whenComplete((result, cause) -> firesMap.computeIfPresent(jobName, (key, fires) -> {
+            fires.remove(fire);
+            return fires.isEmpty() ? null : fires;
+        }));
+    }
+    
+    /**
+     * Wait until fires of job completed.
+     * 
+     * <p>Stop waiting if current thread is interrupted, and interrupt status is kept.</p>
+     * 
+     * @param jobName job name
+     */
+    public void awaitFiresCompleted(final String jobName) {
+        Set<CompletableFuture<?>> fires = firesMap.get(jobName);
+        if (null == fires) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(fires.toArray(new CompletableFuture[0])).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ignore) {
+        }
+    }
+    
+    /**
+     * Add sharding item still running after timeout.
+     * 
+     * @param jobName job name
+     * @param item sharding item
+     */
+    public void addTimeoutRunningItem(final String jobName, final int item) {
+        timeoutRunningItemsMap.compute(jobName, (key, items) -> {
+            Set<Integer> result = null == items ? ConcurrentHashMap.newKeySet() : items;
+            result.add(item);
+            return result;
+        });
+    }
+    
+    /**
+     * Remove sharding item still running after timeout.
+     * 
+     * @param jobName job name
+     * @param item sharding item
+     */
+    public void removeTimeoutRunningItem(final String jobName, final int item) {
+        timeoutRunningItemsMap.computeIfPresent(jobName, (key, items) -> {
+            items.remove(item);
+            return items.isEmpty() ? null : items;
+        });
+    }
+    
+    /**
+     * Judge has sharding items still running after timeout or not.
+     * 
+     * @param jobName job name
+     * @param items sharding items
+     * @return has sharding items still running after timeout or not
+     */
+    public boolean hasTimeoutRunningItems(final String jobName, final Collection<Integer> items) {
+        Set<Integer> timeoutRunningItems = timeoutRunningItemsMap.get(jobName);
+        return null != timeoutRunningItems && items.stream().anyMatch(timeoutRunningItems::contains);
+    }
+    
     /**
      * Get sharding total count which running on current job server.
      *
@@ -154,6 +260,56 @@ public final class JobRegistry {
         currentShardingTotalCountMap.put(jobName, currentShardingTotalCount);
     }
     
+    /**
+     * Enable job configuration snapshot.
+     * 
+     * <p>Snapshot should be enabled only after configuration change listener started, otherwise it may never be updated.</p>
+     *
+     * @param jobName job name
+     */
+    public void enableJobConfigSnapshot(final String jobName) {
+        jobConfigSnapshotMap.put(jobName, new AtomicReference<>());
+    }
+    
+    /**
+     * Get job configuration snapshot.
+     *
+     * @param jobName job name
+     * @return job configuration snapshot, null if snapshot is disabled or not loaded yet
+     */
+    public LiteJobConfiguration getJobConfigSnapshot(final String jobName) {
+        AtomicReference<LiteJobConfiguration> result = jobConfigSnapshotMap.get(jobName);
+        return null == result ? null : result.get();
+    }
+    
+    /**
+     * Initialize job configuration snapshot if snapshot is enabled and not loaded yet.
+     * 
+     * <p>Snapshot updated by configuration change listener will not be overwritten.</p>
+     *
+     * @param jobName job name
+     * @param liteJobConfig job configuration loaded from registry center
+     */
+    public void initJobConfigSnapshot(final String jobName, final LiteJobConfiguration liteJobConfig) {
+        AtomicReference<LiteJobConfiguration> snapshot = jobConfigSnapshotMap.get(jobName);
+        if (null != snapshot) {
+            snapshot.compareAndSet(null, liteJobConfig);
+        }
+    }
+    
+    /**
+     * Update job configuration snapshot if snapshot is enabled.
+     *
+     * @param jobName job name
+     * @param liteJobConfig job configuration changed, null means snapshot should be reloaded
+     */
+    public void updateJobConfigSnapshot(final String jobName, final LiteJobConfiguration liteJobConfig) {
+        AtomicReference<LiteJobConfiguration> snapshot = jobConfigSnapshotMap.get(jobName);
+        if (null != snapshot) {
+            snapshot.set(liteJobConfig);
+        }
+    }
+    
     /**
      * Shutdown job schedule.
      * 
@@ -164,13 +320,23 @@ public final class JobRegistry {
         if (null != scheduleController) {
             scheduleController.shutdown();
         }
+        awaitFiresCompleted(jobName);
+        firesMap.remove(jobName);
         CoordinatorRegistryCenter regCenter = regCenterMap.remove(jobName);
         if (null != regCenter) {
             regCenter.evictCacheData("/" + jobName);
         }
         jobInstanceMap.remove(jobName);
         jobRunningMap.remove(jobName);
+        timeoutRunningItemsMap.remove(jobName);
         currentShardingTotalCountMap.remove(jobName);
+        jobConfigSnapshotMap.remove(jobName);
+        JobNodeChangedNotifier.getInstance().unregister(jobName);
+        ShardingAssignmentRegistry.getInstance().unregister(jobName);
+        JobEligibilityRegistry.getInstance().unregister(jobName);
+        FailoverOwnershipRegistry.getInstance().unregister(jobName);
+        JobNodeStorage.releaseLeaderLatches(jobName);
+        JobExecutorServiceHandlerFactory.releaseExecutorServices(jobName);
     }
     
     /**
@@ -18,42 +18,32 @@
 package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
-import org.quartz.CronScheduleBuilder;
-import org.quartz.CronTrigger;
-import org.quartz.JobDetail;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.Trigger;
-import org.quartz.TriggerBuilder;
-import org.quartz.TriggerKey;
 
 /**
  * Job schedule controller.
+ * 
+ * <p>Job is fired by trigger engine, controller serializes operations on it.</p>
  */
 @RequiredArgsConstructor
 public final class JobScheduleController {
     
-    private final Scheduler scheduler;
+    private final JobTriggerEngine triggerEngine;
     
-    private final JobDetail jobDetail;
+    private final int maxQueuedTriggers;
     
-    private final String triggerIdentity;
+    private int queuedTriggerCount;
+    
+    public JobScheduleController(final JobTriggerEngine triggerEngine) {
+        this(triggerEngine, 0);
+    }
     
     /**
      * Schedule job.
      * 
      * @param cron CRON expression
      */
-    public void scheduleJob(final String cron) {
-        try {
-            if (!scheduler.checkExists(jobDetail.getKey())) {
-                scheduler.scheduleJob(jobDetail, createTrigger(cron));
-            }
-            scheduler.start();
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
+    public synchronized void scheduleJob(final String cron) {
+        triggerEngine.schedule(cron);
     }
     
     /**
@@ -62,18 +52,7 @@ public final class JobScheduleController {
      * @param cron CRON expression
      */
     public synchronized void rescheduleJob(final String cron) {
-        try {
-            CronTrigger trigger = (CronTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
-            if (!scheduler.isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
-                scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createTrigger(cron));
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
-    
-    private CronTrigger createTrigger(final String cron) {
-        return TriggerBuilder.newTrigger().withIdentity(triggerIdentity).withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing()).build();
+        triggerEngine.reschedule(cron);
     }
     
     /**
@@ -82,62 +61,75 @@ public final class JobScheduleController {
      * @return job is pause or not
      */
     public synchronized boolean isPaused() {
-        try {
-            return !scheduler.isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
+        return triggerEngine.isPaused();
     }
     
     /**
      * Pause job.
      */
     public synchronized void pauseJob() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.pauseAll();
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
+        triggerEngine.pause();
     }
     
     /**
      * Resume job.
      */
     public synchronized void resumeJob() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.resumeAll();
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
+        triggerEngine.resume();
     }
     
     /**
      * Trigger job.
      */
     public synchronized void triggerJob() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.triggerJob(jobDetail.getKey());
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
+        triggerEngine.triggerNow();
+    }
+    
+    /**
+     * Queue trigger to fire after current fire completed.
+     * 
+     * <p>Triggers are coalesced into a count, trigger exceeds max queued triggers is dropped.</p>
+     * 
+     * @return trigger is queued or not
+     */
+    public synchronized boolean queueTrigger() {
+        if (queuedTriggerCount >= maxQueuedTriggers) {
+            return false;
+        }
+        queuedTriggerCount++;
+        return true;
+    }
+    
+    /**
+     * Trigger job if there are queued triggers.
+     * 
+     * <p>Only one queued trigger is fired each time, rest are fired one after another when every fire completed.</p>
+     * 
+     * @return queued trigger is fired or not
+     */
+    public synchronized boolean triggerQueuedIfNecessary() {
+        if (0 == queuedTriggerCount) {
+            return false;
         }
+        queuedTriggerCount--;
+        triggerEngine.triggerNow();
+        return true;
+    }
+    
+    /**
+     * Get count of queued triggers.
+     * 
+     * @return count of queued triggers
+     */
+    public synchronized int getQueuedTriggerCount() {
+        return queuedTriggerCount;
     }
     
     /**
      * Shutdown scheduler.
      */
     public synchronized void shutdown() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.shutdown();
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
+        queuedTriggerCount = 0;
+        triggerEngine.shutdown();
     }
 }
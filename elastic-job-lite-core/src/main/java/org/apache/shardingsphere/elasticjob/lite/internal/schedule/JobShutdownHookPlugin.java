@@ -17,37 +17,52 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 
-import org.apache.shardingsphere.elasticjob.lite.internal.election.LeaderService;
-import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceService;
-import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.quartz.listeners.SchedulerListenerSupport;
 import org.quartz.plugins.management.ShutdownHookPlugin;
 import org.quartz.spi.ClassLoadHelper;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Job shutdown hook plugin.
+ * 
+ * <p>Instances of all jobs in scheduler are removed when scheduler shutdown, and instance of job deleted from shared scheduler is removed at once.</p>
  */
 public final class JobShutdownHookPlugin extends ShutdownHookPlugin {
     
-    private String jobName;
+    private final Set<String> jobNames = ConcurrentHashMap.newKeySet();
     
     @Override
     public void initialize(final String name, final Scheduler scheduler, final ClassLoadHelper classLoadHelper) throws SchedulerException {
         super.initialize(name, scheduler, classLoadHelper);
-        jobName = scheduler.getSchedulerName();
+        scheduler.getListenerManager().addSchedulerListener(new JobLifecycleListener());
     }
     
     @Override
     public void shutdown() {
-        CoordinatorRegistryCenter regCenter = JobRegistry.getInstance().getRegCenter(jobName);
-        if (null == regCenter) {
-            return;
+        for (String each : jobNames) {
+            JobInstanceCleaner.clean(each);
+        }
+        jobNames.clear();
+    }
+    
+    private final class JobLifecycleListener extends SchedulerListenerSupport {
+        
+        @Override
+        public void jobAdded(final JobDetail jobDetail) {
+            jobNames.add(jobDetail.getKey().getName());
         }
-        LeaderService leaderService = new LeaderService(regCenter, jobName);
-        if (leaderService.isLeader()) {
-            leaderService.removeLeader();
+        
+        @Override
+        public void jobDeleted(final JobKey jobKey) {
+            if (jobNames.remove(jobKey.getName())) {
+                JobInstanceCleaner.clean(jobKey.getName());
+            }
         }
-        new InstanceService(regCenter, jobName).removeInstance();
     }
 }
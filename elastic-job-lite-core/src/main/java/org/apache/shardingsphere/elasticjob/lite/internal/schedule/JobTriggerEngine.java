@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+/**
+ * Job trigger engine.
+ * 
+ * <p>Trigger engine fires job by CRON expression, one trigger engine controls one job only.</p>
+ */
+public interface JobTriggerEngine {
+    
+    /**
+     * Schedule job.
+     * 
+     * @param cron CRON expression
+     */
+    void schedule(String cron);
+    
+    /**
+     * Reschedule job.
+     * 
+     * @param cron CRON expression
+     */
+    void reschedule(String cron);
+    
+    /**
+     * Judge job is pause or not.
+     * 
+     * @return job is pause or not
+     */
+    boolean isPaused();
+    
+    /**
+     * Pause job.
+     */
+    void pause();
+    
+    /**
+     * Resume job.
+     */
+    void resume();
+    
+    /**
+     * Trigger job now.
+     */
+    void triggerNow();
+    
+    /**
+     * Shutdown trigger engine.
+     */
+    void shutdown();
+}
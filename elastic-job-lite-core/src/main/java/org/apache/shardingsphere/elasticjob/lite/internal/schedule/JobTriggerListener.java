@@ -29,19 +29,32 @@ import org.quartz.listeners.TriggerListenerSupport;
 @RequiredArgsConstructor
 public final class JobTriggerListener extends TriggerListenerSupport {
     
+    private final String jobName;
+    
     private final ExecutionService executionService;
     
     private final ShardingService shardingService;
     
     @Override
     public String getName() {
-        return "JobTriggerListener";
+        return getName(jobName);
+    }
+    
+    static String getName(final String jobName) {
+        return "JobTriggerListener-" + jobName;
     }
     
     @Override
     public void triggerMisfired(final Trigger trigger) {
         if (null != trigger.getPreviousFireTime()) {
-            executionService.setMisfire(shardingService.getLocalShardingItems());
+            triggerMisfired();
         }
     }
+    
+    /**
+     * Trigger misfired by trigger engine other than quartz.
+     */
+    public void triggerMisfired() {
+        executionService.setMisfire(shardingService.getLocalShardingItems());
+    }
 }
@@ -21,13 +21,26 @@ import org.apache.shardingsphere.elasticjob.lite.api.ElasticJob;
 import org.apache.shardingsphere.elasticjob.lite.executor.JobExecutorFactory;
 import org.apache.shardingsphere.elasticjob.lite.executor.JobFacade;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 
 /**
  * Lite job class.
+ * 
+ * <p>
+ * Scheduler thread is released after sharding items submitted, overlapping fire is detected as misfire by job facade.
+ * Queued manual trigger is fired as soon as fire completed.
+ * Fire is registered in job registry until completed, so that shutdown of job waits for sharding items in flight.
+ * </p>
+ * 
+ * <p>
+ * Lite job is not annotated with {@code DisallowConcurrentExecution}, because Quartz would only serialize the submission of sharding items.
+ * The running flag of job claimed by misfire detection is the only guard against overlapping fires, also on shared scheduler.
+ * </p>
  */
 @Setter
+@Slf4j
 public final class LiteJob implements Job {
     
     private ElasticJob elasticJob;
@@ -36,6 +49,27 @@ public final class LiteJob implements Job {
     
     @Override
     public void execute(final JobExecutionContext context) {
-        JobExecutorFactory.getJobExecutor(elasticJob, jobFacade).execute();
+        execute(context.getJobDetail().getKey().getName());
+    }
+    
+    /**
+     * Execute job.
+     * 
+     * @param jobName job name
+     */
+    public void execute(final String jobName) {
+        JobRegistry.getInstance().addFire(jobName, JobExecutorFactory.getJobExecutor(elasticJob, jobFacade).executeAsync().whenComplete((result, cause) -> {
+            if (null != cause) {
+                log.error("Job '{}' executed failure.", jobName, cause);
+            }
+            triggerQueuedIfNecessary(jobName);
+        }));
+    }
+    
+    private void triggerQueuedIfNecessary(final String jobName) {
+        JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
+        if (null != jobScheduleController && !JobRegistry.getInstance().isJobRunning(jobName) && jobScheduleController.triggerQueuedIfNecessary()) {
+            log.info("Job '{}' fired queued trigger, queued triggers left: {}.", jobName, jobScheduleController.getQueuedTriggerCount());
+        }
     }
 }
@@ -36,10 +36,12 @@ import org.apache.shardingsphere.elasticjob.lite.internal.failover.FailoverServi
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionContextService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.lite.internal.sharding.WorkStealingService;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Lite job facade.
@@ -47,6 +49,8 @@ import java.util.List;
 @Slf4j
 public final class LiteJobFacade implements JobFacade {
     
+    private final String jobName;
+    
     private final ConfigurationService configService;
     
     private final ShardingService shardingService;
@@ -57,16 +61,20 @@ public final class LiteJobFacade implements JobFacade {
     
     private final FailoverService failoverService;
     
+    private final WorkStealingService workStealingService;
+    
     private final List<ElasticJobListener> elasticJobListeners;
     
     private final JobEventBus jobEventBus;
     
     public LiteJobFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final List<ElasticJobListener> elasticJobListeners, final JobEventBus jobEventBus) {
+        this.jobName = jobName;
         configService = new ConfigurationService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         executionContextService = new ExecutionContextService(regCenter, jobName);
         executionService = new ExecutionService(regCenter, jobName);
         failoverService = new FailoverService(regCenter, jobName);
+        workStealingService = new WorkStealingService(regCenter, jobName);
         this.elasticJobListeners = elasticJobListeners;
         this.jobEventBus = jobEventBus;
     }
@@ -96,11 +104,57 @@ public final class LiteJobFacade implements JobFacade {
     @Override
     public void registerJobCompleted(final ShardingContexts shardingContexts) {
         executionService.registerJobCompleted(shardingContexts);
+        workStealingService.releaseStolenItems(shardingContexts.getShardingItemParameters().keySet());
         if (configService.load(true).isFailover()) {
             failoverService.updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
         }
     }
     
+    @Override
+    public void clearRunningFlag() {
+        executionService.clearRunningFlag();
+    }
+    
+    @Override
+    public void registerTimeoutItemRunning(final int item) {
+        executionService.registerTimeoutItemRunning(item);
+    }
+    
+    @Override
+    public void registerTimeoutItemFinished(final int item) {
+        executionService.registerTimeoutItemFinished(item);
+    }
+    
+    @Override
+    public void registerExecutionDurations(final Map<Integer, Long> itemDurations) {
+        executionService.registerExecutionDurations(itemDurations);
+    }
+    
+    @Override
+    public Integer getSuggestedBatchSize(final int item) {
+        return executionService.getSuggestedBatchSize(item);
+    }
+    
+    @Override
+    public void registerSuggestedBatchSize(final int item, final int suggestedBatchSize) {
+        executionService.registerSuggestedBatchSize(item, suggestedBatchSize);
+    }
+    
+    @Override
+    public void registerStealableItems(final ShardingContexts shardingContexts) {
+        workStealingService.registerStealableItems(shardingContexts.getShardingItemParameters().keySet());
+    }
+    
+    @Override
+    public boolean claimShardingItem(final int item) {
+        return workStealingService.claimItem(item);
+    }
+    
+    @Override
+    public ShardingContexts getStolenShardingContexts() {
+        return executionContextService.getStolenJobShardingContext(workStealingService.stealItems());
+    }
+    
     @Override
     public ShardingContexts getShardingContexts() {
         boolean isFailover = configService.load(true).isFailover();
@@ -137,10 +191,10 @@ public final class LiteJobFacade implements JobFacade {
     @Override
     public boolean isEligibleForJobRunning() {
         LiteJobConfiguration liteJobConfig = configService.load(true);
-        if (liteJobConfig.getTypeConfig() instanceof DataflowJobConfiguration) {
-            return !shardingService.isNeedSharding() && ((DataflowJobConfiguration) liteJobConfig.getTypeConfig()).isStreamingProcess();    
+        if (liteJobConfig.getTypeConfig() instanceof DataflowJobConfiguration && !((DataflowJobConfiguration) liteJobConfig.getTypeConfig()).isStreamingProcess()) {
+            return false;
         }
-        return !shardingService.isNeedSharding();
+        return JobEligibilityRegistry.getInstance().isEligible(jobName, shardingService::isNeedSharding) && !JobRegistry.getInstance().isShutdown(jobName);
     }
     
     @Override
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.StdSchedulerFactory;
+
+import java.util.Properties;
+
+/**
+ * Quartz job trigger engine.
+ * 
+ * <p>Scheduler may be shared with other jobs, so job is only controlled by its own job key and trigger key.</p>
+ */
+@RequiredArgsConstructor
+public final class QuartzJobTriggerEngine implements JobTriggerEngine {
+    
+    private static Scheduler sharedSchedulerInstance;
+    
+    private static int sharedSchedulerReferenceCount;
+    
+    private final Scheduler scheduler;
+    
+    private final JobDetail jobDetail;
+    
+    private final String triggerIdentity;
+    
+    private final boolean sharedScheduler;
+    
+    public QuartzJobTriggerEngine(final Scheduler scheduler, final JobDetail jobDetail, final String triggerIdentity) {
+        this(scheduler, jobDetail, triggerIdentity, false);
+    }
+    
+    /**
+     * Retain shared scheduler for a job.
+     * 
+     * <p>Shared scheduler is created if absent or shutdown, and it is shutdown when the last job retained it is shutdown.</p>
+     * 
+     * @param quartzProps quartz properties of shared scheduler
+     * @return shared scheduler
+     * @throws SchedulerException scheduler exception
+     */
+    public static synchronized Scheduler retainSharedScheduler(final Properties quartzProps) throws SchedulerException {
+        if (null == sharedSchedulerInstance || sharedSchedulerInstance.isShutdown()) {
+            StdSchedulerFactory factory = new StdSchedulerFactory();
+            factory.initialize(quartzProps);
+            sharedSchedulerInstance = factory.getScheduler();
+            sharedSchedulerReferenceCount = 0;
+        }
+        sharedSchedulerReferenceCount++;
+        return sharedSchedulerInstance;
+    }
+    
+    private static synchronized void releaseSharedScheduler(final Scheduler scheduler) throws SchedulerException {
+        if (scheduler != sharedSchedulerInstance) {
+            return;
+        }
+        sharedSchedulerReferenceCount--;
+        if (sharedSchedulerReferenceCount > 0) {
+            return;
+        }
+        sharedSchedulerInstance = null;
+        scheduler.shutdown();
+    }
+    
+    @Override
+    public void schedule(final String cron) {
+        try {
+            if (!scheduler.checkExists(jobDetail.getKey())) {
+                scheduler.scheduleJob(jobDetail, createTrigger(cron));
+            }
+            scheduler.start();
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public void reschedule(final String cron) {
+        try {
+            CronTrigger trigger = (CronTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
+            if (!scheduler.isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
+                scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createTrigger(cron));
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    private CronTrigger createTrigger(final String cron) {
+        return TriggerBuilder.newTrigger().withIdentity(triggerIdentity).withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing()).build();
+    }
+    
+    @Override
+    public boolean isPaused() {
+        try {
+            return !scheduler.isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public void pause() {
+        try {
+            if (!scheduler.isShutdown()) {
+                scheduler.pauseTrigger(TriggerKey.triggerKey(triggerIdentity));
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public void resume() {
+        try {
+            if (!scheduler.isShutdown()) {
+                scheduler.resumeTrigger(TriggerKey.triggerKey(triggerIdentity));
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public void triggerNow() {
+        try {
+            if (!scheduler.isShutdown()) {
+                scheduler.triggerJob(jobDetail.getKey());
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    /**
+     * Shutdown scheduler.
+     * 
+     * <p>Shared scheduler keeps running for other jobs, only job and trigger listener of this job are removed from it, until the last job retained it is shutdown.</p>
+     */
+    @Override
+    public void shutdown() {
+        try {
+            if (scheduler.isShutdown()) {
+                return;
+            }
+            if (sharedScheduler) {
+                scheduler.deleteJob(jobDetail.getKey());
+                scheduler.getListenerManager().removeTriggerListener(JobTriggerListener.getName(jobDetail.getKey().getName()));
+                releaseSharedScheduler(scheduler);
+            } else {
+                scheduler.shutdown();
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+}
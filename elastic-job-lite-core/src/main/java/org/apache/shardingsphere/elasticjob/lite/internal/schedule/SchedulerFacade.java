@@ -88,7 +88,7 @@ public final class SchedulerFacade {
      * @return job trigger listener
      */
     public JobTriggerListener newJobTriggerListener() {
-        return new JobTriggerListener(executionService, shardingService);
+        return new JobTriggerListener(jobName, executionService, shardingService);
     }
     
     /**
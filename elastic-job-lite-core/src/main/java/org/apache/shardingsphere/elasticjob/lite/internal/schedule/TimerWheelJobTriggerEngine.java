@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
+import org.apache.shardingsphere.elasticjob.lite.util.concurrent.HashedWheelTimer;
+import org.quartz.CronExpression;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer wheel job trigger engine.
+ * 
+ * <p>
+ * All jobs share one hashed wheel timer and one fire thread pool, instead of one quartz scheduler and its threads per job.
+ * CRON expression is evaluated by quartz cron expression, so fire times are same as quartz trigger engine.
+ * Missed fire times are skipped like misfire instruction do nothing of quartz, and reported to misfired job as quartz trigger listener does.
+ * Overlapping fire is detected as misfire by job facade.
+ * Timer and fire thread pool are created when first job scheduled, and stopped when last job shutdown.
+ * </p>
+ */
+public final class TimerWheelJobTriggerEngine implements JobTriggerEngine {
+    
+    private static final long TICK_MILLIS = 10L;
+    
+    private static final int TICKS_PER_WHEEL = 512;
+    
+    private static final int FIRE_THREAD_COUNT = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final Set<TimerWheelJobTriggerEngine> SCHEDULED_ENGINES = new HashSet<>();
+    
+    private static volatile HashedWheelTimer timer;
+    
+    private static volatile ExecutorService fireExecutorService;
+    
+    private static boolean shutdownHookRegistered;
+    
+    private final String jobName;
+    
+    private final Runnable job;
+    
+    private final Runnable misfiredJob;
+    
+    private CronExpression cronExpression;
+    
+    private HashedWheelTimer.Timeout timeout;
+    
+    private Date previousFireTime;
+    
+    private long generation;
+    
+    private boolean scheduled;
+    
+    private boolean paused;
+    
+    private boolean shutdown;
+    
+    public TimerWheelJobTriggerEngine(final String jobName, final Runnable job, final Runnable misfiredJob) {
+        this.jobName = jobName;
+        this.job = job;
+        this.misfiredJob = misfiredJob;
+    }
+    
+    @Override
+    public synchronized void schedule(final String cron) {
+        if (scheduled || shutdown) {
+            return;
+        }
+        cronExpression = createCronExpression(cron);
+        scheduled = true;
+        register(this);
+        scheduleNextFire();
+    }
+    
+    @Override
+    public synchronized void reschedule(final String cron) {
+        if (!scheduled || shutdown || cron.equals(cronExpression.getCronExpression())) {
+            return;
+        }
+        cronExpression = createCronExpression(cron);
+        cancelNextFire();
+        if (!paused) {
+            scheduleNextFire();
+        }
+    }
+    
+    private CronExpression createCronExpression(final String cron) {
+        try {
+            return new CronExpression(cron);
+        } catch (final ParseException ex) {
+            throw new JobConfigurationException("CRON expression '%s' is invalid.", cron);
+        }
+    }
+    
+    @Override
+    public synchronized boolean isPaused() {
+        return !shutdown && paused;
+    }
+    
+    @Override
+    public synchronized void pause() {
+        if (shutdown || paused) {
+            return;
+        }
+        paused = true;
+        cancelNextFire();
+    }
+    
+    @Override
+    public synchronized void resume() {
+        if (shutdown || !paused) {
+            return;
+        }
+        paused = false;
+        if (scheduled) {
+            scheduleNextFire();
+        }
+    }
+    
+    @Override
+    public synchronized void triggerNow() {
+        if (scheduled && !shutdown) {
+            fireExecutorService.execute(job);
+        }
+    }
+    
+    /**
+     * Shutdown trigger engine.
+     * 
+     * <p>Leader and instance of job are removed as quartz trigger engine does, and timer keeps running for other jobs.</p>
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        cancelNextFire();
+        if (scheduled) {
+            unregister(this);
+            JobInstanceCleaner.clean(jobName);
+        }
+    }
+    
+    private void scheduleNextFire() {
+        // Timer may expire a little earlier than fire time, so fire time is not fired twice
+        Date now = new Date();
+        scheduleFire(cronExpression.getNextValidTimeAfter(null == previousFireTime || previousFireTime.before(now) ? now : previousFireTime));
+    }
+    
+    private void scheduleFire(final Date fireTime) {
+        if (null == fireTime) {
+            return;
+        }
+        long fireGeneration = generation;
+        timeout = timer.newTimeout(() -> fire(fireGeneration, fireTime), fireTime.getTime() - System.currentTimeMillis());
+    }
+    
+    private void cancelNextFire() {
+        generation++;
+        if (null != timeout) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+    
+    private synchronized void fire(final long fireGeneration, final Date fireTime) {
+        if (fireGeneration != generation || paused || shutdown) {
+            return;
+        }
+        timeout = null;
+        previousFireTime = fireTime;
+        Date now = new Date();
+        Date nextFireTime = cronExpression.getNextValidTimeAfter(fireTime);
+        if (null == nextFireTime || nextFireTime.after(now)) {
+            fireExecutorService.execute(job);
+            scheduleFire(nextFireTime);
+            return;
+        }
+        // Fire is late for more than one period, it is skipped and reported as misfire, job fires at next fire time after now
+        fireExecutorService.execute(misfiredJob);
+        scheduleNextFire();
+    }
+    
+    private static synchronized void register(final TimerWheelJobTriggerEngine engine) {
+        if (SCHEDULED_ENGINES.isEmpty()) {
+            timer = new HashedWheelTimer("elastic-job-timer-wheel", TICK_MILLIS, TICKS_PER_WHEEL);
+            fireExecutorService = new ThreadPoolExecutor(FIRE_THREAD_COUNT, FIRE_THREAD_COUNT, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    new BasicThreadFactory.Builder().namingPattern("elastic-job-timer-wheel-fire-%d").daemon(true).build());
+        }
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(TimerWheelJobTriggerEngine::shutdownAll, "elastic-job-timer-wheel-shutdown-hook"));
+            shutdownHookRegistered = true;
+        }
+        SCHEDULED_ENGINES.add(engine);
+    }
+    
+    private static synchronized void unregister(final TimerWheelJobTriggerEngine engine) {
+        if (SCHEDULED_ENGINES.remove(engine) && SCHEDULED_ENGINES.isEmpty()) {
+            timer.stop();
+            fireExecutorService.shutdown();
+        }
+    }
+    
+    private static void shutdownAll() {
+        Set<TimerWheelJobTriggerEngine> engines;
+        synchronized (TimerWheelJobTriggerEngine.class) {
+            engines = new HashSet<>(SCHEDULED_ENGINES);
+        }
+        for (TimerWheelJobTriggerEngine each : engines) {
+            each.shutdown();
+        }
+    }
+}
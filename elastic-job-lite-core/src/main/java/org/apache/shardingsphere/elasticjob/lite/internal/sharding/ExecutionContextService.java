@@ -59,6 +59,22 @@ public final class ExecutionContextService {
     public ShardingContexts getJobShardingContext(final List<Integer> shardingItems) {
         LiteJobConfiguration liteJobConfig = configService.load(false);
         removeRunningIfMonitorExecution(liteJobConfig.isMonitorExecution(), shardingItems);
+        return createShardingContexts(liteJobConfig, shardingItems);
+    }
+    
+    /**
+     * Get job sharding context of stolen sharding items.
+     * 
+     * <p>Stolen sharding items are claimed exclusively, so running sharding items are not filtered.</p>
+     * 
+     * @param shardingItems stolen sharding items
+     * @return job sharding context
+     */
+    public ShardingContexts getStolenJobShardingContext(final List<Integer> shardingItems) {
+        return createShardingContexts(configService.load(false), shardingItems);
+    }
+    
+    private ShardingContexts createShardingContexts(final LiteJobConfiguration liteJobConfig, final List<Integer> shardingItems) {
         if (shardingItems.isEmpty()) {
             return new ShardingContexts(buildTaskId(liteJobConfig, shardingItems), liteJobConfig.getJobName(), liteJobConfig.getTypeConfig().getCoreConfig().getShardingTotalCount(), 
                     liteJobConfig.getTypeConfig().getCoreConfig().getJobParameter(), Collections.emptyMap());
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.executor.ShardingContexts;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.CostAwareJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobShardingStrategyFactory;
 import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
@@ -26,13 +29,20 @@ import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCen
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * Execution service.
  */
 public final class ExecutionService {
     
+    private static final double DURATION_SMOOTHING_FACTOR = 0.3;
+    
     private final String jobName;
     
     private final JobNodeStorage jobNodeStorage;
@@ -51,13 +61,10 @@ public final class ExecutionService {
      * @param shardingContexts sharding contexts
      */
     public void registerJobBegin(final ShardingContexts shardingContexts) {
-        JobRegistry.getInstance().setJobRunning(jobName, true);
         if (!configService.load(true).isMonitorExecution()) {
             return;
         }
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            jobNodeStorage.fillEphemeralJobNode(ShardingNode.getRunningNode(each), "");
-        }
+        jobNodeStorage.fillEphemeralJobNodes(getRunningNodes(shardingContexts.getShardingItemParameters().keySet()), "");
     }
     
     /**
@@ -66,13 +73,80 @@ public final class ExecutionService {
      * @param shardingContexts sharding contexts
      */
     public void registerJobCompleted(final ShardingContexts shardingContexts) {
-        JobRegistry.getInstance().setJobRunning(jobName, false);
         if (!configService.load(true).isMonitorExecution()) {
             return;
         }
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(each));
+        jobNodeStorage.removeJobNodesIfExisted(getRunningNodes(shardingContexts.getShardingItemParameters().keySet()));
+    }
+    
+    /**
+     * Register execution durations of sharding items.
+     * 
+     * <p>
+     * Execution durations are persisted as exponential moving average, only if job sharding strategy is cost aware.
+     * </p>
+     * 
+     * @param itemDurations execution durations in milliseconds, key is sharding item
+     */
+    public void registerExecutionDurations(final Map<Integer, Long> itemDurations) {
+        if (itemDurations.isEmpty() || !(JobShardingStrategyFactory.getStrategy(configService.load(true).getJobShardingStrategyType()) instanceof CostAwareJobShardingStrategy)) {
+            return;
+        }
+        Map<String, Long> durationNodes = new LinkedHashMap<>(itemDurations.size(), 1);
+        for (Entry<Integer, Long> entry : itemDurations.entrySet()) {
+            Long previousDuration = getExecutionDuration(entry.getKey());
+            long duration = null == previousDuration
+                    ? entry.getValue() : Math.round(previousDuration * (1 - DURATION_SMOOTHING_FACTOR) + entry.getValue() * DURATION_SMOOTHING_FACTOR);
+            durationNodes.put(ShardingNode.getDurationNode(entry.getKey()), duration);
+        }
+        jobNodeStorage.fillJobNodes(durationNodes);
+    }
+    
+    /**
+     * Get average execution durations of sharding items.
+     * 
+     * @param shardingTotalCount sharding total count
+     * @return average execution durations in milliseconds, key is sharding item, sharding items without execution duration are absent
+     */
+    public Map<Integer, Long> getExecutionDurations(final int shardingTotalCount) {
+        Map<Integer, Long> result = new HashMap<>(shardingTotalCount, 1);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            Long duration = getExecutionDuration(i);
+            if (null != duration) {
+                result.put(i, duration);
+            }
         }
+        return result;
+    }
+    
+    private Long getExecutionDuration(final int item) {
+        String duration = jobNodeStorage.getJobNodeData(ShardingNode.getDurationNode(item));
+        return Strings.isNullOrEmpty(duration) ? null : Long.valueOf(duration);
+    }
+    
+    /**
+     * Get suggested batch size of sharding item.
+     * 
+     * @param item sharding item
+     * @return suggested batch size, null if not registered yet
+     */
+    public Integer getSuggestedBatchSize(final int item) {
+        String batchSize = jobNodeStorage.getJobNodeData(ShardingNode.getBatchSizeNode(item));
+        return Strings.isNullOrEmpty(batchSize) ? null : Integer.valueOf(batchSize);
+    }
+    
+    /**
+     * Register suggested batch size of sharding item.
+     * 
+     * @param item sharding item
+     * @param suggestedBatchSize suggested batch size
+     */
+    public void registerSuggestedBatchSize(final int item, final int suggestedBatchSize) {
+        jobNodeStorage.replaceJobNode(ShardingNode.getBatchSizeNode(item), suggestedBatchSize);
+    }
+    
+    private List<String> getRunningNodes(final Collection<Integer> items) {
+        return items.stream().map(ShardingNode::getRunningNode).collect(Collectors.toList());
     }
     
     /**
@@ -105,7 +179,7 @@ public final class ExecutionService {
             return false;
         }
         for (int each : items) {
-            if (jobNodeStorage.isJobNodeExisted(ShardingNode.getRunningNode(each))) {
+            if (jobNodeStorage.isJobNodeExistedFromCache(ShardingNode.getRunningNode(each))) {
                 return true;
             }
         }
@@ -133,26 +207,58 @@ public final class ExecutionService {
     /**
      * Set misfire flag if sharding items still running.
      * 
+     * <p>Previous execution of current job instance is regarded as running even if monitor execution is disabled,
+     * because scheduler thread does not wait for the completion of execution.
+     * Current job instance is set to running if not misfired, and stays running until running flag is cleared after all executions of the fire completed.</p>
+     * 
      * @param items sharding items need to be set misfire flag
      * @return is misfired for this schedule time or not
      */
     public boolean misfireIfHasRunningItems(final Collection<Integer> items) {
-        if (!hasRunningItems(items)) {
+        if (!hasRunningItems(items) && !JobRegistry.getInstance().hasTimeoutRunningItems(jobName, items) && JobRegistry.getInstance().setJobRunningIfNotRunning(jobName)) {
             return false;
         }
         setMisfire(items);
         return true;
     }
     
+    /**
+     * Register sharding item still running after timeout.
+     * 
+     * <p>
+     * Running node of timeout sharding item is released when the fire completes,
+     * so sharding item is only guarded by current job instance until it finishes.
+     * </p>
+     * 
+     * @param item sharding item
+     */
+    public void registerTimeoutItemRunning(final int item) {
+        JobRegistry.getInstance().addTimeoutRunningItem(jobName, item);
+    }
+    
+    /**
+     * Register sharding item finished after timeout.
+     * 
+     * @param item sharding item
+     */
+    public void registerTimeoutItemFinished(final int item) {
+        JobRegistry.getInstance().removeTimeoutRunningItem(jobName, item);
+    }
+    
+    /**
+     * Clear running flag of current job instance.
+     */
+    public void clearRunningFlag() {
+        JobRegistry.getInstance().setJobRunning(jobName, false);
+    }
+    
     /**
      * Set misfire flag if sharding items still running.
      *
      * @param items sharding items need to be set misfire flag
      */
     public void setMisfire(final Collection<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.createJobNodeIfNeeded(ShardingNode.getMisfireNode(each));
-        }
+        jobNodeStorage.createJobNodesIfNeeded(items.stream().map(ShardingNode::getMisfireNode).collect(Collectors.toList()));
     }
     
     /**
@@ -164,7 +270,7 @@ public final class ExecutionService {
     public List<Integer> getMisfiredJobItems(final Collection<Integer> items) {
         List<Integer> result = new ArrayList<>(items.size());
         for (int each : items) {
-            if (jobNodeStorage.isJobNodeExisted(ShardingNode.getMisfireNode(each))) {
+            if (jobNodeStorage.isJobNodeExistedFromCache(ShardingNode.getMisfireNode(each))) {
                 result.add(each);
             }
         }
@@ -177,9 +283,7 @@ public final class ExecutionService {
      * @param items sharding items need to be cleared
      */
     public void clearMisfire(final Collection<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getMisfireNode(each));
-        }
+        jobNodeStorage.removeJobNodesIfExisted(items.stream().map(ShardingNode::getMisfireNode).collect(Collectors.toList()));
     }
     
     /**
@@ -191,7 +295,7 @@ public final class ExecutionService {
     public List<Integer> getDisabledItems(final List<Integer> items) {
         List<Integer> result = new ArrayList<>(items.size());
         for (int each : items) {
-            if (jobNodeStorage.isJobNodeExisted(ShardingNode.getDisabledNode(each))) {
+            if (jobNodeStorage.isJobNodeExistedFromCache(ShardingNode.getDisabledNode(each))) {
                 result.add(each);
             }
         }
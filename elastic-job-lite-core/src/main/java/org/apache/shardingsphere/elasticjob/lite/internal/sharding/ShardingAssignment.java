@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Sharding assignment.
+ *
+ * <p>Index sharding items by job instance, and job instance by sharding item.</p>
+ */
+public final class ShardingAssignment {
+    
+    private final Map<Integer, String> jobInstanceIds;
+    
+    private final Map<String, List<Integer>> shardingItems;
+    
+    public ShardingAssignment(final Map<Integer, String> jobInstanceIds) {
+        this.jobInstanceIds = new TreeMap<>(jobInstanceIds);
+        shardingItems = new HashMap<>();
+        for (Entry<Integer, String> entry : this.jobInstanceIds.entrySet()) {
+            shardingItems.computeIfAbsent(entry.getValue(), key -> new ArrayList<>()).add(entry.getKey());
+        }
+    }
+    
+    /**
+     * Get job instance ID which sharding item assigned to.
+     *
+     * @param item sharding item
+     * @return job instance ID, null if sharding item is not assigned
+     */
+    public String getJobInstanceId(final int item) {
+        return jobInstanceIds.get(item);
+    }
+    
+    /**
+     * Get sharding items assigned to job instance.
+     *
+     * @param jobInstanceId job instance ID
+     * @return sharding items in ascending order
+     */
+    public List<Integer> getShardingItems(final String jobInstanceId) {
+        List<Integer> result = shardingItems.get(jobInstanceId);
+        return null == result ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+    
+    /**
+     * Get assignment of all sharding items.
+     *
+     * @return map of sharding item and job instance ID
+     */
+    public Map<Integer, String> getJobInstanceIds() {
+        return Collections.unmodifiableMap(jobInstanceIds);
+    }
+}
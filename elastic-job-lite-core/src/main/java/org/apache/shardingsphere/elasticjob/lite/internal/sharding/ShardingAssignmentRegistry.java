@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractWatchedSnapshotRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * Sharding assignment registry.
+ *
+ * <p>Sharding assignment is invalidated by sharding listener when sharding or configuration changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingAssignmentRegistry extends AbstractWatchedSnapshotRegistry<ShardingAssignment> {
+    
+    private static final ShardingAssignmentRegistry INSTANCE = new ShardingAssignmentRegistry();
+    
+    /**
+     * Get instance of sharding assignment registry.
+     *
+     * @return instance of sharding assignment registry
+     */
+    public static ShardingAssignmentRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get sharding assignment of job.
+     *
+     * @param jobName job name
+     * @param loader loader of sharding assignment from registry center
+     * @return sharding assignment
+     */
+    public ShardingAssignment get(final String jobName, final Supplier<ShardingAssignment> loader) {
+        return getSnapshot(jobName, loader);
+    }
+}
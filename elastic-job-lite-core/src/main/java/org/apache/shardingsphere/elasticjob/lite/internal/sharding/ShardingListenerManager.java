@@ -22,8 +22,10 @@ import org.apache.shardingsphere.elasticjob.lite.internal.config.LiteJobConfigur
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractJobListener;
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractListenerManager;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobEligibilityRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerNode;
+import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerStatus;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent.Type;
 
@@ -40,6 +42,8 @@ public final class ShardingListenerManager extends AbstractListenerManager {
     
     private final ServerNode serverNode;
     
+    private final ShardingNode shardingNode;
+    
     private final ShardingService shardingService;
     
     public ShardingListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName) {
@@ -48,6 +52,7 @@ public final class ShardingListenerManager extends AbstractListenerManager {
         configNode = new ConfigurationNode(jobName);
         instanceNode = new InstanceNode(jobName);
         serverNode = new ServerNode(jobName);
+        shardingNode = new ShardingNode(jobName);
         shardingService = new ShardingService(regCenter, jobName);
     }
     
@@ -55,6 +60,10 @@ public final class ShardingListenerManager extends AbstractListenerManager {
     public void start() {
         addDataListener(new ShardingTotalCountChangedJobListener());
         addDataListener(new ListenServersChangedJobListener());
+        addDataListener(new ShardingAssignmentChangedJobListener());
+        addDataListener(new EligibilityChangedJobListener());
+        ShardingAssignmentRegistry.getInstance().register(jobName);
+        JobEligibilityRegistry.getInstance().register(jobName);
     }
     
     class ShardingTotalCountChangedJobListener extends AbstractJobListener {
@@ -88,4 +97,26 @@ public final class ShardingListenerManager extends AbstractListenerManager {
             return serverNode.isServerPath(path);
         }
     }
+    
+    class ShardingAssignmentChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            if (shardingNode.isInstancePath(path) || configNode.isConfigPath(path)) {
+                ShardingAssignmentRegistry.getInstance().invalidate(jobName);
+            }
+        }
+    }
+    
+    class EligibilityChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            if (shardingNode.isNecessaryPath(path)) {
+                JobEligibilityRegistry.getInstance().updateReshardingPending(jobName, Type.NODE_REMOVED != eventType);
+            } else if (!JobRegistry.getInstance().isShutdown(jobName) && serverNode.isLocalServerPath(path)) {
+                JobEligibilityRegistry.getInstance().updateServerDisabled(jobName, Type.NODE_REMOVED == eventType || ServerStatus.DISABLED.name().equals(data));
+            }
+        }
+    }
 }
@@ -39,6 +39,14 @@ public final class ShardingNode {
     
     static final String DISABLED = ROOT + "/%s/disabled";
     
+    static final String DURATION = ROOT + "/%s/duration";
+    
+    static final String STEALABLE = ROOT + "/%s/stealable";
+    
+    static final String STOLEN = ROOT + "/%s/stolen";
+    
+    static final String BATCH_SIZE = ROOT + "/%s/batch_size";
+    
     static final String LEADER_ROOT = LeaderNode.ROOT + "/" + ROOT;
     
     static final String NECESSARY = LEADER_ROOT + "/necessary";
@@ -79,6 +87,22 @@ public final class ShardingNode {
         return String.format(DISABLED, item);
     }
     
+    static String getDurationNode(final int item) {
+        return String.format(DURATION, item);
+    }
+    
+    static String getBatchSizeNode(final int item) {
+        return String.format(BATCH_SIZE, item);
+    }
+    
+    static String getStealableNode(final int item) {
+        return String.format(STEALABLE, item);
+    }
+    
+    static String getStolenNode(final int item) {
+        return String.format(STOLEN, item);
+    }
+    
     /**
      * Get item by running item path.
      *
@@ -95,4 +119,24 @@ public final class ShardingNode {
     private boolean isRunningItemPath(final String path) {
         return path.startsWith(jobNodePath.getFullPath(ROOT)) && path.endsWith(RUNNING_APPENDIX);
     }
+    
+    /**
+     * Judge is sharding instance path or not.
+     *
+     * @param path node path
+     * @return is sharding instance path or not
+     */
+    public boolean isInstancePath(final String path) {
+        return path.startsWith(jobNodePath.getFullPath(ROOT) + "/") && path.endsWith("/" + INSTANCE_APPENDIX);
+    }
+    
+    /**
+     * Judge is resharding necessary path or not.
+     *
+     * @param path node path
+     * @return is resharding necessary path or not
+     */
+    public boolean isNecessaryPath(final String path) {
+        return jobNodePath.getFullPath(NECESSARY).equals(path);
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
 
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.CostAwareJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.IncrementalJobShardingStrategy;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobShardingStrategy;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobShardingStrategyFactory;
@@ -25,18 +27,19 @@ import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationSe
 import org.apache.shardingsphere.elasticjob.lite.internal.election.LeaderService;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceService;
+import org.apache.shardingsphere.elasticjob.lite.internal.listener.JobNodeChangedNotifier;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.TransactionExecutionCallback;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
-import org.apache.shardingsphere.elasticjob.lite.util.concurrent.BlockUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +50,8 @@ import java.util.Map;
 @Slf4j
 public final class ShardingService {
     
+    private static final long WAITING_TIMEOUT_MILLISECONDS = 1000L;
+    
     private final String jobName;
     
     private final JobNodeStorage jobNodeStorage;
@@ -112,23 +117,33 @@ public final class ShardingService {
         int shardingTotalCount = liteJobConfig.getTypeConfig().getCoreConfig().getShardingTotalCount();
         log.debug("Job '{}' sharding begin.", jobName);
         jobNodeStorage.fillEphemeralJobNode(ShardingNode.PROCESSING, "");
-        resetShardingInfo(shardingTotalCount);
         JobShardingStrategy jobShardingStrategy = JobShardingStrategyFactory.getStrategy(liteJobConfig.getJobShardingStrategyType());
-        jobNodeStorage.executeInTransaction(new PersistShardingInfoTransactionExecutionCallback(jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount)));
+        if (jobShardingStrategy instanceof IncrementalJobShardingStrategy) {
+            shardingIncrementally((IncrementalJobShardingStrategy) jobShardingStrategy, availableJobInstances, shardingTotalCount);
+        } else {
+            shardingFully(jobShardingStrategy, availableJobInstances, shardingTotalCount);
+        }
         log.debug("Job '{}' sharding complete.", jobName);
     }
     
+    private void shardingFully(final JobShardingStrategy jobShardingStrategy, final List<JobInstance> availableJobInstances, final int shardingTotalCount) {
+        resetShardingInfo(shardingTotalCount);
+        jobNodeStorage.executeInTransaction(new PersistShardingInfoTransactionExecutionCallback(sharding(jobShardingStrategy, availableJobInstances, shardingTotalCount)));
+    }
+    
     private void blockUntilShardingCompleted() {
-        while (!leaderService.isLeaderUntilBlock() && (jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY) || jobNodeStorage.isJobNodeExisted(ShardingNode.PROCESSING))) {
-            log.debug("Job '{}' sleep short time until sharding completed.", jobName);
-            BlockUtils.waitingShortTime();
+        while (!JobNodeChangedNotifier.getInstance().waitUntil(jobName, () -> leaderService.isLeaderUntilBlock() || !isShardingInProgress(), WAITING_TIMEOUT_MILLISECONDS)) {
+            log.debug("Job '{}' keep waiting until sharding completed.", jobName);
         }
     }
     
+    private boolean isShardingInProgress() {
+        return jobNodeStorage.isJobNodeExistedFromCache(ShardingNode.NECESSARY) || jobNodeStorage.isJobNodeExistedFromCache(ShardingNode.PROCESSING);
+    }
+    
     private void waitingOtherShardingItemCompleted() {
-        while (executionService.hasRunningItems()) {
-            log.debug("Job '{}' sleep short time until other job completed.", jobName);
-            BlockUtils.waitingShortTime();
+        while (!JobNodeChangedNotifier.getInstance().waitUntil(jobName, () -> !executionService.hasRunningItems(), WAITING_TIMEOUT_MILLISECONDS)) {
+            log.debug("Job '{}' keep waiting until other job completed.", jobName);
         }
     }
     
@@ -145,6 +160,48 @@ public final class ShardingService {
         }
     }
     
+    private Map<JobInstance, List<Integer>> sharding(final JobShardingStrategy jobShardingStrategy, final List<JobInstance> availableJobInstances, final int shardingTotalCount) {
+        if (jobShardingStrategy instanceof CostAwareJobShardingStrategy) {
+            return ((CostAwareJobShardingStrategy) jobShardingStrategy).sharding(availableJobInstances, jobName, shardingTotalCount, executionService.getExecutionDurations(shardingTotalCount));
+        }
+        return jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount);
+    }
+    
+    private void shardingIncrementally(final IncrementalJobShardingStrategy jobShardingStrategy, final List<JobInstance> availableJobInstances, final int shardingTotalCount) {
+        List<String> shardingItemNodes = jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT);
+        Map<Integer, String> currentShardingResult = new HashMap<>(shardingTotalCount, 1);
+        List<String> absentShardingItemNodes = new LinkedList<>();
+        for (int i = 0; i < shardingTotalCount; i++) {
+            if (!shardingItemNodes.contains(String.valueOf(i))) {
+                absentShardingItemNodes.add(ShardingNode.ROOT + "/" + i);
+                continue;
+            }
+            String jobInstanceId = jobNodeStorage.getJobNodeDataDirectly(ShardingNode.getInstanceNode(i));
+            if (null != jobInstanceId) {
+                currentShardingResult.put(i, jobInstanceId);
+            }
+        }
+        List<String> removedNodes = new LinkedList<>();
+        for (String each : shardingItemNodes) {
+            if (Integer.parseInt(each) >= shardingTotalCount) {
+                collectRemovedNodes(ShardingNode.ROOT + "/" + each, removedNodes);
+            }
+        }
+        jobNodeStorage.createJobNodesIfNeeded(absentShardingItemNodes);
+        Map<JobInstance, List<Integer>> shardingResults = jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount, currentShardingResult);
+        jobNodeStorage.executeInTransaction(new PersistChangedShardingInfoTransactionExecutionCallback(shardingResults, currentShardingResult, removedNodes), () -> {
+            log.warn("Job '{}' sharding nodes changed during incremental sharding, fall back to full sharding.", jobName);
+            shardingFully(jobShardingStrategy, availableJobInstances, shardingTotalCount);
+        });
+    }
+    
+    private void collectRemovedNodes(final String node, final List<String> removedNodes) {
+        for (String each : jobNodeStorage.getJobNodeChildrenKeys(node)) {
+            collectRemovedNodes(node + "/" + each, removedNodes);
+        }
+        removedNodes.add(node);
+    }
+    
     /**
      * Get sharding items.
      *
@@ -156,14 +213,23 @@ public final class ShardingService {
         if (!serverService.isAvailableServer(jobInstance.getIp())) {
             return Collections.emptyList();
         }
-        List<Integer> result = new LinkedList<>();
+        return new LinkedList<>(getShardingAssignment().getShardingItems(jobInstance.getJobInstanceId()));
+    }
+    
+    private ShardingAssignment getShardingAssignment() {
+        return ShardingAssignmentRegistry.getInstance().get(jobName, this::loadShardingAssignment);
+    }
+    
+    private ShardingAssignment loadShardingAssignment() {
         int shardingTotalCount = configService.load(true).getTypeConfig().getCoreConfig().getShardingTotalCount();
+        Map<Integer, String> jobInstanceIds = new HashMap<>(shardingTotalCount, 1);
         for (int i = 0; i < shardingTotalCount; i++) {
-            if (jobInstance.getJobInstanceId().equals(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
-                result.add(i);
+            String jobInstanceId = jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i));
+            if (null != jobInstanceId) {
+                jobInstanceIds.put(i, jobInstanceId);
             }
         }
-        return result;
+        return new ShardingAssignment(jobInstanceIds);
     }
     
     /**
@@ -185,9 +251,10 @@ public final class ShardingService {
      */
     public boolean hasShardingInfoInOfflineServers() {
         List<String> onlineInstances = jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT);
+        ShardingAssignment shardingAssignment = getShardingAssignment();
         int shardingTotalCount = configService.load(true).getTypeConfig().getCoreConfig().getShardingTotalCount();
         for (int i = 0; i < shardingTotalCount; i++) {
-            if (!onlineInstances.contains(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
+            if (!onlineInstances.contains(shardingAssignment.getJobInstanceId(i))) {
                 return true;
             }
         }
@@ -210,4 +277,38 @@ public final class ShardingService {
             curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(ShardingNode.PROCESSING)).and();
         }
     }
+    
+    @RequiredArgsConstructor
+    class PersistChangedShardingInfoTransactionExecutionCallback implements TransactionExecutionCallback {
+        
+        private final Map<JobInstance, List<Integer>> shardingResults;
+        
+        private final Map<Integer, String> currentShardingResult;
+        
+        private final List<String> removedNodes;
+        
+        @Override
+        public void execute(final CuratorTransactionFinal curatorTransactionFinal) throws Exception {
+            for (String each : removedNodes) {
+                curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(each)).and();
+            }
+            for (Map.Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
+                String jobInstanceId = entry.getKey().getJobInstanceId();
+                for (int shardingItem : entry.getValue()) {
+                    String currentJobInstanceId = currentShardingResult.get(shardingItem);
+                    if (jobInstanceId.equals(currentJobInstanceId)) {
+                        continue;
+                    }
+                    String instanceNodePath = jobNodePath.getFullPath(ShardingNode.getInstanceNode(shardingItem));
+                    if (null == currentJobInstanceId) {
+                        curatorTransactionFinal.create().forPath(instanceNodePath, jobInstanceId.getBytes()).and();
+                    } else {
+                        curatorTransactionFinal.setData().forPath(instanceNodePath, jobInstanceId.getBytes()).and();
+                    }
+                }
+            }
+            curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(ShardingNode.NECESSARY)).and();
+            curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(ShardingNode.PROCESSING)).and();
+        }
+    }
 }
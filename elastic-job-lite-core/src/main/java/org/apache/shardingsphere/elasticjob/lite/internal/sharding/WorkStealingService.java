@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Work stealing service.
+ *
+ * <p>
+ * Sharding items which are not started are published as stealable when work stealing is enabled.
+ * Owner and idle job instances claim the stealable sharding item by removing its stealable node, only one of them wins.
+ * Stealer is recorded in stolen node until stolen sharding item completed, so that stolen sharding item fails over if stealer crashed.
+ * </p>
+ */
+public final class WorkStealingService {
+    
+    private final String jobName;
+    
+    private final JobNodeStorage jobNodeStorage;
+    
+    private final ConfigurationService configService;
+    
+    public WorkStealingService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
+        jobNodeStorage = new JobNodeStorage(regCenter, jobName);
+        configService = new ConfigurationService(regCenter, jobName);
+    }
+    
+    /**
+     * Register sharding items as stealable.
+     *
+     * @param items sharding items
+     */
+    public void registerStealableItems(final Collection<Integer> items) {
+        if (items.isEmpty() || !isWorkStealing()) {
+            return;
+        }
+        List<String> stealableNodes = new ArrayList<>(items.size());
+        for (int each : items) {
+            stealableNodes.add(ShardingNode.getStealableNode(each));
+        }
+        jobNodeStorage.fillEphemeralJobNodes(stealableNodes, JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
+    }
+    
+    /**
+     * Claim sharding item before executing it.
+     *
+     * @param item sharding item
+     * @return claimed by current job instance or not, always true if work stealing is disabled
+     */
+    public boolean claimItem(final int item) {
+        return !isWorkStealing() || jobNodeStorage.tryRemoveJobNode(ShardingNode.getStealableNode(item));
+    }
+    
+    /**
+     * Steal one sharding item which is not started by its owner.
+     *
+     * <p>Steal from the last sharding item, because owners start sharding items in ascending order.</p>
+     *
+     * @return stolen sharding items, empty if nothing stolen
+     */
+    public List<Integer> stealItems() {
+        if (!isWorkStealing()) {
+            return Collections.emptyList();
+        }
+        int shardingTotalCount = configService.load(true).getTypeConfig().getCoreConfig().getShardingTotalCount();
+        for (int i = shardingTotalCount - 1; i >= 0; i--) {
+            String stealableNode = ShardingNode.getStealableNode(i);
+            if (jobNodeStorage.isJobNodeExistedFromCache(stealableNode) && jobNodeStorage.tryRemoveJobNode(stealableNode)) {
+                jobNodeStorage.fillJobNode(ShardingNode.getStolenNode(i), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
+                return Collections.singletonList(i);
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    /**
+     * Release stolen sharding items after they completed.
+     *
+     * @param items completed sharding items
+     */
+    public void releaseStolenItems(final Collection<Integer> items) {
+        if (items.isEmpty() || !isWorkStealing()) {
+            return;
+        }
+        List<String> stolenNodes = new ArrayList<>(items.size());
+        for (int each : items) {
+            stolenNodes.add(ShardingNode.getStolenNode(each));
+        }
+        jobNodeStorage.removeJobNodesIfExisted(stolenNodes);
+    }
+    
+    /**
+     * Get sharding items stolen by job instance.
+     *
+     * @param jobInstanceId job instance ID
+     * @return sharding items stolen by job instance
+     */
+    public List<Integer> getStolenItems(final String jobInstanceId) {
+        if (!isWorkStealing()) {
+            return Collections.emptyList();
+        }
+        int shardingTotalCount = configService.load(true).getTypeConfig().getCoreConfig().getShardingTotalCount();
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < shardingTotalCount; i++) {
+            if (jobInstanceId.equals(jobNodeStorage.getJobNodeData(ShardingNode.getStolenNode(i)))) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isWorkStealing() {
+        return configService.load(true).getTypeConfig().getCoreConfig().isWorkStealing();
+    }
+}
@@ -17,23 +17,40 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.storage;
 
+import com.google.common.base.Charsets;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
+import org.apache.curator.framework.api.transaction.CuratorTransactionResult;
+import org.apache.curator.framework.api.transaction.OperationType;
 import org.apache.curator.framework.recipes.cache.TreeCache;
 import org.apache.curator.framework.recipes.cache.TreeCacheListener;
-import org.apache.curator.framework.recipes.leader.LeaderLatch;
 import org.apache.curator.framework.state.ConnectionStateListener;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.lite.reg.exception.RegExceptionHandler;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Job node storage.
  */
 public final class JobNodeStorage {
     
+    private static final int MAX_CREATE_PARENT_NODES_ATTEMPTS = 3;
+    
+    private static final ConcurrentHashMap<String, LeaderLatchHolder> LEADER_LATCH_HOLDERS = new ConcurrentHashMap<>();
+    
     private final CoordinatorRegistryCenter regCenter;
     
     private final String jobName;
@@ -56,6 +73,16 @@ public final class JobNodeStorage {
         return regCenter.isExisted(jobNodePath.getFullPath(node));
     }
     
+    /**
+     * Judge is job node existed or not from cache.
+     * 
+     * @param node node
+     * @return is job node existed or not
+     */
+    public boolean isJobNodeExistedFromCache(final String node) {
+        return regCenter.isExistedFromCache(jobNodePath.getFullPath(node));
+    }
+    
     /**
      * Judge is job root node existed or not.
      *
@@ -117,6 +144,99 @@ public final class JobNodeStorage {
         }
     }
     
+    /**
+     * Create job nodes if needed in one transaction.
+     * 
+     * <p>Nodes already existed in cache are skipped.
+     * Create nodes one by one if transaction failed because some nodes already existed or job root node is not existed.</p>
+     * 
+     * @param nodes nodes
+     */
+    public void createJobNodesIfNeeded(final Collection<String> nodes) {
+        List<String> absentNodes = nodes.stream().filter(each -> !isJobNodeExistedFromCache(each)).collect(Collectors.toList());
+        if (absentNodes.isEmpty()) {
+            return;
+        }
+        executeInTransaction(curatorTransactionFinal -> {
+            createAbsentParentNodes(curatorTransactionFinal, absentNodes);
+            for (String each : absentNodes) {
+                curatorTransactionFinal.create().forPath(jobNodePath.getFullPath(each), new byte[0]).and();
+            }
+        }, () -> absentNodes.forEach(this::createJobNodeIfNeeded));
+    }
+    
+    /**
+     * Create child job nodes in one transaction and get stat of parent node.
+     * 
+     * <p>
+     * Stat of parent node is returned by the transaction which touches parent node after child nodes created, 
+     * so children count of parent node is exact for every creator in the order of transactions without another registry center call.
+     * If transaction failed because some nodes already existed or parent node is removed, existence of nodes is checked directly
+     * and transaction is retried with missing nodes only, so that stat of parent node still comes from the committed transaction.
+     * Every failed transaction means another creator has created some of the nodes, so transaction is retried at most once for every child node
+     * and a few more times for parent nodes.
+     * </p>
+     * 
+     * @param parentNode parent node
+     * @param childNodes child nodes
+     * @return created child nodes with stat of parent node, null if child nodes can not be created
+     */
+    public CreatedChildNodes createJobChildNodes(final String parentNode, final Collection<String> childNodes) {
+        Collection<String> absentChildNodes = childNodes;
+        Predicate<String> existedChecker = this::isJobNodeExistedFromCache;
+        int maxAttempts = childNodes.size() + MAX_CREATE_PARENT_NODES_ATTEMPTS;
+        int attempts = 0;
+        while (true) {
+            try {
+                return commitJobChildNodes(parentNode, absentChildNodes, existedChecker);
+            } catch (final KeeperException.NodeExistsException | KeeperException.NoNodeException ex) {
+                if (++attempts >= maxAttempts) {
+                    RegExceptionHandler.handleException(ex);
+                    return null;
+                }
+                existedChecker = this::isJobNodeExisted;
+                absentChildNodes = childNodes.stream().filter(each -> !isJobNodeExisted(each)).collect(Collectors.toList());
+            //CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+            //CHECKSTYLE:ON
+                RegExceptionHandler.handleException(ex);
+                return null;
+            }
+        }
+    }
+    
+    private CreatedChildNodes commitJobChildNodes(final String parentNode, final Collection<String> childNodes, final Predicate<String> existedChecker) throws Exception {
+        CuratorTransactionFinal curatorTransactionFinal = getClient().inTransaction().check().forPath("/").and();
+        createAbsentParentNodes(curatorTransactionFinal, childNodes, existedChecker);
+        for (String each : childNodes) {
+            curatorTransactionFinal.create().forPath(jobNodePath.getFullPath(each), new byte[0]).and();
+        }
+        curatorTransactionFinal.setData().forPath(jobNodePath.getFullPath(parentNode), new byte[0]).and();
+        for (CuratorTransactionResult each : curatorTransactionFinal.commit()) {
+            if (OperationType.SET_DATA == each.getType()) {
+                return new CreatedChildNodes(each.getResultStat(), childNodes.size());
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Get stat of job node directly.
+     * 
+     * @param node node
+     * @return stat of job node, null if job node is not existed
+     */
+    public Stat getJobNodeStat(final String node) {
+        try {
+            return getClient().checkExists().forPath(jobNodePath.getFullPath(node));
+        //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+        //CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+            return null;
+        }
+    }
+    
     /**
      * Remove job node if existed.
      * 
@@ -127,7 +247,49 @@ public final class JobNodeStorage {
             regCenter.remove(jobNodePath.getFullPath(node));
         }
     }
-        
+    
+    /**
+     * Remove job nodes if existed in one transaction.
+     * 
+     * <p>Nodes not existed in cache are skipped.
+     * Remove nodes one by one if transaction failed because some nodes are not existed.</p>
+     * 
+     * @param nodes nodes
+     */
+    public void removeJobNodesIfExisted(final Collection<String> nodes) {
+        List<String> existedNodes = nodes.stream().filter(this::isJobNodeExistedFromCache).collect(Collectors.toList());
+        if (existedNodes.isEmpty()) {
+            return;
+        }
+        executeInTransaction(curatorTransactionFinal -> {
+            for (String each : existedNodes) {
+                curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(each)).and();
+            }
+        }, () -> nodes.forEach(this::removeJobNodeIfExisted));
+    }
+    
+    /**
+     * Try to remove job node.
+     * 
+     * <p>Only one of the concurrent removers succeeds, so removing can be used to claim the node.</p>
+     * 
+     * @param node node
+     * @return removed by current caller or not
+     */
+    public boolean tryRemoveJobNode(final String node) {
+        try {
+            getClient().delete().forPath(jobNodePath.getFullPath(node));
+            return true;
+        } catch (final KeeperException.NoNodeException ex) {
+            return false;
+        //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+        //CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+            return false;
+        }
+    }
+    
     /**
      * Fill job node.
      *
@@ -138,6 +300,31 @@ public final class JobNodeStorage {
         regCenter.persist(jobNodePath.getFullPath(node), value.toString());
     }
     
+    /**
+     * Fill job nodes in one transaction.
+     * 
+     * <p>Fill nodes one by one if transaction failed because cached node status is out of date.</p>
+     * 
+     * @param nodes nodes and data of job nodes
+     */
+    public void fillJobNodes(final Map<String, ?> nodes) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        executeInTransaction(curatorTransactionFinal -> {
+            createAbsentParentNodes(curatorTransactionFinal, nodes.keySet());
+            for (Map.Entry<String, ?> entry : nodes.entrySet()) {
+                String fullPath = jobNodePath.getFullPath(entry.getKey());
+                byte[] data = entry.getValue().toString().getBytes(Charsets.UTF_8);
+                if (isJobNodeExistedFromCache(entry.getKey())) {
+                    curatorTransactionFinal.setData().forPath(fullPath, data).and();
+                } else {
+                    curatorTransactionFinal.create().forPath(fullPath, data).and();
+                }
+            }
+        }, () -> nodes.forEach(this::fillJobNode));
+    }
+    
     /**
      * Fill ephemeral job node.
      * 
@@ -148,6 +335,31 @@ public final class JobNodeStorage {
         regCenter.persistEphemeral(jobNodePath.getFullPath(node), value.toString());
     }
     
+    /**
+     * Fill ephemeral job nodes in one transaction.
+     * 
+     * <p>Fill nodes one by one if transaction failed because cached node status is out of date.</p>
+     * 
+     * @param nodes nodes
+     * @param value data of job nodes
+     */
+    public void fillEphemeralJobNodes(final Collection<String> nodes, final Object value) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        byte[] data = value.toString().getBytes(Charsets.UTF_8);
+        executeInTransaction(curatorTransactionFinal -> {
+            createAbsentParentNodes(curatorTransactionFinal, nodes);
+            for (String each : nodes) {
+                String fullPath = jobNodePath.getFullPath(each);
+                if (isJobNodeExistedFromCache(each)) {
+                    curatorTransactionFinal.delete().forPath(fullPath).and();
+                }
+                curatorTransactionFinal.create().withMode(CreateMode.EPHEMERAL).forPath(fullPath, data).and();
+            }
+        }, () -> nodes.forEach(each -> fillEphemeralJobNode(each, value)));
+    }
+    
     /**
      * Update job node.
      * 
@@ -194,17 +406,60 @@ public final class JobNodeStorage {
         }
     }
     
+    /**
+     * Execute operator in transaction, run fallback if nodes operated in transaction are changed concurrently.
+     * 
+     * @param callback execute callback
+     * @param fallback fallback when transaction failed with node existed or node not existed
+     */
+    public void executeInTransaction(final TransactionExecutionCallback callback, final Runnable fallback) {
+        try {
+            CuratorTransactionFinal curatorTransactionFinal = getClient().inTransaction().check().forPath("/").and();
+            callback.execute(curatorTransactionFinal);
+            curatorTransactionFinal.commit();
+        } catch (final KeeperException.NodeExistsException | KeeperException.NoNodeException ex) {
+            fallback.run();
+        //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+        //CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private void createAbsentParentNodes(final CuratorTransactionFinal curatorTransactionFinal, final Collection<String> nodes) throws Exception {
+        createAbsentParentNodes(curatorTransactionFinal, nodes, this::isJobNodeExistedFromCache);
+    }
+    
+    private void createAbsentParentNodes(final CuratorTransactionFinal curatorTransactionFinal, final Collection<String> nodes, final Predicate<String> existedChecker) throws Exception {
+        Set<String> checkedNodes = new HashSet<>();
+        Set<String> absentParentNodes = new LinkedHashSet<>();
+        for (String each : nodes) {
+            int index = each.indexOf('/');
+            while (index > 0) {
+                String parentNode = each.substring(0, index);
+                if (checkedNodes.add(parentNode) && !existedChecker.test(parentNode)) {
+                    absentParentNodes.add(parentNode);
+                }
+                index = each.indexOf('/', index + 1);
+            }
+        }
+        for (String each : absentParentNodes) {
+            curatorTransactionFinal.create().forPath(jobNodePath.getFullPath(each), new byte[0]).and();
+        }
+    }
+    
     /**
      * Execute in leader server.
      * 
+     * <p>Concurrent callers in same JVM share one leader latch, which is kept until no caller is waiting.</p>
+     * 
      * @param latchNode node for leader latch
      * @param callback execute callback
      */
     public void executeInLeader(final String latchNode, final LeaderExecutionCallback callback) {
-        try (LeaderLatch latch = new LeaderLatch(getClient(), jobNodePath.getFullPath(latchNode))) {
-            latch.start();
-            latch.await();
-            callback.execute();
+        String latchPath = jobNodePath.getFullPath(latchNode);
+        try {
+            LEADER_LATCH_HOLDERS.computeIfAbsent(latchPath, LeaderLatchHolder::new).execute(getClient(), callback);
         //CHECKSTYLE:OFF
         } catch (final Exception ex) {
         //CHECKSTYLE:ON
@@ -212,6 +467,23 @@ public final class JobNodeStorage {
         }
     }
     
+    /**
+     * Release leader latches held by job.
+     * 
+     * @param jobName job name
+     */
+    public static void releaseLeaderLatches(final String jobName) {
+        String latchPathPrefix = String.format("/%s/", jobName);
+        for (String each : LEADER_LATCH_HOLDERS.keySet()) {
+            if (each.startsWith(latchPathPrefix)) {
+                LeaderLatchHolder leaderLatchHolder = LEADER_LATCH_HOLDERS.remove(each);
+                if (null != leaderLatchHolder) {
+                    leaderLatchHolder.close();
+                }
+            }
+        }
+    }
+    
     private void handleException(final Exception ex) {
         if (ex instanceof InterruptedException) {
             Thread.currentThread().interrupt();
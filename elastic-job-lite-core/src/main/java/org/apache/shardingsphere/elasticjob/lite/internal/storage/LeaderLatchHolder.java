@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.leader.LeaderLatch;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Leader latch holder.
+ * 
+ * <p>
+ * Leader latch is shared by all callers of same latch node in one JVM, callers queue on a local lock instead of contending in registry center.
+ * Leader latch is acquired by the first caller and kept while callers are waiting behind it. Once no caller is waiting, leader latch is still kept
+ * for an idle grace period, so that sequential calls of one failover or sharding round reuse it, and released after that so that other job instances are not starved.
+ * Leader latch is only re-acquired when it was released, leadership is lost or registry center client changed.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class LeaderLatchHolder {
+    
+    private static final long DEFAULT_IDLE_GRACE_MILLISECONDS = 500L;
+    
+    private static final ScheduledThreadPoolExecutor IDLE_RELEASE_EXECUTOR = createIdleReleaseExecutor();
+    
+    private final String latchPath;
+    
+    private final long idleGraceMilliseconds;
+    
+    private final ReentrantLock localLock = new ReentrantLock(true);
+    
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    
+    private CuratorFramework latchClient;
+    
+    private LeaderLatch latch;
+    
+    private ScheduledFuture<?> idleRelease;
+    
+    LeaderLatchHolder(final String latchPath) {
+        this(latchPath, DEFAULT_IDLE_GRACE_MILLISECONDS);
+    }
+    
+    private static ScheduledThreadPoolExecutor createIdleReleaseExecutor() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().namingPattern("elastic-job-leader-latch-release-%d").daemon(true).build());
+        result.setRemoveOnCancelPolicy(true);
+        return result;
+    }
+    
+    /**
+     * Execute callback when leader latch acquired.
+     * 
+     * @param client registry center client
+     * @param callback execute callback
+     * @throws Exception exception
+     */
+    void execute(final CuratorFramework client, final LeaderExecutionCallback callback) throws Exception {
+        waitingCount.incrementAndGet();
+        try {
+            localLock.lockInterruptibly();
+        } catch (final InterruptedException ex) {
+            waitingCount.decrementAndGet();
+            throw ex;
+        }
+        try {
+            cancelIdleRelease();
+            acquire(client);
+            callback.execute();
+        } finally {
+            if (0 == waitingCount.decrementAndGet()) {
+                scheduleIdleRelease();
+            }
+            localLock.unlock();
+        }
+    }
+    
+    private void acquire(final CuratorFramework client) throws Exception {
+        if (null != latch && latchClient == client && latch.hasLeadership()) {
+            return;
+        }
+        release();
+        LeaderLatch acquiringLatch = new LeaderLatch(client, latchPath);
+        latchClient = client;
+        latch = acquiringLatch;
+        long startNanoTime = System.nanoTime();
+        acquiringLatch.start();
+        acquiringLatch.await();
+        log.debug("Leader latch '{}' acquired in {} ms", latchPath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanoTime));
+    }
+    
+    /**
+     * Close leader latch holder and release leader latch if held.
+     * 
+     * <p>Caller executing callback is waited until it completes.</p>
+     */
+    void close() {
+        localLock.lock();
+        try {
+            cancelIdleRelease();
+            release();
+        } catch (final IOException ex) {
+            log.warn("Release leader latch '{}' failure", latchPath, ex);
+        } finally {
+            localLock.unlock();
+        }
+    }
+    
+    private void cancelIdleRelease() {
+        if (null != idleRelease) {
+            idleRelease.cancel(false);
+            idleRelease = null;
+        }
+    }
+    
+    private void scheduleIdleRelease() throws IOException {
+        if (null == latch) {
+            return;
+        }
+        if (idleGraceMilliseconds <= 0L) {
+            release();
+            return;
+        }
+        idleRelease = IDLE_RELEASE_EXECUTOR.schedule(this::releaseIfIdle, idleGraceMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private void releaseIfIdle() {
+        // Caller holding or waiting for local lock schedules another release when it completes.
+        if (!localLock.tryLock()) {
+            return;
+        }
+        try {
+            if (0 == waitingCount.get()) {
+                idleRelease = null;
+                release();
+            }
+        } catch (final IOException ex) {
+            log.warn("Release leader latch '{}' failure", latchPath, ex);
+        } finally {
+            localLock.unlock();
+        }
+    }
+    
+    private void release() throws IOException {
+        if (null == latch) {
+            return;
+        }
+        LeaderLatch releasingLatch = latch;
+        latch = null;
+        latchClient = null;
+        releasingLatch.close();
+    }
+}
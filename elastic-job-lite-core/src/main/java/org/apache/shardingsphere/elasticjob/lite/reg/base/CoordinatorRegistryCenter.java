@@ -48,6 +48,45 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     int getNumChildren(String key);
     
+    /**
+     * Judge node is exist or not from cache.
+     * 
+     * <p>
+     * Cached reads are served by the watched cache which registered via {@link #addCacheData(String)},
+     * the cache is refreshed asynchronously by registry center events, so the result may lag behind the latest writes, even the writes of current client.
+     * Use {@link #isExisted(String)} if read after write consistency is required.
+     * Read from registry center directly if no initialized cache covers the key or the connection of cache is suspended.
+     * </p>
+     * 
+     * @param key key
+     * @return node is exist or not
+     */
+    boolean isExistedFromCache(String key);
+    
+    /**
+     * Get children keys from cache.
+     * 
+     * <p>
+     * Consistency is the same as {@link #isExistedFromCache(String)}.
+     * </p>
+     * 
+     * @param key key
+     * @return children keys
+     */
+    List<String> getChildrenKeysFromCache(String key);
+    
+    /**
+     * Get children number from cache.
+     * 
+     * <p>
+     * Consistency is the same as {@link #isExistedFromCache(String)}.
+     * </p>
+     * 
+     * @param key key
+     * @return children number
+     */
+    int getNumChildrenFromCache(String key);
+    
     /**
      * Persist ephemeral data.
      * 
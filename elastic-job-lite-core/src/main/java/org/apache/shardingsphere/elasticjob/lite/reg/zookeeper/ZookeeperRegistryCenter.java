@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.lite.reg.zookeeper;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Sets;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,7 @@ import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.TreeCache;
+import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
@@ -38,11 +40,13 @@ import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 import org.apache.zookeeper.data.Stat;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -57,6 +61,10 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     private final Map<String, TreeCache> caches = new ConcurrentHashMap<>();
     
+    private final Set<TreeCache> initializedCaches = Sets.newConcurrentHashSet();
+    
+    private final Set<TreeCache> suspendedCaches = Sets.newConcurrentHashSet();
+    
     @Getter
     private CuratorFramework client;
     
@@ -141,11 +149,17 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         return getDirectly(key);
     }
     
+    /*
+     * Look up ancestor paths of key from the shortest one, cache of job is found by its first path segment.
+     */
     private TreeCache findTreeCache(final String key) {
-        for (Entry<String, TreeCache> entry : caches.entrySet()) {
-            if (key.startsWith(entry.getKey())) {
-                return entry.getValue();
+        int index = key.indexOf('/', 1);
+        while (index > 0) {
+            TreeCache result = caches.get(key.substring(0, index + 1));
+            if (null != result) {
+                return result;
             }
+            index = key.indexOf('/', index + 1);
         }
         return null;
     }
@@ -190,7 +204,46 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         }
         return 0;
     }
-
+    
+    @Override
+    public boolean isExistedFromCache(final String key) {
+        TreeCache cache = findAvailableTreeCache(key);
+        if (null == cache) {
+            return isExisted(key);
+        }
+        return null != cache.getCurrentData(key);
+    }
+    
+    @Override
+    public List<String> getChildrenKeysFromCache(final String key) {
+        TreeCache cache = findAvailableTreeCache(key);
+        if (null == cache) {
+            return getChildrenKeys(key);
+        }
+        Map<String, ChildData> children = cache.getCurrentChildren(key);
+        if (null == children) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(children.keySet());
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+    
+    @Override
+    public int getNumChildrenFromCache(final String key) {
+        TreeCache cache = findAvailableTreeCache(key);
+        if (null == cache) {
+            return getNumChildren(key);
+        }
+        Map<String, ChildData> children = cache.getCurrentChildren(key);
+        return null == children ? 0 : children.size();
+    }
+    
+    private TreeCache findAvailableTreeCache(final String key) {
+        TreeCache result = findTreeCache(key);
+        return null != result && initializedCaches.contains(result) && !suspendedCaches.contains(result) ? result : null;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
@@ -300,6 +353,7 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     @Override
     public void addCacheData(final String cachePath) {
         TreeCache cache = new TreeCache(client, cachePath);
+        cache.getListenable().addListener((curatorFramework, event) -> updateCacheState(cache, event.getType()));
         try {
             cache.start();
         //CHECKSTYLE:OFF
@@ -310,10 +364,29 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         caches.put(cachePath + "/", cache);
     }
     
+    private void updateCacheState(final TreeCache cache, final TreeCacheEvent.Type eventType) {
+        switch (eventType) {
+            case INITIALIZED:
+                initializedCaches.add(cache);
+                break;
+            case CONNECTION_SUSPENDED:
+            case CONNECTION_LOST:
+                suspendedCaches.add(cache);
+                break;
+            case CONNECTION_RECONNECTED:
+                suspendedCaches.remove(cache);
+                break;
+            default:
+                break;
+        }
+    }
+    
     @Override
     public void evictCacheData(final String cachePath) {
         TreeCache cache = caches.remove(cachePath + "/");
         if (null != cache) {
+            initializedCaches.remove(cache);
+            suspendedCaches.remove(cache);
             cache.close();
         }
     }
@@ -24,6 +24,7 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -37,9 +38,14 @@ public final class ElasticJobExecutorService {
     private final BlockingQueue<Runnable> workQueue;
     
     public ElasticJobExecutorService(final String namingPattern, final int threadSize) {
-        workQueue = new LinkedBlockingQueue<>();
-        threadPoolExecutor = new ThreadPoolExecutor(
-                threadSize, threadSize, 5L, TimeUnit.MINUTES, workQueue, new BasicThreadFactory.Builder().namingPattern(Joiner.on("-").join(namingPattern, "%s")).build());
+        this(namingPattern, threadSize, threadSize, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    public ElasticJobExecutorService(final String namingPattern, final int coreSize, final int maxSize,
+                                     final BlockingQueue<Runnable> workQueue, final RejectedExecutionHandler rejectedExecutionHandler) {
+        this.workQueue = workQueue;
+        threadPoolExecutor = new ThreadPoolExecutor(coreSize, maxSize, 5L, TimeUnit.MINUTES, workQueue,
+                new BasicThreadFactory.Builder().namingPattern(Joiner.on("-").join(namingPattern, "%s")).build(), rejectedExecutionHandler);
         threadPoolExecutor.allowCoreThreadTimeOut(true);
     }
     
@@ -52,6 +58,24 @@ public final class ElasticJobExecutorService {
         return MoreExecutors.listeningDecorator(MoreExecutors.getExitingExecutorService(threadPoolExecutor));
     }
 
+    /**
+     * Resize thread pool.
+     * 
+     * @param coreSize core size of thread pool
+     * @param maxSize max size of thread pool
+     * @param rejectedExecutionHandler rejected execution handler
+     */
+    public void resize(final int coreSize, final int maxSize, final RejectedExecutionHandler rejectedExecutionHandler) {
+        if (maxSize < threadPoolExecutor.getCorePoolSize()) {
+            threadPoolExecutor.setCorePoolSize(coreSize);
+            threadPoolExecutor.setMaximumPoolSize(maxSize);
+        } else {
+            threadPoolExecutor.setMaximumPoolSize(maxSize);
+            threadPoolExecutor.setCorePoolSize(coreSize);
+        }
+        threadPoolExecutor.setRejectedExecutionHandler(rejectedExecutionHandler);
+    }
+    
     /**
      * Whether the threadPoolExecutor has been shut down.
      *
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.util.concurrent;
+
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed wheel timer.
+ *
+ * <p>
+ * Timeouts are hashed into buckets of a wheel by their deadlines, and the worker thread only visits one bucket every tick,
+ * so adding and cancelling timeout costs constant time no matter how many timeouts are pending.
+ * Timeout never expires before its deadline, and expires at most one tick later than its deadline.
+ * Tasks run in worker thread, so they should be short and never block.
+ * </p>
+ */
+@Slf4j
+public final class HashedWheelTimer {
+    
+    private final long tickNanos;
+    
+    private final List<List<Timeout>> wheel;
+    
+    private final int mask;
+    
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final long startTime;
+    
+    private final Thread workerThread;
+    
+    private volatile boolean stopped;
+    
+    public HashedWheelTimer(final String threadName, final long tickMillis, final int ticksPerWheel) {
+        Preconditions.checkArgument(tickMillis > 0, "tickMillis should larger than zero.");
+        Preconditions.checkArgument(ticksPerWheel > 0 && 0 == (ticksPerWheel & (ticksPerWheel - 1)), "ticksPerWheel should be power of two.");
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        wheel = new ArrayList<>(ticksPerWheel);
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        mask = ticksPerWheel - 1;
+        startTime = System.nanoTime();
+        workerThread = new Thread(this::work, threadName);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+    
+    /**
+     * Schedule task to run after delay.
+     *
+     * @param task task to run
+     * @param delayMillis delay milliseconds
+     * @return timeout which can be cancelled
+     */
+    public Timeout newTimeout(final Runnable task, final long delayMillis) {
+        Preconditions.checkState(!stopped, "Timer has been stopped.");
+        Timeout result = new Timeout(task, System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, delayMillis)));
+        pendingTimeouts.add(result);
+        return result;
+    }
+    
+    /**
+     * Stop timer, pending timeouts will never expire.
+     */
+    public void stop() {
+        stopped = true;
+        workerThread.interrupt();
+    }
+    
+    private void work() {
+        long tick = 0L;
+        while (!stopped) {
+            if (!waitForNextTick(tick)) {
+                break;
+            }
+            transferPendingTimeouts(tick);
+            expireTimeouts(wheel.get((int) (tick & mask)));
+            tick++;
+        }
+        pendingTimeouts.clear();
+    }
+    
+    private boolean waitForNextTick(final long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0L) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (final InterruptedException ex) {
+                if (stopped) {
+                    return false;
+                }
+            }
+        }
+    }
+    
+    private void transferPendingTimeouts(final long tick) {
+        Timeout each;
+        while (null != (each = pendingTimeouts.poll())) {
+            if (each.isCancelled()) {
+                continue;
+            }
+            long expireTick = Math.max(each.deadline / tickNanos, tick);
+            each.remainingRounds = (expireTick - tick) / wheel.size();
+            wheel.get((int) (expireTick & mask)).add(each);
+        }
+    }
+    
+    private void expireTimeouts(final List<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout each = iterator.next();
+            if (each.isCancelled()) {
+                iterator.remove();
+            } else if (each.remainingRounds <= 0L) {
+                iterator.remove();
+                each.expire();
+            } else {
+                each.remainingRounds--;
+            }
+        }
+    }
+    
+    /**
+     * Timeout of task.
+     */
+    public static final class Timeout {
+        
+        private final Runnable task;
+        
+        private final long deadline;
+        
+        private long remainingRounds;
+        
+        private volatile boolean cancelled;
+        
+        private Timeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+        
+        /**
+         * Cancel timeout, task will not run if it is not expired yet.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        /**
+         * Judge timeout is cancelled or not.
+         *
+         * @return timeout is cancelled or not
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+        
+        private void expire() {
+            try {
+                task.run();
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                log.error("Timer task executed failure.", ex);
+            }
+        }
+    }
+}
@@ -49,12 +49,26 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
         String shardingItemParameters = "";
         String jobParameter = "";
         boolean failover = false;
+        int failoverBatchSize = 0;
+        String failoverFairnessPolicy = "";
         boolean misfire = failover;
+        boolean workStealing = false;
+        long itemTimeoutMilliseconds = 0L;
         String jobExecutorServiceHandlerType = "";
+        String threadPoolName = "";
+        int threadPoolCoreSize = 0;
+        int threadPoolMaxSize = 0;
+        int threadPoolQueueCapacity = 0;
+        String threadPoolRejectionPolicy = "";
         String jobErrorHandlerType = "";
         String description = "";
         JobType jobType = null;
         boolean streamingProcess = false;
+        int prefetchDepth = 0;
+        int processSubBatchSize = 0;
+        boolean processSubBatchOrdered = true;
+        long targetBatchLatencyMilliseconds = 0L;
+        int maxBatchSize = 0;
         String scriptCommandLine = "";
         Map<String, Object> customizedValueMap = new HashMap<>(32, 1);
         in.beginObject();
@@ -79,12 +93,39 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
                 case "failover":
                     failover = in.nextBoolean();
                     break;
+                case "failoverBatchSize":
+                    failoverBatchSize = in.nextInt();
+                    break;
+                case "failoverFairnessPolicy":
+                    failoverFairnessPolicy = in.nextString();
+                    break;
                 case "misfire":
                     misfire = in.nextBoolean();
                     break;
+                case "workStealing":
+                    workStealing = in.nextBoolean();
+                    break;
+                case "itemTimeoutMilliseconds":
+                    itemTimeoutMilliseconds = in.nextLong();
+                    break;
                 case "jobExecutorServiceHandlerType":
                     jobExecutorServiceHandlerType = in.nextString();
                     break;
+                case "threadPoolName":
+                    threadPoolName = in.nextString();
+                    break;
+                case "threadPoolCoreSize":
+                    threadPoolCoreSize = in.nextInt();
+                    break;
+                case "threadPoolMaxSize":
+                    threadPoolMaxSize = in.nextInt();
+                    break;
+                case "threadPoolQueueCapacity":
+                    threadPoolQueueCapacity = in.nextInt();
+                    break;
+                case "threadPoolRejectionPolicy":
+                    threadPoolRejectionPolicy = in.nextString();
+                    break;
                 case "jobErrorHandlerType":
                     jobErrorHandlerType = in.nextString();
                     break;
@@ -97,6 +138,21 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
                 case "streamingProcess":
                     streamingProcess = in.nextBoolean();
                     break;
+                case "prefetchDepth":
+                    prefetchDepth = in.nextInt();
+                    break;
+                case "processSubBatchSize":
+                    processSubBatchSize = in.nextInt();
+                    break;
+                case "processSubBatchOrdered":
+                    processSubBatchOrdered = in.nextBoolean();
+                    break;
+                case "targetBatchLatencyMilliseconds":
+                    targetBatchLatencyMilliseconds = in.nextLong();
+                    break;
+                case "maxBatchSize":
+                    maxBatchSize = in.nextInt();
+                    break;
                 case "scriptCommandLine":
                     scriptCommandLine = in.nextString();
                     break;
@@ -106,9 +162,11 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
             }
         }
         in.endObject();
-        JobCoreConfiguration coreConfig = getJobCoreConfiguration(
-                jobName, cron, shardingTotalCount, shardingItemParameters, jobParameter, failover, misfire, jobExecutorServiceHandlerType, jobErrorHandlerType, description);
-        JobTypeConfiguration typeConfig = getJobTypeConfiguration(coreConfig, jobType, streamingProcess, scriptCommandLine);
+        JobCoreConfiguration coreConfig = getJobCoreConfiguration(jobName, cron, shardingTotalCount, shardingItemParameters, jobParameter, failover, failoverBatchSize, failoverFairnessPolicy,
+                misfire, workStealing, itemTimeoutMilliseconds, jobExecutorServiceHandlerType, threadPoolName, threadPoolCoreSize, threadPoolMaxSize, threadPoolQueueCapacity,
+                threadPoolRejectionPolicy, jobErrorHandlerType, description);
+        JobTypeConfiguration typeConfig = getJobTypeConfiguration(
+                coreConfig, jobType, streamingProcess, prefetchDepth, processSubBatchSize, processSubBatchOrdered, targetBatchLatencyMilliseconds, maxBatchSize, scriptCommandLine);
         return getJobRootConfiguration(typeConfig, customizedValueMap);
     }
     
@@ -116,21 +174,31 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
     
     private JobCoreConfiguration getJobCoreConfiguration(final String jobName, final String cron, final int shardingTotalCount,
                                                          final String shardingItemParameters, final String jobParameter, final boolean failover,
-                                                         final boolean misfire, final String jobExecutorServiceHandlerType, final String jobErrorHandlerType, final String description) {
+                                                         final int failoverBatchSize, final String failoverFairnessPolicy, final boolean misfire, final boolean workStealing,
+                                                         final long itemTimeoutMilliseconds, final String jobExecutorServiceHandlerType,
+                                                         final String threadPoolName, final int threadPoolCoreSize, final int threadPoolMaxSize, final int threadPoolQueueCapacity, 
+                                                         final String threadPoolRejectionPolicy, final String jobErrorHandlerType, final String description) {
         return JobCoreConfiguration.newBuilder(jobName, cron, shardingTotalCount)
-                .shardingItemParameters(shardingItemParameters).jobParameter(jobParameter).failover(failover).misfire(misfire).description(description)
+                .shardingItemParameters(shardingItemParameters).jobParameter(jobParameter).failover(failover).misfire(misfire).workStealing(workStealing).description(description)
+                .failoverBatchSize(failoverBatchSize).failoverFairnessPolicy(failoverFairnessPolicy)
+                .itemTimeoutMilliseconds(itemTimeoutMilliseconds)
                 .jobExecutorServiceHandlerType(jobExecutorServiceHandlerType)
+                .threadPoolName(threadPoolName).threadPoolCoreSize(threadPoolCoreSize).threadPoolMaxSize(threadPoolMaxSize)
+                .threadPoolQueueCapacity(threadPoolQueueCapacity).threadPoolRejectionPolicy(threadPoolRejectionPolicy)
                 .jobErrorHandlerType(jobErrorHandlerType)
                 .build();
     }
     
-    private JobTypeConfiguration getJobTypeConfiguration(final JobCoreConfiguration coreConfig, final JobType jobType, final boolean streamingProcess, final String scriptCommandLine) {
+    private JobTypeConfiguration getJobTypeConfiguration(final JobCoreConfiguration coreConfig, final JobType jobType,
+                                                         final boolean streamingProcess, final int prefetchDepth, final int processSubBatchSize, final boolean processSubBatchOrdered,
+                                                         final long targetBatchLatencyMilliseconds, final int maxBatchSize, final String scriptCommandLine) {
         Preconditions.checkNotNull(jobType, "jobType cannot be null.");
         switch (jobType) {
             case SIMPLE:
                 return new SimpleJobConfiguration(coreConfig);
             case DATAFLOW:
-                return new DataflowJobConfiguration(coreConfig, streamingProcess);
+                return DataflowJobConfiguration.newBuilder(coreConfig, streamingProcess).prefetchDepth(prefetchDepth).processSubBatchSize(processSubBatchSize)
+                        .processSubBatchOrdered(processSubBatchOrdered).targetBatchLatencyMilliseconds(targetBatchLatencyMilliseconds).maxBatchSize(maxBatchSize).build();
             case SCRIPT:
                 return new ScriptJobConfiguration(coreConfig, scriptCommandLine);
             default:
@@ -150,16 +218,39 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
         out.name("shardingItemParameters").value(value.getTypeConfig().getCoreConfig().getShardingItemParameters());
         out.name("jobParameter").value(value.getTypeConfig().getCoreConfig().getJobParameter());
         out.name("failover").value(value.getTypeConfig().getCoreConfig().isFailover());
+        if (value.getTypeConfig().getCoreConfig().getFailoverBatchSize() > 0) {
+            out.name("failoverBatchSize").value(value.getTypeConfig().getCoreConfig().getFailoverBatchSize());
+        }
+        if (!Strings.isNullOrEmpty(value.getTypeConfig().getCoreConfig().getFailoverFairnessPolicy())) {
+            out.name("failoverFairnessPolicy").value(value.getTypeConfig().getCoreConfig().getFailoverFairnessPolicy());
+        }
         out.name("misfire").value(value.getTypeConfig().getCoreConfig().isMisfire());
+        out.name("workStealing").value(value.getTypeConfig().getCoreConfig().isWorkStealing());
+        if (value.getTypeConfig().getCoreConfig().getItemTimeoutMilliseconds() > 0) {
+            out.name("itemTimeoutMilliseconds").value(value.getTypeConfig().getCoreConfig().getItemTimeoutMilliseconds());
+        }
         if (!Strings.isNullOrEmpty(value.getTypeConfig().getCoreConfig().getJobExecutorServiceHandlerType())) {
             out.name("jobExecutorServiceHandlerType").value(value.getTypeConfig().getCoreConfig().getJobExecutorServiceHandlerType());
         }
+        writeThreadPool(out, value.getTypeConfig().getCoreConfig());
         if (!Strings.isNullOrEmpty(value.getTypeConfig().getCoreConfig().getJobErrorHandlerType())) {
             out.name("jobErrorHandlerType").value(value.getTypeConfig().getCoreConfig().getJobErrorHandlerType());
         }
         out.name("description").value(value.getTypeConfig().getCoreConfig().getDescription());
         if (value.getTypeConfig().getJobType() == JobType.DATAFLOW) {
-            out.name("streamingProcess").value(((DataflowJobConfiguration) value.getTypeConfig()).isStreamingProcess());
+            DataflowJobConfiguration dataflowJobConfig = (DataflowJobConfiguration) value.getTypeConfig();
+            out.name("streamingProcess").value(dataflowJobConfig.isStreamingProcess());
+            if (dataflowJobConfig.getPrefetchDepth() > 0) {
+                out.name("prefetchDepth").value(dataflowJobConfig.getPrefetchDepth());
+            }
+            if (dataflowJobConfig.getProcessSubBatchSize() > 0) {
+                out.name("processSubBatchSize").value(dataflowJobConfig.getProcessSubBatchSize());
+                out.name("processSubBatchOrdered").value(dataflowJobConfig.isProcessSubBatchOrdered());
+            }
+            if (dataflowJobConfig.getTargetBatchLatencyMilliseconds() > 0L) {
+                out.name("targetBatchLatencyMilliseconds").value(dataflowJobConfig.getTargetBatchLatencyMilliseconds());
+                out.name("maxBatchSize").value(dataflowJobConfig.getMaxBatchSize());
+            }
         } else if (value.getTypeConfig().getJobType() == JobType.SCRIPT) {
             ScriptJobConfiguration scriptJobConfig = (ScriptJobConfiguration) value.getTypeConfig();
             out.name("scriptCommandLine").value(scriptJobConfig.getScriptCommandLine());
@@ -168,5 +259,23 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
         out.endObject();
     }
     
+    private void writeThreadPool(final JsonWriter out, final JobCoreConfiguration coreConfig) throws IOException {
+        if (!Strings.isNullOrEmpty(coreConfig.getThreadPoolName())) {
+            out.name("threadPoolName").value(coreConfig.getThreadPoolName());
+        }
+        if (coreConfig.getThreadPoolCoreSize() > 0) {
+            out.name("threadPoolCoreSize").value(coreConfig.getThreadPoolCoreSize());
+        }
+        if (coreConfig.getThreadPoolMaxSize() > 0) {
+            out.name("threadPoolMaxSize").value(coreConfig.getThreadPoolMaxSize());
+        }
+        if (coreConfig.getThreadPoolQueueCapacity() > 0) {
+            out.name("threadPoolQueueCapacity").value(coreConfig.getThreadPoolQueueCapacity());
+        }
+        if (!Strings.isNullOrEmpty(coreConfig.getThreadPoolRejectionPolicy())) {
+            out.name("threadPoolRejectionPolicy").value(coreConfig.getThreadPoolRejectionPolicy());
+        }
+    }
+    
     protected abstract void writeCustomized(JsonWriter out, T value) throws IOException;
 }
@@ -20,11 +20,14 @@ package org.apache.shardingsphere.elasticjob.lite.api;
 import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
 import org.apache.shardingsphere.elasticjob.lite.fixture.TestSimpleJob;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobTriggerListener;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.SchedulerFacade;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.TimerWheelJobTriggerEngine;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.After;
@@ -33,10 +36,14 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
@@ -67,15 +74,81 @@ public final class JobSchedulerTest {
     @Test
     public void assertInit() throws SchedulerException {
         when(schedulerFacade.updateJobConfiguration(TestSimpleJob.class.getName(), liteJobConfig)).thenReturn(liteJobConfig);
-        when(schedulerFacade.newJobTriggerListener()).thenReturn(new JobTriggerListener(null, null));
+        when(schedulerFacade.newJobTriggerListener()).thenReturn(new JobTriggerListener("test_job", null, null));
         jobScheduler.init();
         verify(schedulerFacade).registerStartUpInfo(true);
-        Scheduler scheduler = (Scheduler) ReflectionUtils.getFieldValue(JobRegistry.getInstance().getJobScheduleController("test_job"), "scheduler");
+        Scheduler scheduler = getScheduler(JobRegistry.getInstance().getJobScheduleController("test_job"));
         assertThat(scheduler.getListenerManager().getTriggerListeners().get(0), instanceOf(JobTriggerListener.class));
         assertTrue(scheduler.isStarted());
         jobScheduler.shutdown();
     }
     
+    @Test
+    public void assertInitWithSharedScheduler() throws SchedulerException {
+        LiteJobConfiguration sharedLiteJobConfig = createSharedLiteJobConfiguration("test_job");
+        LiteJobConfiguration otherSharedLiteJobConfig = createSharedLiteJobConfiguration("other_test_job");
+        when(schedulerFacade.updateJobConfiguration(TestSimpleJob.class.getName(), sharedLiteJobConfig)).thenReturn(sharedLiteJobConfig);
+        when(schedulerFacade.updateJobConfiguration(TestSimpleJob.class.getName(), otherSharedLiteJobConfig)).thenReturn(otherSharedLiteJobConfig);
+        when(schedulerFacade.newJobTriggerListener()).thenReturn(new JobTriggerListener("test_job", null, null), new JobTriggerListener("other_test_job", null, null));
+        createJobScheduler(sharedLiteJobConfig).init();
+        createJobScheduler(otherSharedLiteJobConfig).init();
+        try {
+            JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController("test_job");
+            JobScheduleController otherJobScheduleController = JobRegistry.getInstance().getJobScheduleController("other_test_job");
+            Scheduler scheduler = getScheduler(jobScheduleController);
+            assertThat(getScheduler(otherJobScheduleController), sameInstance(scheduler));
+            assertThat(scheduler.getListenerManager().getTriggerListeners().size(), is(2));
+            jobScheduleController.pauseJob();
+            assertTrue(jobScheduleController.isPaused());
+            assertFalse(otherJobScheduleController.isPaused());
+            JobRegistry.getInstance().shutdown("test_job");
+            assertFalse(scheduler.isShutdown());
+            assertFalse(scheduler.checkExists(JobKey.jobKey("test_job")));
+            assertTrue(scheduler.checkExists(JobKey.jobKey("other_test_job")));
+            assertThat(scheduler.getListenerManager().getTriggerListeners().size(), is(1));
+            JobRegistry.getInstance().shutdown("other_test_job");
+            assertTrue(scheduler.isShutdown());
+        } finally {
+            JobRegistry.getInstance().shutdown("other_test_job");
+        }
+    }
+    
+    @Test
+    public void assertInitWithTimerWheelTriggerEngine() {
+        LiteJobConfiguration timerWheelLiteJobConfig = LiteJobConfiguration.newBuilder(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "* * 0/10 * * ? 2050", 3).build())).triggerEngineType("TIMER_WHEEL").build();
+        when(schedulerFacade.updateJobConfiguration(TestSimpleJob.class.getName(), timerWheelLiteJobConfig)).thenReturn(timerWheelLiteJobConfig);
+        when(schedulerFacade.newJobTriggerListener()).thenReturn(new JobTriggerListener("test_job", null, null));
+        createJobScheduler(timerWheelLiteJobConfig).init();
+        JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController("test_job");
+        assertThat(ReflectionUtils.getFieldValue(jobScheduleController, "triggerEngine"), instanceOf(TimerWheelJobTriggerEngine.class));
+        verify(schedulerFacade).registerStartUpInfo(true);
+        jobScheduleController.pauseJob();
+        assertTrue(jobScheduleController.isPaused());
+    }
+    
+    @Test(expected = JobConfigurationException.class)
+    public void assertInitWithUnknownTriggerEngineType() {
+        LiteJobConfiguration unknownLiteJobConfig = LiteJobConfiguration.newBuilder(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "* * 0/10 * * ? 2050", 3).build())).triggerEngineType("UNKNOWN").build();
+        when(schedulerFacade.updateJobConfiguration(TestSimpleJob.class.getName(), unknownLiteJobConfig)).thenReturn(unknownLiteJobConfig);
+        createJobScheduler(unknownLiteJobConfig).init();
+    }
+    
+    private Scheduler getScheduler(final JobScheduleController jobScheduleController) {
+        return (Scheduler) ReflectionUtils.getFieldValue(ReflectionUtils.getFieldValue(jobScheduleController, "triggerEngine"), "scheduler");
+    }
+    
+    private LiteJobConfiguration createSharedLiteJobConfiguration(final String jobName) {
+        return LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder(jobName, "* * 0/10 * * ? 2050", 3).build())).sharedScheduler(true).build();
+    }
+    
+    private JobScheduler createJobScheduler(final LiteJobConfiguration liteJobConfig) {
+        JobScheduler result = new JobScheduler(regCenter, new TestSimpleJob(), liteJobConfig);
+        ReflectionUtils.setFieldValue(result, "schedulerFacade", schedulerFacade);
+        return result;
+    }
+    
     @After
     public void tearDown() {
         JobRegistry.getInstance().shutdown("test_job");
@@ -38,9 +38,22 @@ public final class ShardingContextTest {
         assertThat(actual.getShardingParameter(), is(shardingContexts.getShardingItemParameters().get(1)));
     }
     
+    @Test
+    public void assertNewWithSuggestedBatchSize() {
+        ShardingContext shardingContext = new ShardingContext(ShardingContextsBuilder.getMultipleShardingContexts(), 1);
+        ShardingContext actual = new ShardingContext(shardingContext, 50);
+        assertThat(actual.getJobName(), is(shardingContext.getJobName()));
+        assertThat(actual.getTaskId(), is(shardingContext.getTaskId()));
+        assertThat(actual.getShardingTotalCount(), is(shardingContext.getShardingTotalCount()));
+        assertThat(actual.getJobParameter(), is(shardingContext.getJobParameter()));
+        assertThat(actual.getShardingItem(), is(1));
+        assertThat(actual.getShardingParameter(), is(shardingContext.getShardingParameter()));
+        assertThat(actual.getSuggestedBatchSize(), is(50));
+    }
+    
     @Test
     public void assertToString() {
         assertThat(new ShardingContext(ShardingContextsBuilder.getMultipleShardingContexts(), 1).toString(), 
-                is("ShardingContext(jobName=test_job, taskId=fake_task_id, shardingTotalCount=2, jobParameter=, shardingItem=1, shardingParameter=B)"));
+                is("ShardingContext(jobName=test_job, taskId=fake_task_id, shardingTotalCount=2, jobParameter=, shardingItem=1, shardingParameter=B, suggestedBatchSize=0)"));
     }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.elasticjob.lite.api.listener.fixture.ElasticJob
 import org.apache.shardingsphere.elasticjob.lite.api.listener.fixture.TestDistributeOnceElasticJobListener;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.executor.ShardingContexts;
+import org.apache.shardingsphere.elasticjob.lite.internal.guarantee.GuaranteeRound;
 import org.apache.shardingsphere.elasticjob.lite.internal.guarantee.GuaranteeService;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.lite.util.env.TimeService;
@@ -31,7 +32,6 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -68,55 +68,68 @@ public final class DistributeOnceElasticJobListenerTest {
     
     @Test
     public void assertBeforeJobExecutedWhenIsAllStarted() {
-        when(guaranteeService.isAllStarted()).thenReturn(true);
+        when(guaranteeService.registerStart(Sets.newHashSet(0, 1))).thenReturn(new GuaranteeRound(1L, true));
         distributeOnceElasticJobListener.beforeJobExecuted(shardingContexts);
-        verify(guaranteeService).registerStart(Sets.newHashSet(0, 1));
         verify(elasticJobListenerCaller).before();
         verify(guaranteeService).clearAllStartedInfo();
     }
     
     @Test
     public void assertBeforeJobExecutedWhenIsNotAllStartedAndNotTimeout() {
-        when(guaranteeService.isAllStarted()).thenReturn(false);
+        GuaranteeRound round = new GuaranteeRound(1L, false);
+        when(guaranteeService.registerStart(Sets.newHashSet(0, 1))).thenReturn(round);
+        when(guaranteeService.isStartedPassed(round)).thenReturn(true);
         when(timeService.getCurrentMillis()).thenReturn(0L);
         distributeOnceElasticJobListener.beforeJobExecuted(shardingContexts);
-        verify(guaranteeService).registerStart(Sets.newHashSet(0, 1));
+        verify(elasticJobListenerCaller, times(0)).before();
+        verify(guaranteeService, times(0)).clearAllStartedInfo();
+    }
+    
+    @Test
+    public void assertBeforeJobExecutedWhenIsNotAllStartedAndPassedAfterWaiting() {
+        GuaranteeRound round = new GuaranteeRound(1L, false);
+        when(guaranteeService.registerStart(Sets.newHashSet(0, 1))).thenReturn(round);
+        when(guaranteeService.isStartedPassed(round)).thenReturn(false, true);
+        when(timeService.getCurrentMillis()).thenReturn(0L);
+        distributeOnceElasticJobListener.beforeJobExecuted(shardingContexts);
+        verify(guaranteeService, times(2)).isStartedPassed(round);
         verify(guaranteeService, times(0)).clearAllStartedInfo();
     }
     
     @Test(expected = JobSystemException.class)
     public void assertBeforeJobExecutedWhenIsNotAllStartedAndTimeout() {
-        when(guaranteeService.isAllStarted()).thenReturn(false);
+        GuaranteeRound round = new GuaranteeRound(1L, false);
+        when(guaranteeService.registerStart(Sets.newHashSet(0, 1))).thenReturn(round);
+        when(guaranteeService.isStartedPassed(round)).thenReturn(false);
         when(timeService.getCurrentMillis()).thenReturn(0L, 2L);
         distributeOnceElasticJobListener.beforeJobExecuted(shardingContexts);
-        verify(guaranteeService).registerStart(Arrays.asList(0, 1));
-        verify(guaranteeService, times(0)).clearAllStartedInfo();
     }
     
     @Test
     public void assertAfterJobExecutedWhenIsAllCompleted() {
-        when(guaranteeService.isAllCompleted()).thenReturn(true);
+        when(guaranteeService.registerComplete(Sets.newHashSet(0, 1))).thenReturn(new GuaranteeRound(1L, true));
         distributeOnceElasticJobListener.afterJobExecuted(shardingContexts);
-        verify(guaranteeService).registerComplete(Sets.newHashSet(0, 1));
         verify(elasticJobListenerCaller).after();
         verify(guaranteeService).clearAllCompletedInfo();
     }
     
     @Test
     public void assertAfterJobExecutedWhenIsAllCompletedAndNotTimeout() {
-        when(guaranteeService.isAllCompleted()).thenReturn(false);
+        GuaranteeRound round = new GuaranteeRound(1L, false);
+        when(guaranteeService.registerComplete(Sets.newHashSet(0, 1))).thenReturn(round);
+        when(guaranteeService.isCompletedPassed(round)).thenReturn(true);
         when(timeService.getCurrentMillis()).thenReturn(0L);
         distributeOnceElasticJobListener.afterJobExecuted(shardingContexts);
-        verify(guaranteeService).registerComplete(Sets.newHashSet(0, 1));
+        verify(elasticJobListenerCaller, times(0)).after();
         verify(guaranteeService, times(0)).clearAllCompletedInfo();
     }
     
     @Test(expected = JobSystemException.class)
     public void assertAfterJobExecutedWhenIsAllCompletedAndTimeout() {
-        when(guaranteeService.isAllCompleted()).thenReturn(false);
+        GuaranteeRound round = new GuaranteeRound(1L, false);
+        when(guaranteeService.registerComplete(Sets.newHashSet(0, 1))).thenReturn(round);
+        when(guaranteeService.isCompletedPassed(round)).thenReturn(false);
         when(timeService.getCurrentMillis()).thenReturn(0L, 2L);
         distributeOnceElasticJobListener.afterJobExecuted(shardingContexts);
-        verify(guaranteeService).registerComplete(Arrays.asList(0, 1));
-        verify(guaranteeService, times(0)).clearAllCompletedInfo();
     }
 }
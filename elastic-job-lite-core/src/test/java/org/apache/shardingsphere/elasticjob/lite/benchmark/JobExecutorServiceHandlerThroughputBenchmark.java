@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.benchmark;
+
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.JobExecutorServiceHandler;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.JobExecutorServiceHandlerFactory;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl.VirtualThreadJobExecutorServiceHandler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of sharding item throughput for job executor service handlers.
+ *
+ * <p>Each sharding item sleeps to simulate I/O bound job, such as HTTP or database access per sharding item.</p>
+ */
+public final class JobExecutorServiceHandlerThroughputBenchmark {
+    
+    private static final int[] SHARDING_ITEM_COUNTS = {1000, 5000};
+    
+    private static final long SLEEP_MILLIS = 10L;
+    
+    private static final String[] HANDLER_TYPES = {"CPU", "VIRTUAL_THREAD"};
+    
+    private static final String JOB_NAME = "benchmark_job";
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     * @throws InterruptedException interrupted exception
+     */
+    // CHECKSTYLE:OFF
+    public static void main(final String[] args) throws InterruptedException {
+    // CHECKSTYLE:ON
+        System.out.println(String.format("Virtual thread supported: %s", VirtualThreadJobExecutorServiceHandler.isVirtualThreadSupported()));
+        System.out.println(String.format("%15s %10s %12s %15s", "handler", "items", "elapsed (ms)", "items/s"));
+        for (int each : SHARDING_ITEM_COUNTS) {
+            for (String handlerType : HANDLER_TYPES) {
+                benchmark(JobExecutorServiceHandlerFactory.getHandler(handlerType), each);
+            }
+        }
+    }
+    
+    private static void benchmark(final JobExecutorServiceHandler jobExecutorServiceHandler, final int shardingItemCount) throws InterruptedException {
+        ExecutorService executorService = jobExecutorServiceHandler.createExecutorService(JOB_NAME);
+        try {
+            CountDownLatch latch = new CountDownLatch(shardingItemCount);
+            long startTime = System.nanoTime();
+            for (int i = 0; i < shardingItemCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        Thread.sleep(SLEEP_MILLIS);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            System.out.println(String.format("%15s %10d %12d %15d", jobExecutorServiceHandler.getType(), shardingItemCount, elapsedMillis, shardingItemCount * 1000L / elapsedMillis));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
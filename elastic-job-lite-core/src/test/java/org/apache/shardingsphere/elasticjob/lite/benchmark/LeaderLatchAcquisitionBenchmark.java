@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.benchmark;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.leader.LeaderLatch;
+import org.apache.shardingsphere.elasticjob.lite.fixture.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of leader latch acquisition for sequential leader executions.
+ *
+ * <p>Compare latency of creating, awaiting and closing a new leader latch per call with executing in leader of job node storage,
+ * which keeps leader latch between sequential calls. Both run on embedded zookeeper.</p>
+ */
+public final class LeaderLatchAcquisitionBenchmark {
+    
+    private static final int[] CALL_COUNTS = {10, 100, 1000};
+    
+    private static final String JOB_NAME = "benchmark_job";
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     * @throws Exception exception
+     */
+    // CHECKSTYLE:OFF
+    public static void main(final String[] args) throws Exception {
+    // CHECKSTYLE:ON
+        EmbedTestingServer.start();
+        ZookeeperRegistryCenter regCenter = new ZookeeperRegistryCenter(new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), "benchmark"));
+        regCenter.init();
+        CuratorFramework client = (CuratorFramework) regCenter.getRawClient();
+        JobNodeStorage jobNodeStorage = new JobNodeStorage(regCenter, JOB_NAME);
+        System.out.println(String.format("%10s %25s %25s", "calls", "latch per call (us/op)", "kept latch (us/op)"));
+        for (int each : CALL_COUNTS) {
+            long latchPerCallCost = measure(each, () -> executeWithNewLatch(client));
+            long keptLatchCost = measure(each, () -> jobNodeStorage.executeInLeader("leader/benchmark/kept_latch", () -> { }));
+            System.out.println(String.format("%10d %25d %25d", each, latchPerCallCost, keptLatchCost));
+        }
+        regCenter.close();
+    }
+    
+    private static void executeWithNewLatch(final CuratorFramework client) throws Exception {
+        try (LeaderLatch latch = new LeaderLatch(client, String.format("/%s/leader/benchmark/new_latch", JOB_NAME))) {
+            latch.start();
+            latch.await();
+        }
+    }
+    
+    private static long measure(final int callCount, final Call call) throws Exception {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < callCount; i++) {
+            call.execute();
+        }
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) / callCount;
+    }
+    
+    private interface Call {
+        
+        void execute() throws Exception;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.benchmark;
+
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.IncrementalJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.AverageAllocationJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.ConsistentHashJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.OdevitySortByNameJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.RoundRobinByNameJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.StickyJobShardingStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Benchmark of sharding items moved per membership change for job sharding strategies.
+ *
+ * <p>Count sharding items whose job instance changed when one job instance joins or leaves, by sharding total count.</p>
+ */
+public final class ShardingStrategyMovementBenchmark {
+    
+    private static final int[] SHARDING_TOTAL_COUNTS = {1000, 10000};
+    
+    private static final int JOB_INSTANCE_COUNT = 10;
+    
+    private static final String JOB_NAME = "benchmark_job";
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     */
+    // CHECKSTYLE:OFF
+    public static void main(final String[] args) {
+    // CHECKSTYLE:ON
+        List<JobShardingStrategy> jobShardingStrategies = Arrays.asList(new AverageAllocationJobShardingStrategy(), new OdevitySortByNameJobShardingStrategy(), 
+                new RoundRobinByNameJobShardingStrategy(), new StickyJobShardingStrategy(), new ConsistentHashJobShardingStrategy());
+        System.out.println(String.format("%20s %10s %15s %15s", "strategy", "items", "join (moved)", "leave (moved)"));
+        for (int each : SHARDING_TOTAL_COUNTS) {
+            for (JobShardingStrategy jobShardingStrategy : jobShardingStrategies) {
+                benchmark(jobShardingStrategy, each);
+            }
+        }
+    }
+    
+    private static void benchmark(final JobShardingStrategy jobShardingStrategy, final int shardingTotalCount) {
+        List<JobInstance> jobInstances = createJobInstances(JOB_INSTANCE_COUNT);
+        Map<Integer, String> before = sharding(jobShardingStrategy, jobInstances, shardingTotalCount, new HashMap<>());
+        List<JobInstance> joinedJobInstances = createJobInstances(JOB_INSTANCE_COUNT + 1);
+        List<JobInstance> leftJobInstances = new ArrayList<>(jobInstances);
+        leftJobInstances.remove(JOB_INSTANCE_COUNT / 2);
+        int joinMoved = countMoved(before, sharding(jobShardingStrategy, joinedJobInstances, shardingTotalCount, before));
+        int leaveMoved = countMoved(before, sharding(jobShardingStrategy, leftJobInstances, shardingTotalCount, before));
+        System.out.println(String.format("%20s %10d %15d %15d", jobShardingStrategy.getType(), shardingTotalCount, joinMoved, leaveMoved));
+    }
+    
+    private static List<JobInstance> createJobInstances(final int jobInstanceCount) {
+        List<JobInstance> result = new ArrayList<>(jobInstanceCount);
+        for (int i = 0; i < jobInstanceCount; i++) {
+            result.add(new JobInstance(String.format("192.168.0.%d@-@%d", i, i)));
+        }
+        return result;
+    }
+    
+    private static Map<Integer, String> sharding(final JobShardingStrategy jobShardingStrategy, final List<JobInstance> jobInstances, 
+                                                 final int shardingTotalCount, final Map<Integer, String> currentShardingResult) {
+        List<JobInstance> participants = new ArrayList<>(jobInstances);
+        Map<JobInstance, List<Integer>> shardingResult = jobShardingStrategy instanceof IncrementalJobShardingStrategy
+                ? ((IncrementalJobShardingStrategy) jobShardingStrategy).sharding(participants, JOB_NAME, shardingTotalCount, currentShardingResult)
+                : jobShardingStrategy.sharding(participants, JOB_NAME, shardingTotalCount);
+        Map<Integer, String> result = new HashMap<>(shardingTotalCount, 1);
+        for (Entry<JobInstance, List<Integer>> entry : shardingResult.entrySet()) {
+            for (int each : entry.getValue()) {
+                result.put(each, entry.getKey().getJobInstanceId());
+            }
+        }
+        return result;
+    }
+    
+    private static int countMoved(final Map<Integer, String> before, final Map<Integer, String> after) {
+        int result = 0;
+        for (Entry<Integer, String> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.benchmark;
+
+import org.apache.curator.framework.recipes.cache.TreeCache;
+import org.apache.shardingsphere.elasticjob.lite.fixture.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenter;
+import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Benchmark of looking up tree cache for cached read of registry center.
+ *
+ * <p>Compare lookup cost of registry center with linear prefix scan of all caches, by number of registered jobs.
+ * Caches are real tree caches started on embedded zookeeper, so cost of reading cached data is included in both lookups.</p>
+ */
+public final class TreeCacheLookupBenchmark {
+    
+    private static final int[] JOB_COUNTS = {1, 10, 100, 300, 1000};
+    
+    private static final int WARM_UP_ITERATIONS = 200000;
+    
+    private static final int MEASURE_ITERATIONS = 1000000;
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     * @throws InterruptedException interrupted exception
+     */
+    // CHECKSTYLE:OFF
+    @SuppressWarnings("unchecked")
+    public static void main(final String[] args) throws InterruptedException {
+    // CHECKSTYLE:ON
+        EmbedTestingServer.start();
+        ZookeeperRegistryCenter regCenter = new ZookeeperRegistryCenter(new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), "benchmark"));
+        regCenter.init();
+        Map<String, TreeCache> caches = (Map<String, TreeCache>) ReflectionUtils.getFieldValue(regCenter, "caches");
+        System.out.println(String.format("%10s %25s %25s", "jobs", "registry center (ns/op)", "linear scan (ns/op)"));
+        int jobCount = 0;
+        for (int each : JOB_COUNTS) {
+            String lookupKey = null;
+            for (; jobCount < each; jobCount++) {
+                lookupKey = addJobCache(regCenter, jobCount);
+            }
+            String key = lookupKey;
+            long registryCenterCost = measure(() -> regCenter.get(key));
+            long linearScanCost = measure(() -> scan(caches, key).getCurrentData(key));
+            System.out.println(String.format("%10d %25d %25d", each, registryCenterCost, linearScanCost));
+        }
+        regCenter.close();
+    }
+    
+    private static String addJobCache(final ZookeeperRegistryCenter regCenter, final int jobIndex) throws InterruptedException {
+        String jobPath = String.format("/benchmark_job_%d", jobIndex);
+        String result = jobPath + "/config";
+        regCenter.persist(result, "value");
+        regCenter.addCacheData(jobPath);
+        TreeCache cache = (TreeCache) regCenter.getRawCache(jobPath);
+        while (null == cache.getCurrentData(result)) {
+            Thread.sleep(1L);
+        }
+        return result;
+    }
+    
+    private static TreeCache scan(final Map<String, TreeCache> caches, final String key) {
+        for (Entry<String, TreeCache> entry : caches.entrySet()) {
+            if (key.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+    
+    private static long measure(final Runnable lookup) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            lookup.run();
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            lookup.run();
+        }
+        return (System.nanoTime() - startTime) / MEASURE_ITERATIONS;
+    }
+}
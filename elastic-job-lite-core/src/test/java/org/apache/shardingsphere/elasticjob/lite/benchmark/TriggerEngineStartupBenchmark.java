@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.benchmark;
+
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobTriggerEngine;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.QuartzJobTriggerEngine;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.TimerWheelJobTriggerEngine;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.simpl.SimpleThreadPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmark of startup time, heap and threads for trigger engines.
+ *
+ * <p>
+ * Jobs are registered with a CRON expression which never fires during benchmark, so only cost of registration and idle jobs is measured.
+ * Quartz schedulers are created with same properties as job scheduler except shutdown hook plugin, which requires registry center.
+ * </p>
+ */
+public final class TriggerEngineStartupBenchmark {
+    
+    private static final int JOB_COUNT = 1000;
+    
+    private static final String CRON = "0 0 0 1 1 ? 2099";
+    
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     * @throws SchedulerException scheduler exception
+     */
+    // CHECKSTYLE:OFF
+    public static void main(final String[] args) throws SchedulerException {
+    // CHECKSTYLE:ON
+        System.out.println(String.format("%20s %8s %12s %12s %10s", "trigger engine", "jobs", "startup (ms)", "heap (KB)", "threads"));
+        benchmark("QUARTZ", TriggerEngineStartupBenchmark::createQuartzJobTriggerEngine);
+        Scheduler sharedScheduler = createScheduler("benchmark_shared_scheduler", Runtime.getRuntime().availableProcessors() * 2);
+        try {
+            benchmark("QUARTZ (shared)", jobName -> new QuartzJobTriggerEngine(sharedScheduler, createJobDetail(jobName), jobName, true));
+        } finally {
+            sharedScheduler.shutdown();
+        }
+        benchmark("TIMER_WHEEL", jobName -> new TimerWheelJobTriggerEngine(jobName, () -> { }, () -> { }));
+    }
+    
+    private static void benchmark(final String triggerEngineType, final Function<String, JobTriggerEngine> triggerEngineCreator) {
+        long startHeapUsed = getHeapUsed();
+        int startThreadCount = Thread.activeCount();
+        List<JobTriggerEngine> triggerEngines = new ArrayList<>(JOB_COUNT);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            JobTriggerEngine triggerEngine = triggerEngineCreator.apply("benchmark_job_" + i);
+            triggerEngine.schedule(CRON);
+            triggerEngines.add(triggerEngine);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long heapUsedKilobytes = (getHeapUsed() - startHeapUsed) / 1024L;
+        int threadCount = Thread.activeCount() - startThreadCount;
+        System.out.println(String.format("%20s %8d %12d %12d %10d", triggerEngineType, JOB_COUNT, elapsedMillis, heapUsedKilobytes, threadCount));
+        for (JobTriggerEngine each : triggerEngines) {
+            each.shutdown();
+        }
+    }
+    
+    private static long getHeapUsed() {
+        System.gc();
+        return MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed();
+    }
+    
+    private static JobTriggerEngine createQuartzJobTriggerEngine(final String jobName) {
+        try {
+            return new QuartzJobTriggerEngine(createScheduler(jobName, 1), createJobDetail(jobName), jobName);
+        } catch (final SchedulerException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private static Scheduler createScheduler(final String schedulerName, final int threadCount) throws SchedulerException {
+        Properties props = new Properties();
+        props.put("org.quartz.threadPool.class", SimpleThreadPool.class.getName());
+        props.put("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
+        props.put("org.quartz.scheduler.instanceName", schedulerName);
+        props.put("org.quartz.jobStore.misfireThreshold", "1");
+        StdSchedulerFactory factory = new StdSchedulerFactory();
+        factory.initialize(props);
+        return factory.getScheduler();
+    }
+    
+    private static JobDetail createJobDetail(final String jobName) {
+        return JobBuilder.newJob(NoopJob.class).withIdentity(jobName).build();
+    }
+    
+    /**
+     * Job which does nothing.
+     */
+    public static final class NoopJob implements Job {
+        
+        @Override
+        public void execute(final JobExecutionContext context) {
+        }
+    }
+}
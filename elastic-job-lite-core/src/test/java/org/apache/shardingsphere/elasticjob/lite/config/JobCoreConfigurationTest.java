@@ -29,15 +29,31 @@ public final class JobCoreConfigurationTest {
     @Test
     public void assertBuildAllProperties() {
         JobCoreConfiguration actual = JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3)
-                .shardingItemParameters("0=a,1=b,2=c").jobParameter("param").failover(true).misfire(false).jobErrorHandlerType("IGNORE").description("desc").build();
+                .shardingItemParameters("0=a,1=b,2=c").jobParameter("param").failover(true).failoverBatchSize(10).failoverFairnessPolicy("GREEDY")
+                .misfire(false).workStealing(true).itemTimeoutMilliseconds(1000L).jobErrorHandlerType("IGNORE").description("desc").build();
         assertRequiredProperties(actual);
         assertThat(actual.getShardingItemParameters(), is("0=a,1=b,2=c"));
         assertThat(actual.getJobParameter(), is("param"));
         assertTrue(actual.isFailover());
+        assertThat(actual.getFailoverBatchSize(), is(10));
+        assertThat(actual.getFailoverFairnessPolicy(), is("GREEDY"));
         assertFalse(actual.isMisfire());
+        assertTrue(actual.isWorkStealing());
+        assertThat(actual.getItemTimeoutMilliseconds(), is(1000L));
         assertThat(actual.getDescription(), is("desc"));
     }
     
+    @Test
+    public void assertBuildThreadPoolProperties() {
+        JobCoreConfiguration actual = JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).jobExecutorServiceHandlerType("BOUNDED")
+                .threadPoolName("shared").threadPoolCoreSize(2).threadPoolMaxSize(4).threadPoolQueueCapacity(8).threadPoolRejectionPolicy("ABORT").build();
+        assertThat(actual.getThreadPoolName(), is("shared"));
+        assertThat(actual.getThreadPoolCoreSize(), is(2));
+        assertThat(actual.getThreadPoolMaxSize(), is(4));
+        assertThat(actual.getThreadPoolQueueCapacity(), is(8));
+        assertThat(actual.getThreadPoolRejectionPolicy(), is("ABORT"));
+    }
+    
     @Test
     public void assertBuildRequiredProperties() {
         JobCoreConfiguration actual = JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build();
@@ -48,7 +64,8 @@ public final class JobCoreConfigurationTest {
     @Test
     public void assertBuildWhenOptionalParametersIsNull() {
         //noinspection NullArgumentToVariableArgMethod
-        JobCoreConfiguration actual = JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).shardingItemParameters(null).jobParameter(null).description(null).build();
+        JobCoreConfiguration actual = JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3)
+                .shardingItemParameters(null).jobParameter(null).failoverFairnessPolicy(null).description(null).build();
         assertRequiredProperties(actual);
         assertDefaultValues(actual);
     }
@@ -63,7 +80,16 @@ public final class JobCoreConfigurationTest {
         assertThat(actual.getShardingItemParameters(), is(""));
         assertThat(actual.getJobParameter(), is(""));
         assertFalse(actual.isFailover());
+        assertThat(actual.getFailoverBatchSize(), is(0));
+        assertThat(actual.getFailoverFairnessPolicy(), is(""));
         assertTrue(actual.isMisfire());
+        assertFalse(actual.isWorkStealing());
+        assertThat(actual.getItemTimeoutMilliseconds(), is(0L));
+        assertThat(actual.getThreadPoolName(), is(""));
+        assertThat(actual.getThreadPoolCoreSize(), is(0));
+        assertThat(actual.getThreadPoolMaxSize(), is(0));
+        assertThat(actual.getThreadPoolQueueCapacity(), is(0));
+        assertThat(actual.getThreadPoolRejectionPolicy(), is(""));
         assertThat(actual.getDescription(), is(""));
     }
     
@@ -81,4 +107,19 @@ public final class JobCoreConfigurationTest {
     public void assertBuildWhenTotalSHardingCountIsNegative() {
         JobCoreConfiguration.newBuilder(null, "0/1 * * * * ?", -1).build();
     }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWhenThreadPoolQueueCapacityIsNegative() {
+        JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).threadPoolQueueCapacity(-1).build();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWhenItemTimeoutMillisecondsIsNegative() {
+        JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).itemTimeoutMilliseconds(-1L).build();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWhenFailoverBatchSizeIsNegative() {
+        JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).failoverBatchSize(-1).build();
+    }
 }
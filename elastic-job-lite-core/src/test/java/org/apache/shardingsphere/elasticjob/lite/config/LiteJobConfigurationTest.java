@@ -31,13 +31,18 @@ public final class LiteJobConfigurationTest {
     public void assertBuildAllProperties() {
         LiteJobConfiguration actual = LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build()))
-                .monitorExecution(false).maxTimeDiffSeconds(1000).monitorPort(8888).jobShardingStrategyType("AVG_ALLOCATION").disabled(true).overwrite(true).reconcileIntervalMinutes(60).build();
+                .monitorExecution(false).maxTimeDiffSeconds(1000).monitorPort(8888).jobShardingStrategyType("AVG_ALLOCATION").disabled(true).overwrite(true)
+                .sharedScheduler(true).triggerEngineType("TIMER_WHEEL").maxQueuedTriggers(3).instanceWeight(2).reconcileIntervalMinutes(60).build();
         assertFalse(actual.isMonitorExecution());
         assertThat(actual.getMaxTimeDiffSeconds(), is(1000));
         assertThat(actual.getMonitorPort(), is(8888));
         assertThat(actual.getJobShardingStrategyType(), is("AVG_ALLOCATION"));
         assertTrue(actual.isDisabled());
         assertTrue(actual.isOverwrite());
+        assertTrue(actual.isSharedScheduler());
+        assertThat(actual.getTriggerEngineType(), is("TIMER_WHEEL"));
+        assertThat(actual.getMaxQueuedTriggers(), is(3));
+        assertThat(actual.getInstanceWeight(), is(2));
         assertThat(actual.getReconcileIntervalMinutes(), is(60));
     }
     
@@ -50,6 +55,20 @@ public final class LiteJobConfigurationTest {
         assertThat(actual.getJobShardingStrategyType(), is(""));
         assertFalse(actual.isDisabled());
         assertFalse(actual.isOverwrite());
+        assertFalse(actual.isSharedScheduler());
+        assertThat(actual.getTriggerEngineType(), is(""));
+        assertThat(actual.getMaxQueuedTriggers(), is(0));
+        assertThat(actual.getInstanceWeight(), is(1));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWithNegativeMaxQueuedTriggers() {
+        LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).maxQueuedTriggers(-1);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWithZeroInstanceWeight() {
+        LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).instanceWeight(0);
     }
     
     @Test
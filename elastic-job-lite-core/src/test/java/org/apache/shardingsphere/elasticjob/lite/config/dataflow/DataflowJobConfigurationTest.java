@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.config.dataflow;
+
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataflowJobConfigurationTest {
+    
+    private final JobCoreConfiguration coreConfig = JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build();
+    
+    @Test
+    public void assertBuildAllProperties() {
+        DataflowJobConfiguration actual = DataflowJobConfiguration.newBuilder(coreConfig, true)
+                .prefetchDepth(2).processSubBatchSize(100).processSubBatchOrdered(false).targetBatchLatencyMilliseconds(1000L).maxBatchSize(500).build();
+        assertTrue(actual.isStreamingProcess());
+        assertThat(actual.getPrefetchDepth(), is(2));
+        assertThat(actual.getProcessSubBatchSize(), is(100));
+        assertThat(actual.isProcessSubBatchOrdered(), is(false));
+        assertThat(actual.getTargetBatchLatencyMilliseconds(), is(1000L));
+        assertThat(actual.getMaxBatchSize(), is(500));
+    }
+    
+    @Test
+    public void assertBuildRequiredProperties() {
+        assertDefaultValues(DataflowJobConfiguration.newBuilder(coreConfig, false).build());
+    }
+    
+    @Test
+    public void assertConstructRequiredProperties() {
+        assertDefaultValues(new DataflowJobConfiguration(coreConfig, false));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWhenPrefetchDepthIsNegative() {
+        DataflowJobConfiguration.newBuilder(coreConfig, false).prefetchDepth(-1).build();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWhenProcessSubBatchSizeIsNegative() {
+        DataflowJobConfiguration.newBuilder(coreConfig, false).processSubBatchSize(-1).build();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWhenTargetBatchLatencyMillisecondsIsNegative() {
+        DataflowJobConfiguration.newBuilder(coreConfig, false).targetBatchLatencyMilliseconds(-1L).build();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBuildWhenTargetBatchLatencyMillisecondsWithoutMaxBatchSize() {
+        DataflowJobConfiguration.newBuilder(coreConfig, false).targetBatchLatencyMilliseconds(1000L).build();
+    }
+    
+    private void assertDefaultValues(final DataflowJobConfiguration actual) {
+        assertThat(actual.getCoreConfig(), is(coreConfig));
+        assertThat(actual.isStreamingProcess(), is(false));
+        assertThat(actual.getPrefetchDepth(), is(0));
+        assertThat(actual.getProcessSubBatchSize(), is(0));
+        assertTrue(actual.isProcessSubBatchOrdered());
+        assertThat(actual.getTargetBatchLatencyMilliseconds(), is(0L));
+        assertThat(actual.getMaxBatchSize(), is(0));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.executor.type.impl;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveBatchSizeControllerTest {
+    
+    @Test
+    public void assertInitialBatchSizeWithoutRegisteredBatchSize() {
+        assertThat(new AdaptiveBatchSizeController(100L, 100, null).getBatchSize(), is(25));
+        assertThat(new AdaptiveBatchSizeController(100L, 2, null).getBatchSize(), is(1));
+    }
+    
+    @Test
+    public void assertInitialBatchSizeWithRegisteredBatchSize() {
+        assertThat(new AdaptiveBatchSizeController(100L, 100, 60).getBatchSize(), is(60));
+        assertThat(new AdaptiveBatchSizeController(100L, 100, 200).getBatchSize(), is(100));
+    }
+    
+    @Test
+    public void assertIncreaseWhenFullBatchMeetsTargetLatency() {
+        AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController(100L, 100, 90);
+        controller.onBatchProcessed(90, 100L);
+        assertThat(controller.getBatchSize(), is(95));
+        controller.onBatchProcessed(95, 50L);
+        assertThat(controller.getBatchSize(), is(100));
+        controller.onBatchProcessed(100, 50L);
+        assertThat(controller.getBatchSize(), is(100));
+    }
+    
+    @Test
+    public void assertKeepWhenPartialBatchMeetsTargetLatency() {
+        AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController(100L, 100, 40);
+        controller.onBatchProcessed(10, 50L);
+        assertThat(controller.getBatchSize(), is(40));
+    }
+    
+    @Test
+    public void assertDecreaseWhenExceedTargetLatency() {
+        AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController(100L, 100, 3);
+        controller.onBatchProcessed(3, 101L);
+        assertThat(controller.getBatchSize(), is(1));
+        controller.onBatchProcessed(1, 500L);
+        assertThat(controller.getBatchSize(), is(1));
+    }
+}
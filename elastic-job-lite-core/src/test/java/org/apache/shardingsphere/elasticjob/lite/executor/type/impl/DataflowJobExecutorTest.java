@@ -32,8 +32,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -167,9 +173,146 @@ public final class DataflowJobExecutorTest {
         verify(jobCaller).processData(4);
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWhenFetchDataIsNotEmptyForPipelinedStreamingProcess() {
+        setUp(true, 2, ShardingContextsBuilder.getMultipleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Collections.singletonList(1), Collections.singletonList(2), Collections.emptyList());
+        when(jobCaller.fetchData(1)).thenReturn(Collections.singletonList(3), Collections.emptyList());
+        when(jobFacade.isEligibleForJobRunning()).thenReturn(true);
+        elasticJobExecutor.execute();
+        verify(jobCaller, times(3)).fetchData(0);
+        verify(jobCaller, times(2)).fetchData(1);
+        verify(jobCaller).processData(1);
+        verify(jobCaller).processData(2);
+        verify(jobCaller).processData(3);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWhenFetchDataFailureForPipelinedStreamingProcess() {
+        setUp(true, 1, ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Collections.singletonList(1)).thenThrow(new IllegalStateException());
+        when(jobFacade.isEligibleForJobRunning()).thenReturn(true);
+        elasticJobExecutor.execute();
+        verify(jobCaller, times(2)).fetchData(0);
+        verify(jobCaller).processData(1);
+    }
+    
+    @Test
+    public void assertExecuteWhenIsNotEligibleForJobRunningForPipelinedStreamingProcess() {
+        setUp(true, 1, ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Collections.singletonList(1));
+        when(jobFacade.isEligibleForJobRunning()).thenReturn(false);
+        elasticJobExecutor.execute();
+        verify(jobCaller).processData(1);
+        verify(jobFacade).isEligibleForJobRunning();
+    }
+    
+    @Test
+    public void assertExecuteWhenProcessSubBatches() {
+        setUp(new TestDataflowJobConfiguration(false, builder -> builder.processSubBatchSize(2)), ShardingContextsBuilder.getMultipleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.asList(1, 2, 3, 4, 5));
+        when(jobCaller.fetchData(1)).thenReturn(Arrays.asList(6, 7));
+        elasticJobExecutor.execute();
+        for (int i = 1; i <= 7; i++) {
+            verify(jobCaller).processData(i);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWhenOrderedSubBatchFailureForStreamingProcess() {
+        setUp(new TestDataflowJobConfiguration(true, builder -> builder.processSubBatchSize(1)), ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.asList(1, 2, 3), Collections.emptyList());
+        doThrow(new IllegalStateException()).when(jobCaller).processData(1);
+        elasticJobExecutor.execute();
+        verify(jobCaller).fetchData(0);
+        verify(jobCaller).processData(1);
+        verify(jobFacade, times(0)).isEligibleForJobRunning();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWhenUnorderedSubBatchFailureForStreamingProcess() {
+        setUp(new TestDataflowJobConfiguration(true, builder -> builder.processSubBatchSize(1).processSubBatchOrdered(false)), ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.asList(1, 2, 3), Collections.emptyList());
+        doThrow(new IllegalStateException()).when(jobCaller).processData(3);
+        elasticJobExecutor.execute();
+        verify(jobCaller).fetchData(0);
+        verify(jobCaller).processData(3);
+        verify(jobFacade, times(0)).isEligibleForJobRunning();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWhenInterruptedWhileWaitingForSubBatchesForStreamingProcess() {
+        setUp(new TestDataflowJobConfiguration(true, builder -> builder.processSubBatchSize(1)), ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.asList(1, 2, 3));
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            return null;
+        }).when(jobCaller).processData(1);
+        doAnswer(invocation -> {
+            blockingLatch.await();
+            return null;
+        }).when(jobCaller).processData(2);
+        try {
+            elasticJobExecutor.execute();
+            assertTrue(Thread.interrupted());
+            assertThat(blockingLatch.getCount(), is(1L));
+            verify(jobCaller).fetchData(0);
+            verify(jobFacade, times(0)).isEligibleForJobRunning();
+        } finally {
+            blockingLatch.countDown();
+        }
+    }
+    
+    @Test
+    public void assertExecuteWhenAdaptiveBatchSizeWithoutRegisteredBatchSize() {
+        setUp(new TestDataflowJobConfiguration(false, builder -> builder.targetBatchLatencyMilliseconds(60000L).maxBatchSize(8)), ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobFacade.getSuggestedBatchSize(0)).thenReturn(null);
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.asList(1, 2));
+        elasticJobExecutor.execute();
+        verify(jobCaller).processData(1);
+        verify(jobCaller).processData(2);
+        verify(jobFacade).registerSuggestedBatchSize(0, 3);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWhenAdaptiveBatchSizeWithRegisteredBatchSizeForStreamingProcess() {
+        setUp(new TestDataflowJobConfiguration(true, builder -> builder.targetBatchLatencyMilliseconds(60000L).maxBatchSize(8)), ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobFacade.getSuggestedBatchSize(0)).thenReturn(5);
+        when(jobCaller.fetchData(0)).thenReturn(Collections.singletonList(1), Collections.emptyList());
+        when(jobFacade.isEligibleForJobRunning()).thenReturn(true);
+        elasticJobExecutor.execute();
+        verify(jobCaller, times(2)).fetchData(0);
+        verify(jobCaller).processData(1);
+        verify(jobFacade).registerSuggestedBatchSize(0, 5);
+    }
+    
+    @Test
+    public void assertExecuteWithoutAdaptiveBatchSize() {
+        setUp(false, ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.asList(1, 2));
+        elasticJobExecutor.execute();
+        verify(jobFacade, times(0)).getSuggestedBatchSize(anyInt());
+        verify(jobFacade, times(0)).registerSuggestedBatchSize(anyInt(), anyInt());
+    }
+    
     private void setUp(final boolean isStreamingProcess, final ShardingContexts shardingContexts) {
+        setUp(isStreamingProcess, 0, shardingContexts);
+    }
+    
+    private void setUp(final boolean isStreamingProcess, final int prefetchDepth, final ShardingContexts shardingContexts) {
+        setUp(new TestDataflowJobConfiguration(isStreamingProcess, builder -> builder.prefetchDepth(prefetchDepth)), shardingContexts);
+    }
+    
+    private void setUp(final TestDataflowJobConfiguration jobRootConfig, final ShardingContexts shardingContexts) {
         this.shardingContexts = shardingContexts;
-        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestDataflowJobConfiguration(isStreamingProcess));
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(jobRootConfig);
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
         elasticJobExecutor = new ElasticJobExecutor(new TestDataflowJob(jobCaller), jobFacade, new DataflowJobExecutor());
         ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
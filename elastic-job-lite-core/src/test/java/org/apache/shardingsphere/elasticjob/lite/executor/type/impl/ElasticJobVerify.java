@@ -50,5 +50,6 @@ final class ElasticJobVerify {
         verify(jobFacade).registerJobCompleted(shardingContexts);
         verify(jobFacade).isExecuteMisfired(shardingContexts.getShardingItemParameters().keySet());
         verify(jobFacade).afterJobExecuted(shardingContexts);
+        verify(jobFacade).clearRunningFlag();
     }
 }
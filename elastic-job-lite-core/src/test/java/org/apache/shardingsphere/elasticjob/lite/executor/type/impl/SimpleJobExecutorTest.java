@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.elasticjob.lite.executor.type.impl;
 
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.tracing.event.JobStatusTraceEvent.State;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobExecutionEnvironmentException;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
@@ -33,15 +35,33 @@ import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +74,9 @@ public final class SimpleJobExecutorTest {
     @Mock
     private JobFacade jobFacade;
     
+    @Mock
+    private ExecutorService executorService;
+    
     private ElasticJobExecutor elasticJobExecutor;
     
     @Before
@@ -93,6 +116,7 @@ public final class SimpleJobExecutorTest {
         verify(jobFacade).checkJobExecutionEnvironment();
         verify(jobFacade).getShardingContexts();
         verify(jobFacade).misfireIfRunning(shardingContexts.getShardingItemParameters().keySet());
+        verify(jobFacade, times(0)).clearRunningFlag();
         verify(jobCaller, times(0)).execute();
     }
     
@@ -158,11 +182,32 @@ public final class SimpleJobExecutorTest {
         ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
         elasticJobExecutor.execute();
         verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, "");
+        InOrder inOrder = inOrder(jobFacade);
+        inOrder.verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, "");
+        inOrder.verify(jobFacade).registerExecutionDurations(any());
         ElasticJobVerify.verifyForIsNotMisfire(jobFacade, shardingContexts);
         verify(jobCaller, times(shardingContexts.getShardingTotalCount())).execute();
     }
     
+    @Test
+    public void assertExecuteAsyncWithoutWaitingForMultipleShardingItems() {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            latch.await();
+            return null;
+        }).when(jobCaller).execute();
+        CompletableFuture<Void> actual = elasticJobExecutor.executeAsync();
+        assertFalse(actual.isDone());
+        verify(jobFacade, times(0)).registerJobCompleted(shardingContexts);
+        verify(jobFacade, times(0)).clearRunningFlag();
+        latch.countDown();
+        actual.join();
+        ElasticJobVerify.verifyForIsNotMisfire(jobFacade, shardingContexts);
+        verify(jobCaller, times(2)).execute();
+    }
+    
     @Test
     public void assertExecuteWhenRunOnceWithMisfireIsEmpty() {
         ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
@@ -201,6 +246,35 @@ public final class SimpleJobExecutorTest {
         verify(jobFacade, times(2)).registerJobCompleted(shardingContexts);
     }
     
+    @Test
+    public void assertExecuteWhenFireArrivesDuringMisfiredExecution() {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getSingleShardingContexts();
+        AtomicBoolean running = new AtomicBoolean();
+        when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())).thenAnswer(invocation -> running.getAndSet(true));
+        doAnswer(invocation -> {
+            running.set(false);
+            return null;
+        }).when(jobFacade).clearRunningFlag();
+        when(jobFacade.isExecuteMisfired(shardingContexts.getShardingItemParameters().keySet())).thenReturn(true, false);
+        AtomicInteger executedCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (2 == executedCount.incrementAndGet()) {
+                elasticJobExecutor.execute();
+            }
+            return null;
+        }).when(jobCaller).execute();
+        elasticJobExecutor.execute();
+        verify(jobFacade, times(2)).misfireIfRunning(shardingContexts.getShardingItemParameters().keySet());
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED,
+                "Previous job 'test_job' - shardingItems '[0]' is still running, misfired job will start after previous job completed.");
+        verify(jobFacade).beforeJobExecuted(shardingContexts);
+        verify(jobFacade).afterJobExecuted(shardingContexts);
+        verify(jobFacade).clearRunningFlag();
+        verify(jobCaller, times(2)).execute();
+        assertFalse(running.get());
+    }
+    
     @Test(expected = JobSystemException.class)
     public void assertBeforeJobExecutedFailure() {
         ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
@@ -227,4 +301,75 @@ public final class SimpleJobExecutorTest {
             verify(jobCaller, times(2)).execute();
         }
     }
+    
+    @Test
+    public void assertExecuteWithWorkStealing() {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(() -> new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).workStealing(true).build()));
+        elasticJobExecutor = new ElasticJobExecutor(new TestSimpleJob(jobCaller), jobFacade, new SimpleJobExecutor());
+        when(jobFacade.claimShardingItem(0)).thenReturn(true);
+        when(jobFacade.claimShardingItem(1)).thenReturn(false);
+        ShardingContexts stolenShardingContexts = new ShardingContexts("fake_stolen_task_id", "test_job", 3, "", Collections.singletonMap(2, "C"));
+        when(jobFacade.getStolenShardingContexts()).thenReturn(stolenShardingContexts, new ShardingContexts("fake_empty_task_id", "test_job", 3, "", Collections.emptyMap()));
+        elasticJobExecutor.execute();
+        verify(jobFacade).registerStealableItems(shardingContexts);
+        verify(jobFacade, times(0)).registerStealableItems(stolenShardingContexts);
+        verify(jobFacade, times(2)).claimShardingItem(anyInt());
+        verify(jobFacade).registerJobCompleted(argThat(each -> each.getShardingItemParameters().keySet().equals(Collections.singleton(0))));
+        verify(jobFacade).registerJobBegin(stolenShardingContexts);
+        verify(jobFacade).registerJobCompleted(stolenShardingContexts);
+        verify(jobCaller, times(2)).execute();
+    }
+    
+    @Test
+    public void assertExecuteWhenShardingItemsRejected() {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        doThrow(RejectedExecutionException.class).when(executorService).execute(any());
+        ReflectionUtils.setFieldValue(elasticJobExecutor, "executorService", executorService);
+        elasticJobExecutor.execute();
+        String lineSeparator = System.getProperty("line.separator");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_ERROR,
+                "{0=java.util.concurrent.RejectedExecutionException" + lineSeparator + ", 1=java.util.concurrent.RejectedExecutionException" + lineSeparator + "}");
+        verify(jobFacade, times(2)).postJobExecutionEvent(argThat(each -> !each.isSuccess()));
+        verify(jobFacade).registerJobCompleted(shardingContexts);
+        verify(jobCaller, times(0)).execute();
+    }
+    
+    @Test
+    public void assertExecuteWhenShardingItemsTimeout() throws InterruptedException {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        CountDownLatch interruptedLatch = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException ex) {
+                interruptedLatch.countDown();
+            }
+            return null;
+        }).when(jobCaller).execute();
+        ReflectionUtils.setFieldValue(elasticJobExecutor, "itemTimeoutMilliseconds", 100L);
+        elasticJobExecutor.execute();
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts.getTaskId()), eq(State.TASK_ERROR), anyString());
+        verify(jobFacade, times(2)).postJobExecutionEvent(argThat(each -> null != each.getFailureCause() && each.getFailureCause().contains("execution timeout after 100 milliseconds")));
+        verify(jobFacade).registerJobCompleted(shardingContexts);
+        verify(jobFacade).registerTimeoutItemRunning(0);
+        verify(jobFacade).registerTimeoutItemRunning(1);
+        assertTrue(interruptedLatch.await(1L, TimeUnit.SECONDS));
+        verify(jobFacade, timeout(1000L)).registerTimeoutItemFinished(0);
+        verify(jobFacade, timeout(1000L)).registerTimeoutItemFinished(1);
+    }
+    
+    @Test
+    public void assertExecuteWhenSingleShardingItemNotTimeout() {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getSingleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        ReflectionUtils.setFieldValue(elasticJobExecutor, "itemTimeoutMilliseconds", 10000L);
+        elasticJobExecutor.execute();
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, "");
+        verify(jobFacade).registerJobCompleted(shardingContexts);
+        verify(jobCaller).execute();
+    }
 }
@@ -24,13 +24,24 @@ import org.apache.shardingsphere.elasticjob.lite.config.JobTypeConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.fixture.ShardingContextsBuilder;
 
+import java.util.function.Consumer;
+
 @RequiredArgsConstructor
 public final class TestDataflowJobConfiguration implements JobRootConfiguration {
     
     private final boolean streamingProcess;
     
+    private final Consumer<DataflowJobConfiguration.Builder> dataflowOptions;
+    
+    public TestDataflowJobConfiguration(final boolean streamingProcess) {
+        this(streamingProcess, builder -> { });
+    }
+    
     @Override
     public JobTypeConfiguration getTypeConfig() {
-        return new DataflowJobConfiguration(JobCoreConfiguration.newBuilder(ShardingContextsBuilder.JOB_NAME, "0/1 * * * * ?", 3).jobErrorHandlerType("IGNORE").build(), streamingProcess);
+        DataflowJobConfiguration.Builder result = DataflowJobConfiguration.newBuilder(
+                JobCoreConfiguration.newBuilder(ShardingContextsBuilder.JOB_NAME, "0/1 * * * * ?", 3).jobErrorHandlerType("IGNORE").build(), streamingProcess);
+        dataflowOptions.accept(result);
+        return result.build();
     }
 }
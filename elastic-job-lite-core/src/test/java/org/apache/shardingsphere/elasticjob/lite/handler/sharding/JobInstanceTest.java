@@ -30,6 +30,13 @@ public final class JobInstanceTest {
         assertThat(new JobInstance("127.0.0.1@-@0").getJobInstanceId(), is("127.0.0.1@-@0"));
     }
     
+    @Test
+    public void assertGetWeight() {
+        assertThat(new JobInstance("127.0.0.1@-@0").getWeight(), is(1));
+        assertThat(new JobInstance("127.0.0.1@-@0", 3).getWeight(), is(3));
+        assertThat(new JobInstance(3).getWeight(), is(3));
+    }
+    
     @Test
     public void assertGetIp() {
         assertThat(new JobInstance().getIp(), is(IpUtils.getIp()));
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.elasticjob.lite.handler.sharding;
 
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.AverageAllocationJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.ConsistentHashJobShardingStrategy;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl.OdevitySortByNameJobShardingStrategy;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
 import org.junit.Test;
@@ -41,4 +42,9 @@ public final class JobShardingStrategyFactoryTest {
     public void assertGetStrategy() {
         assertThat(JobShardingStrategyFactory.getStrategy("ODEVITY"), instanceOf(OdevitySortByNameJobShardingStrategy.class));
     }
+    
+    @Test
+    public void assertGetConsistentHashStrategy() {
+        assertThat(JobShardingStrategyFactory.getStrategy("CONSISTENT_HASH"), instanceOf(ConsistentHashJobShardingStrategy.class));
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobShardingStrategy;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConsistentHashJobShardingStrategyTest {
+    
+    private final JobShardingStrategy jobShardingStrategy = new ConsistentHashJobShardingStrategy();
+    
+    @Test
+    public void shardingForZeroServer() {
+        assertThat(jobShardingStrategy.sharding(Collections.emptyList(), "test_job", 3), is(Collections.<JobInstance, List<Integer>>emptyMap()));
+    }
+    
+    @Test
+    public void shardingForAllShardingItems() {
+        Map<Integer, JobInstance> actual = getOwners(jobShardingStrategy.sharding(
+                Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 100));
+        assertThat(actual.size(), is(100));
+    }
+    
+    @Test
+    public void shardingWhenJobInstanceJoined() {
+        Map<Integer, JobInstance> before = getOwners(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 100));
+        Map<Integer, JobInstance> after = getOwners(jobShardingStrategy.sharding(
+                Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 100));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(after.get(i).equals(before.get(i)) || after.get(i).equals(new JobInstance("host2@-@0")));
+        }
+    }
+    
+    @Test
+    public void shardingWhenJobInstanceLeft() {
+        Map<Integer, JobInstance> before = getOwners(jobShardingStrategy.sharding(
+                Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 100));
+        Map<Integer, JobInstance> after = getOwners(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host2@-@0")), "test_job", 100));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(after.get(i).equals(before.get(i)) || before.get(i).equals(new JobInstance("host1@-@0")));
+        }
+    }
+    
+    @Test
+    public void shardingWithWeight() {
+        Map<JobInstance, List<Integer>> actual = jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0", 3), new JobInstance("host1@-@0")), "test_job", 1000);
+        assertTrue(actual.get(new JobInstance("host0@-@0")).size() > actual.get(new JobInstance("host1@-@0")).size());
+    }
+    
+    @Test
+    public void shardingWithCurrentShardingResult() {
+        List<JobInstance> jobInstances = Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"));
+        Map<Integer, String> currentShardingResult = new HashMap<>();
+        currentShardingResult.put(0, "host2@-@0");
+        assertThat(new ConsistentHashJobShardingStrategy().sharding(jobInstances, "test_job", 100, currentShardingResult), is(jobShardingStrategy.sharding(jobInstances, "test_job", 100)));
+    }
+    
+    private Map<Integer, JobInstance> getOwners(final Map<JobInstance, List<Integer>> shardingResult) {
+        Map<Integer, JobInstance> result = new HashMap<>();
+        for (Entry<JobInstance, List<Integer>> entry : shardingResult.entrySet()) {
+            for (int each : entry.getValue()) {
+                assertThat(result.put(each, entry.getKey()), is((JobInstance) null));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.CostAwareJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LoadAwareJobShardingStrategyTest {
+    
+    private final CostAwareJobShardingStrategy jobShardingStrategy = new LoadAwareJobShardingStrategy();
+    
+    @Test
+    public void shardingForZeroServer() {
+        assertThat(jobShardingStrategy.sharding(Collections.emptyList(), "test_job", 3), is(Collections.<JobInstance, List<Integer>>emptyMap()));
+    }
+    
+    @Test
+    public void shardingWithoutCosts() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(3, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 3, 6));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(1, 4, 7));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(2, 5));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 8), is(expected));
+    }
+    
+    @Test
+    public void shardingWithCosts() {
+        Map<Integer, Long> shardingItemCosts = new HashMap<>(4, 1);
+        shardingItemCosts.put(0, 100L);
+        shardingItemCosts.put(1, 10L);
+        shardingItemCosts.put(2, 10L);
+        shardingItemCosts.put(3, 80L);
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Collections.singletonList(0));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(1, 2, 3));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 4, shardingItemCosts), is(expected));
+    }
+    
+    @Test
+    public void shardingWithPartialCosts() {
+        Map<Integer, Long> shardingItemCosts = new HashMap<>(2, 1);
+        shardingItemCosts.put(0, 100L);
+        shardingItemCosts.put(1, 20L);
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Collections.singletonList(0));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(1, 2));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 3, shardingItemCosts), is(expected));
+    }
+    
+    @Test
+    public void shardingWithWeight() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 2, 3));
+        expected.put(new JobInstance("host1@-@0"), Collections.singletonList(1));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0", 3), new JobInstance("host1@-@0")), "test_job", 4), is(expected));
+    }
+}
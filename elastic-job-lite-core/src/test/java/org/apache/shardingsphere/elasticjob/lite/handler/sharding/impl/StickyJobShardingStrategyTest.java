@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.IncrementalJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StickyJobShardingStrategyTest {
+    
+    private final IncrementalJobShardingStrategy jobShardingStrategy = new StickyJobShardingStrategy();
+    
+    @Test
+    public void shardingForZeroServer() {
+        assertThat(jobShardingStrategy.sharding(Collections.emptyList(), "test_job", 3), is(Collections.<JobInstance, List<Integer>>emptyMap()));
+    }
+    
+    @Test
+    public void shardingWithoutCurrentShardingResult() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(3, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4, 5));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(6, 7));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 8), is(expected));
+    }
+    
+    @Test
+    public void shardingWhenJobInstanceJoined() {
+        Map<Integer, String> currentShardingResult = new HashMap<>();
+        currentShardingResult.put(0, "host0@-@0");
+        currentShardingResult.put(1, "host0@-@0");
+        currentShardingResult.put(2, "host0@-@0");
+        currentShardingResult.put(3, "host1@-@0");
+        currentShardingResult.put(4, "host1@-@0");
+        currentShardingResult.put(5, "host1@-@0");
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(3, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(2, 5));
+        assertThat(jobShardingStrategy.sharding(
+                Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 6, currentShardingResult), is(expected));
+    }
+    
+    @Test
+    public void shardingWhenJobInstanceLeft() {
+        Map<Integer, String> currentShardingResult = new HashMap<>();
+        currentShardingResult.put(0, "host0@-@0");
+        currentShardingResult.put(1, "host0@-@0");
+        currentShardingResult.put(2, "host1@-@0");
+        currentShardingResult.put(3, "host1@-@0");
+        currentShardingResult.put(4, "host2@-@0");
+        currentShardingResult.put(5, "host2@-@0");
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(3, 4, 5));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host2@-@0")), "test_job", 6, currentShardingResult), is(expected));
+    }
+    
+    @Test
+    public void shardingWhenShardingTotalCountDecreased() {
+        Map<Integer, String> currentShardingResult = new HashMap<>();
+        currentShardingResult.put(0, "host0@-@0");
+        currentShardingResult.put(1, "host1@-@0");
+        currentShardingResult.put(2, "host1@-@0");
+        currentShardingResult.put(3, "host1@-@0");
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Collections.singletonList(0));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(1, 2));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 3, currentShardingResult), is(expected));
+    }
+}
@@ -18,12 +18,17 @@
 package org.apache.shardingsphere.elasticjob.lite.handler.threadpool;
 
 import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl.BoundedJobExecutorServiceHandler;
 import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl.CPUUsageJobExecutorServiceHandler;
 import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl.SingleThreadJobExecutorServiceHandler;
+import org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl.VirtualThreadJobExecutorServiceHandler;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutorService;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class JobExecutorServiceHandlerFactoryTest {
     
@@ -41,4 +46,21 @@ public final class JobExecutorServiceHandlerFactoryTest {
     public void assertGetHandler() {
         assertThat(JobExecutorServiceHandlerFactory.getHandler("SINGLE_THREAD"), instanceOf(SingleThreadJobExecutorServiceHandler.class));
     }
+    
+    @Test
+    public void assertGetVirtualThreadHandler() {
+        assertThat(JobExecutorServiceHandlerFactory.getHandler("VIRTUAL_THREAD"), instanceOf(VirtualThreadJobExecutorServiceHandler.class));
+    }
+    
+    @Test
+    public void assertGetBoundedHandler() {
+        assertThat(JobExecutorServiceHandlerFactory.getHandler("BOUNDED"), instanceOf(BoundedJobExecutorServiceHandler.class));
+    }
+    
+    @Test
+    public void assertReleaseExecutorServices() {
+        ExecutorService executorService = JobExecutorServiceHandlerFactory.getHandler("BOUNDED").createExecutorService("test_job_for_release");
+        JobExecutorServiceHandlerFactory.releaseExecutorServices("test_job_for_release");
+        assertTrue(executorService.isShutdown());
+    }
 }
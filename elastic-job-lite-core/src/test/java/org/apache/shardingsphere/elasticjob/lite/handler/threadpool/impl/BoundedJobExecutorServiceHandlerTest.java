@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.handler.threadpool.impl;
+
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BoundedJobExecutorServiceHandlerTest {
+    
+    private final BoundedJobExecutorServiceHandler handler = new BoundedJobExecutorServiceHandler();
+    
+    @Test
+    public void assertCreateExecutorServiceWithJobName() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = handler.createExecutorService("test_job");
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().getName()).get(), startsWith("inner-job-test_job-"));
+            assertThat(handler.createExecutorService("test_job"), sameInstance(executorService));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertCreateExecutorServiceWithoutThreadPoolName() {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "", ""));
+        try {
+            assertThat(handler.createExecutorService(createCoreConfiguration("other_job", "", "")), not(sameInstance(executorService)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertCreateExecutorServiceWithSharedThreadPoolName() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "shared", ""));
+        try {
+            assertThat(handler.createExecutorService(createCoreConfiguration("other_job", "shared", "")), sameInstance(executorService));
+            assertThat(executorService.submit(() -> Thread.currentThread().getName()).get(), startsWith("inner-pool-shared-"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertResizeExecutorServiceWhenConfigurationChanged() throws InterruptedException {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "", "ABORT"));
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            assertThat(handler.createExecutorService(createCoreConfiguration("test_job", "", "ABORT", 2, 1)), sameInstance(executorService));
+            executorService.execute(() -> countDownAndAwait(started, latch));
+            executorService.execute(() -> countDownAndAwait(started, latch));
+            assertTrue(started.await(5L, TimeUnit.SECONDS));
+        } finally {
+            latch.countDown();
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertRebuildExecutorServiceWhenQueueCapacityChanged() {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "", ""));
+        ExecutorService actual = handler.createExecutorService(createCoreConfiguration("test_job", "", "", 1, 2));
+        try {
+            assertThat(actual, not(sameInstance(executorService)));
+            assertThat(handler.createExecutorService(createCoreConfiguration("test_job", "", "", 1, 2)), sameInstance(actual));
+        } finally {
+            executorService.shutdown();
+            actual.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertNotChangeSharedExecutorServiceWhenOtherJobJoins() {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "shared", ""));
+        try {
+            assertThat(handler.createExecutorService(createCoreConfiguration("other_job", "shared", "", 1, 2)), sameInstance(executorService));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertReleaseSharedExecutorService() {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "shared", ""));
+        handler.createExecutorService(createCoreConfiguration("other_job", "shared", ""));
+        handler.releaseExecutorService("test_job");
+        assertFalse(executorService.isShutdown());
+        handler.releaseExecutorService("other_job");
+        assertTrue(executorService.isShutdown());
+        ExecutorService actual = handler.createExecutorService(createCoreConfiguration("test_job", "shared", ""));
+        try {
+            assertThat(actual, not(sameInstance(executorService)));
+        } finally {
+            actual.shutdown();
+        }
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertRejectWithAbortPolicy() {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "", "ABORT"));
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executorService.execute(() -> await(latch));
+            executorService.execute(() -> await(latch));
+            executorService.execute(() -> await(latch));
+        } finally {
+            latch.countDown();
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertRejectWithCallerRunsPolicy() {
+        ExecutorService executorService = handler.createExecutorService(createCoreConfiguration("test_job", "", "CALLER_RUNS"));
+        CountDownLatch latch = new CountDownLatch(1);
+        String[] actualThreadName = new String[1];
+        try {
+            executorService.execute(() -> await(latch));
+            executorService.execute(() -> await(latch));
+            executorService.execute(() -> actualThreadName[0] = Thread.currentThread().getName());
+            assertThat(actualThreadName[0], is(Thread.currentThread().getName()));
+        } finally {
+            latch.countDown();
+            executorService.shutdown();
+        }
+    }
+    
+    @Test(expected = JobConfigurationException.class)
+    public void assertCreateExecutorServiceWithInvalidRejectionPolicy() {
+        handler.createExecutorService(createCoreConfiguration("test_job", "", "INVALID"));
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(handler.getType(), is("BOUNDED"));
+    }
+    
+    private JobCoreConfiguration createCoreConfiguration(final String jobName, final String threadPoolName, final String threadPoolRejectionPolicy) {
+        return createCoreConfiguration(jobName, threadPoolName, threadPoolRejectionPolicy, 1, 1);
+    }
+    
+    private JobCoreConfiguration createCoreConfiguration(final String jobName, final String threadPoolName, final String threadPoolRejectionPolicy, 
+                                                         final int threadPoolSize, final int threadPoolQueueCapacity) {
+        return JobCoreConfiguration.newBuilder(jobName, "0/1 * * * * ?", 3).jobExecutorServiceHandlerType("BOUNDED").threadPoolName(threadPoolName).threadPoolCoreSize(threadPoolSize)
+                .threadPoolMaxSize(threadPoolSize).threadPoolQueueCapacity(threadPoolQueueCapacity).threadPoolRejectionPolicy(threadPoolRejectionPolicy).build();
+    }
+    
+    private void countDownAndAwait(final CountDownLatch started, final CountDownLatch latch) {
+        started.countDown();
+        await(latch);
+    }
+    
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
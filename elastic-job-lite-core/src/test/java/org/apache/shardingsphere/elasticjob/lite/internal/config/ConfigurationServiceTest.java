@@ -23,6 +23,7 @@ import org.apache.shardingsphere.elasticjob.lite.exception.JobExecutionEnvironme
 import org.apache.shardingsphere.elasticjob.lite.fixture.LiteJsonConstants;
 import org.apache.shardingsphere.elasticjob.lite.fixture.TestSimpleJob;
 import org.apache.shardingsphere.elasticjob.lite.fixture.util.JobConfigurationUtil;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.Before;
@@ -32,7 +33,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,6 +80,25 @@ public final class ConfigurationServiceTest {
         assertThat(actual.getTypeConfig().getCoreConfig().getShardingTotalCount(), is(3));
     }
     
+    @Test
+    public void assertLoadFromCacheWithSnapshot() {
+        JobRegistry.getInstance().enableJobConfigSnapshot("test_job");
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(LiteJsonConstants.getJobJson());
+        LiteJobConfiguration actual = configService.load(true);
+        assertThat(configService.load(true), sameInstance(actual));
+        verify(jobNodeStorage, times(1)).getJobNodeData(ConfigurationNode.ROOT);
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertLoadDirectlyWithSnapshot() {
+        JobRegistry.getInstance().enableJobConfigSnapshot("test_job");
+        JobRegistry.getInstance().updateJobConfigSnapshot("test_job", JobConfigurationUtil.createSimpleLiteJobConfiguration());
+        when(jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT)).thenReturn(LiteJsonConstants.getJobJson());
+        assertThat(configService.load(false).getTypeConfig().getCoreConfig().getShardingTotalCount(), is(3));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test(expected = JobConfigurationException.class)
     public void assertPersistJobConfigurationForJobConflict() {
         when(jobNodeStorage.isJobRootNodeExisted()).thenReturn(true);
@@ -32,6 +32,9 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -57,7 +60,8 @@ public final class RescheduleListenerManagerTest {
     @Test
     public void assertStart() {
         rescheduleListenerManager.start();
-        verify(jobNodeStorage).addDataListener(ArgumentMatchers.<RescheduleListenerManager.CronSettingAndJobEventChangedJobListener>any());
+        verify(jobNodeStorage, times(2)).addDataListener(ArgumentMatchers.any());
+        JobRegistry.getInstance().shutdown("test_job");
     }
     
     @Test
@@ -86,4 +90,29 @@ public final class RescheduleListenerManagerTest {
         verify(jobScheduleController).rescheduleJob("0/1 * * * * ?");
         JobRegistry.getInstance().shutdown("test_job");
     }
+    
+    @Test
+    public void assertJobConfigurationChangedJobListenerWhenIsNotConfigPath() {
+        JobRegistry.getInstance().enableJobConfigSnapshot("test_job");
+        rescheduleListenerManager.new JobConfigurationChangedJobListener().dataChanged("/test_job/config/other", Type.NODE_UPDATED, LiteJsonConstants.getJobJson());
+        assertNull(JobRegistry.getInstance().getJobConfigSnapshot("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertJobConfigurationChangedJobListenerWhenIsConfigPathAndUpdate() {
+        JobRegistry.getInstance().enableJobConfigSnapshot("test_job");
+        rescheduleListenerManager.new JobConfigurationChangedJobListener().dataChanged("/test_job/config", Type.NODE_UPDATED, LiteJsonConstants.getJobJson());
+        assertThat(JobRegistry.getInstance().getJobConfigSnapshot("test_job").getTypeConfig().getCoreConfig().getCron(), is("0/1 * * * * ?"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertJobConfigurationChangedJobListenerWhenIsConfigPathAndRemove() {
+        JobRegistry.getInstance().enableJobConfigSnapshot("test_job");
+        rescheduleListenerManager.new JobConfigurationChangedJobListener().dataChanged("/test_job/config", Type.NODE_UPDATED, LiteJsonConstants.getJobJson());
+        rescheduleListenerManager.new JobConfigurationChangedJobListener().dataChanged("/test_job/config", Type.NODE_REMOVED, "");
+        assertNull(JobRegistry.getInstance().getJobConfigSnapshot("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.failover;
+
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class FailoverFairnessPolicyTest {
+    
+    @Test
+    public void assertValueFrom() {
+        assertThat(FailoverFairnessPolicy.valueFrom(""), is(FailoverFairnessPolicy.AVERAGE));
+        assertThat(FailoverFairnessPolicy.valueFrom(null), is(FailoverFairnessPolicy.AVERAGE));
+        assertThat(FailoverFairnessPolicy.valueFrom("greedy"), is(FailoverFairnessPolicy.GREEDY));
+    }
+    
+    @Test(expected = JobConfigurationException.class)
+    public void assertValueFromWithInvalidPolicy() {
+        FailoverFairnessPolicy.valueFrom("INVALID");
+    }
+    
+    @Test
+    public void assertGetClaimCountForAverage() {
+        assertThat(FailoverFairnessPolicy.AVERAGE.getClaimCount(100, 4, 50), is(25));
+        assertThat(FailoverFairnessPolicy.AVERAGE.getClaimCount(5, 2, 50), is(3));
+        assertThat(FailoverFairnessPolicy.AVERAGE.getClaimCount(100, 2, 10), is(10));
+        assertThat(FailoverFairnessPolicy.AVERAGE.getClaimCount(5, 0, 10), is(5));
+    }
+    
+    @Test
+    public void assertGetClaimCountForGreedy() {
+        assertThat(FailoverFairnessPolicy.GREEDY.getClaimCount(100, 4, 50), is(50));
+        assertThat(FailoverFairnessPolicy.GREEDY.getClaimCount(5, 4, 50), is(5));
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationSe
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractJobListener;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.lite.internal.sharding.WorkStealingService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.Before;
@@ -38,7 +39,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,6 +63,9 @@ public final class FailoverListenerManagerTest {
     @Mock
     private FailoverService failoverService;
     
+    @Mock
+    private WorkStealingService workStealingService;
+    
     private final FailoverListenerManager failoverListenerManager = new FailoverListenerManager(null, "test_job");
     
     @Before
@@ -66,12 +74,14 @@ public final class FailoverListenerManagerTest {
         ReflectionUtils.setFieldValue(failoverListenerManager, "configService", configService);
         ReflectionUtils.setFieldValue(failoverListenerManager, "shardingService", shardingService);
         ReflectionUtils.setFieldValue(failoverListenerManager, "failoverService", failoverService);
+        ReflectionUtils.setFieldValue(failoverListenerManager, "workStealingService", workStealingService);
     }
     
     @Test
     public void assertStart() {
         failoverListenerManager.start();
-        verify(jobNodeStorage, times(2)).addDataListener(ArgumentMatchers.<AbstractJobListener>any());
+        verify(jobNodeStorage, times(3)).addDataListener(ArgumentMatchers.<AbstractJobListener>any());
+        FailoverOwnershipRegistry.getInstance().unregister("test_job");
     }
     
     @Test
@@ -119,6 +129,33 @@ public final class FailoverListenerManagerTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertJobCrashedJobListenerWhenIsOtherInstanceCrashedWithFailoverBatch() {
+        JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
+        when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).failover(true).failoverBatchSize(10).build())).build());
+        when(shardingService.getShardingItems("127.0.0.1@-@1")).thenReturn(Arrays.asList(0, 2));
+        failoverListenerManager.new JobCrashedJobListener().dataChanged("/test_job/instances/127.0.0.1@-@1", Type.NODE_REMOVED, "");
+        verify(failoverService).setCrashedFailoverFlags(Arrays.asList(0, 2));
+        verify(failoverService, times(0)).setCrashedFailoverFlag(anyInt());
+        verify(failoverService).failoverIfNecessary();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertJobCrashedJobListenerWhenIsStealingInstanceCrashed() {
+        JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
+        when(configService.load(true)).thenReturn(
+                LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).failover(true).build())).build());
+        when(shardingService.getShardingItems("127.0.0.1@-@1")).thenReturn(Collections.singletonList(0));
+        when(workStealingService.getStolenItems("127.0.0.1@-@1")).thenReturn(Collections.singletonList(2));
+        failoverListenerManager.new JobCrashedJobListener().dataChanged("/test_job/instances/127.0.0.1@-@1", Type.NODE_REMOVED, "");
+        verify(failoverService).setCrashedFailoverFlag(0);
+        verify(failoverService).setCrashedFailoverFlag(2);
+        verify(failoverService, times(2)).failoverIfNecessary();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     public void assertJobCrashedJobListenerWhenIsOtherFailoverInstanceCrashed() {
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
@@ -154,4 +191,31 @@ public final class FailoverListenerManagerTest {
         failoverListenerManager.new FailoverSettingsChangedJobListener().dataChanged("/test_job/config", Type.NODE_UPDATED, LiteJsonConstants.getJobJsonWithFailover(false));
         verify(failoverService).removeFailoverInfo();
     }
+    
+    @Test
+    public void assertFailoverOwnershipChangedJobListenerWhenIsNotFailoverPath() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        FailoverOwnershipRegistry.getInstance().getOwners("test_job", HashMap::new);
+        failoverListenerManager.new FailoverOwnershipChangedJobListener().dataChanged("/test_job/sharding/0/instance", Type.NODE_ADDED, "127.0.0.1@-@0");
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", HashMap::new), is(Collections.<Integer, String>emptyMap()));
+        FailoverOwnershipRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertFailoverOwnershipChangedJobListenerWhenFailoverAdded() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        FailoverOwnershipRegistry.getInstance().getOwners("test_job", HashMap::new);
+        failoverListenerManager.new FailoverOwnershipChangedJobListener().dataChanged("/test_job/sharding/0/failover", Type.NODE_ADDED, "127.0.0.1@-@0");
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", HashMap::new), is(Collections.singletonMap(0, "127.0.0.1@-@0")));
+        FailoverOwnershipRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertFailoverOwnershipChangedJobListenerWhenFailoverRemoved() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        FailoverOwnershipRegistry.getInstance().getOwners("test_job", () -> new HashMap<>(Collections.singletonMap(0, "127.0.0.1@-@0")));
+        failoverListenerManager.new FailoverOwnershipChangedJobListener().dataChanged("/test_job/sharding/0/failover", Type.NODE_REMOVED, "127.0.0.1@-@0");
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", HashMap::new), is(Collections.<Integer, String>emptyMap()));
+        FailoverOwnershipRegistry.getInstance().unregister("test_job");
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.failover;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class FailoverOwnershipRegistryTest {
+    
+    @After
+    public void tearDown() {
+        FailoverOwnershipRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertGetOwnersWithoutRegistered() {
+        Map<Integer, String> owners = createOwners();
+        FailoverOwnershipRegistry.getInstance().getOwners("test_job", () -> owners);
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners), not(sameInstance(owners)));
+    }
+    
+    @Test
+    public void assertGetOwnersWithRegistered() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        Map<Integer, String> owners = FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners);
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners), sameInstance(owners));
+        assertThat(owners, is(createOwners()));
+    }
+    
+    @Test
+    public void assertAssign() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners);
+        FailoverOwnershipRegistry.getInstance().assign("test_job", Arrays.asList(1, 2), "host1@-@1");
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(0, "host0@-@0");
+        expected.put(1, "host1@-@1");
+        expected.put(2, "host1@-@1");
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", HashMap::new), is(expected));
+    }
+    
+    @Test
+    public void assertRelease() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners);
+        FailoverOwnershipRegistry.getInstance().release("test_job", Collections.singletonList(0));
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners), is(Collections.<Integer, String>emptyMap()));
+    }
+    
+    @Test
+    public void assertGetOwnersAfterInvalidated() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        Map<Integer, String> owners = FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners);
+        FailoverOwnershipRegistry.getInstance().invalidate("test_job");
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners), not(sameInstance(owners)));
+    }
+    
+    @Test
+    public void assertGetOwnersWhenAssignedWhileLoading() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        Map<Integer, String> owners = FailoverOwnershipRegistry.getInstance().getOwners("test_job", () -> {
+            FailoverOwnershipRegistry.getInstance().assign("test_job", Collections.singletonList(1), "host1@-@1");
+            return createOwners();
+        });
+        assertThat(FailoverOwnershipRegistry.getInstance().getOwners("test_job", this::createOwners), not(sameInstance(owners)));
+    }
+    
+    private Map<Integer, String> createOwners() {
+        return new HashMap<>(Collections.singletonMap(0, "host0@-@0"));
+    }
+}
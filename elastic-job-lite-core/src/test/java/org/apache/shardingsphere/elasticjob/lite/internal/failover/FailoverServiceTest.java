@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.failover;
 
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
@@ -56,12 +60,16 @@ public final class FailoverServiceTest {
     @Mock
     private ShardingService shardingService;
     
+    @Mock
+    private ConfigurationService configService;
+    
     private final FailoverService failoverService = new FailoverService(null, "test_job");
     
     @Before
     public void setUp() {
         ReflectionUtils.setFieldValue(failoverService, "jobNodeStorage", jobNodeStorage);
         ReflectionUtils.setFieldValue(failoverService, "shardingService", shardingService);
+        ReflectionUtils.setFieldValue(failoverService, "configService", configService);
         ReflectionUtils.setFieldValue(failoverService, "jobName", "test_job");
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
     }
@@ -82,6 +90,14 @@ public final class FailoverServiceTest {
         verify(jobNodeStorage).createJobNodeIfNeeded("leader/failover/items/0");
     }
     
+    @Test
+    public void assertSetCrashedFailoverFlags() {
+        when(jobNodeStorage.isJobNodeExisted("sharding/0/failover")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExisted("sharding/1/failover")).thenReturn(true);
+        failoverService.setCrashedFailoverFlags(Arrays.asList(0, 1));
+        verify(jobNodeStorage).createJobNodesIfNeeded(Collections.singletonList("leader/failover/items/0"));
+    }
+    
     @Test
     public void assertFailoverIfUnnecessaryWhenItemsRootNodeNotExisted() {
         when(jobNodeStorage.isJobNodeExisted("leader/failover/items")).thenReturn(false);
@@ -150,6 +166,36 @@ public final class FailoverServiceTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertFailoverLeaderExecutionCallbackIfNecessaryWithAverageFailoverBatch() {
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(10, ""));
+        when(jobNodeStorage.isJobNodeExisted("leader/failover/items")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeChildrenKeys("leader/failover/items")).thenReturn(Arrays.asList("0", "1", "2", "3", "4"));
+        when(jobNodeStorage.getJobNodeChildrenKeys("instances")).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.1@-@2"));
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        failoverService.new FailoverLeaderExecutionCallback().execute();
+        verify(jobNodeStorage).fillEphemeralJobNodes(Arrays.asList("sharding/0/failover", "sharding/1/failover", "sharding/2/failover"), "127.0.0.1@-@0");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("leader/failover/items/0", "leader/failover/items/1", "leader/failover/items/2"));
+        verify(jobScheduleController).triggerJob();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertFailoverLeaderExecutionCallbackIfNecessaryWithGreedyFailoverBatch() {
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(2, "GREEDY"));
+        when(jobNodeStorage.isJobNodeExisted("leader/failover/items")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeChildrenKeys("leader/failover/items")).thenReturn(Arrays.asList("0", "1", "2"));
+        when(jobNodeStorage.getJobNodeChildrenKeys("instances")).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.1@-@2", "127.0.0.1@-@3"));
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        failoverService.new FailoverLeaderExecutionCallback().execute();
+        verify(jobNodeStorage).fillEphemeralJobNodes(Arrays.asList("sharding/0/failover", "sharding/1/failover"), "127.0.0.1@-@0");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("leader/failover/items/0", "leader/failover/items/1"));
+        verify(jobScheduleController).triggerJob();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     public void assertUpdateFailoverComplete() {
         failoverService.updateFailoverComplete(Arrays.asList(0, 1));
@@ -201,10 +247,13 @@ public final class FailoverServiceTest {
     
     @Test
     public void assertGetLocalTakeOffItems() {
+        when(jobNodeStorage.getJobNodeChildrenKeys("sharding")).thenReturn(Arrays.asList("0", "1", "2"));
         when(shardingService.getLocalShardingItems()).thenReturn(Arrays.asList(0, 1, 2));
         when(jobNodeStorage.isJobNodeExisted("sharding/0/failover")).thenReturn(true);
         when(jobNodeStorage.isJobNodeExisted("sharding/1/failover")).thenReturn(true);
         when(jobNodeStorage.isJobNodeExisted("sharding/2/failover")).thenReturn(false);
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/0/failover")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/1/failover")).thenReturn("127.0.0.1@-@1");
         assertThat(failoverService.getLocalTakeOffItems(), is(Arrays.asList(0, 1)));
         verify(shardingService).getLocalShardingItems();
         verify(jobNodeStorage).isJobNodeExisted("sharding/0/failover");
@@ -212,6 +261,28 @@ public final class FailoverServiceTest {
         verify(jobNodeStorage).isJobNodeExisted("sharding/2/failover");
     }
     
+    @Test
+    public void assertGetLocalTakeOffItemsWithoutFailoverItems() {
+        when(jobNodeStorage.getJobNodeChildrenKeys("sharding")).thenReturn(Arrays.asList("0", "1", "2"));
+        assertThat(failoverService.getLocalTakeOffItems(), is(Collections.<Integer>emptyList()));
+        verify(shardingService, times(0)).getLocalShardingItems();
+    }
+    
+    @Test
+    public void assertGetFailoverItemsFromRegisteredOwnership() {
+        FailoverOwnershipRegistry.getInstance().register("test_job");
+        when(jobNodeStorage.getJobNodeChildrenKeys("sharding")).thenReturn(Arrays.asList("0", "1"));
+        when(jobNodeStorage.isJobNodeExisted("sharding/0/failover")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/0/failover")).thenReturn("127.0.0.1@-@0");
+        assertThat(failoverService.getFailoverItems("127.0.0.1@-@0"), is(Collections.singletonList(0)));
+        assertThat(failoverService.getFailoverItems("127.0.0.1@-@0"), is(Collections.singletonList(0)));
+        failoverService.updateFailoverComplete(Collections.singletonList(0));
+        assertThat(failoverService.getFailoverItems("127.0.0.1@-@0"), is(Collections.<Integer>emptyList()));
+        verify(jobNodeStorage).getJobNodeChildrenKeys("sharding");
+        verify(jobNodeStorage).getJobNodeDataDirectly("sharding/0/failover");
+        FailoverOwnershipRegistry.getInstance().unregister("test_job");
+    }
+    
     @Test
     public void assertRemoveFailoverInfo() {
         when(jobNodeStorage.getJobNodeChildrenKeys("sharding")).thenReturn(Arrays.asList("0", "1", "2"));
@@ -221,4 +292,9 @@ public final class FailoverServiceTest {
         verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/failover");
         verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/failover");
     }
+    
+    private LiteJobConfiguration createLiteJobConfiguration(final int failoverBatchSize, final String failoverFairnessPolicy) {
+        return LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3)
+                .failover(true).failoverBatchSize(failoverBatchSize).failoverFairnessPolicy(failoverFairnessPolicy).build())).build();
+    }
 }
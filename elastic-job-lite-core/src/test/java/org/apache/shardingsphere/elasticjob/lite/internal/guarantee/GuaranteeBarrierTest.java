@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.guarantee;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GuaranteeBarrierTest {
+    
+    private final GuaranteeBarrier guaranteeBarrier = new GuaranteeBarrier();
+    
+    @Test
+    public void assertAdvance() {
+        guaranteeBarrier.advance();
+        assertThat(guaranteeBarrier.getGeneration(), is(1L));
+    }
+    
+    @Test(timeout = 1000L)
+    public void assertAwaitAdvanceWhenAdvancedBeforeWaiting() {
+        long generation = guaranteeBarrier.getGeneration();
+        guaranteeBarrier.advance();
+        assertTrue(guaranteeBarrier.awaitAdvance(generation, Long.MAX_VALUE));
+    }
+    
+    @Test(timeout = 1000L)
+    public void assertAwaitAdvanceWhenAdvancedWhileWaiting() {
+        long generation = guaranteeBarrier.getGeneration();
+        new Thread(() -> {
+            while (generation == guaranteeBarrier.getGeneration()) {
+                guaranteeBarrier.advance();
+            }
+        }).start();
+        assertTrue(guaranteeBarrier.awaitAdvance(generation, Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertAwaitAdvanceWhenTimeout() {
+        assertTrue(guaranteeBarrier.awaitAdvance(guaranteeBarrier.getGeneration(), 1L));
+        assertThat(guaranteeBarrier.getGeneration(), is(0L));
+    }
+    
+    @Test
+    public void assertAwaitAdvanceWhenInterrupted() {
+        Thread.currentThread().interrupt();
+        assertFalse(guaranteeBarrier.awaitAdvance(guaranteeBarrier.getGeneration(), Long.MAX_VALUE));
+        assertTrue(Thread.interrupted());
+    }
+}
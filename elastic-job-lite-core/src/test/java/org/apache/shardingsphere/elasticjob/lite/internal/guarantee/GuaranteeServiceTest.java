@@ -19,11 +19,13 @@ package org.apache.shardingsphere.elasticjob.lite.internal.guarantee;
 
 import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
-import org.apache.shardingsphere.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.CreatedChildNodes;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
+import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -31,8 +33,11 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,66 +60,72 @@ public final class GuaranteeServiceTest {
     }
     
     @Test
-    public void assertRegisterStart() {
-        guaranteeService.registerStart(Arrays.asList(0, 1));
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/started/0");
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/started/1");
+    public void assertRegisterStartWhenIsNotLastArrived() {
+        when(jobNodeStorage.createJobChildNodes("guarantee/started", Arrays.asList("guarantee/started/0", "guarantee/started/1"))).thenReturn(createCreatedChildNodes(100L, 2, 2));
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(3));
+        GuaranteeRound actual = guaranteeService.registerStart(Arrays.asList(0, 1));
+        assertThat(actual.getId(), is(100L));
+        assertFalse(actual.isLastArrived());
     }
     
     @Test
-    public void assertIsNotAllStartedWhenRootNodeIsNotExisted() {
-        when(jobNodeStorage.isJobNodeExisted("guarantee/started")).thenReturn(false);
-        assertFalse(guaranteeService.isAllStarted());
+    public void assertRegisterStartWhenIsLastArrived() {
+        when(jobNodeStorage.createJobChildNodes("guarantee/started", Collections.singletonList("guarantee/started/2"))).thenReturn(createCreatedChildNodes(100L, 3, 1));
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(3));
+        GuaranteeRound actual = guaranteeService.registerStart(Collections.singletonList(2));
+        assertThat(actual.getId(), is(100L));
+        assertTrue(actual.isLastArrived());
     }
     
     @Test
-    public void assertIsNotAllStarted() {
-        when(configService.load(false)).thenReturn(
-                LiteJobConfiguration.newBuilder(new DataflowJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), true)).build());
-        when(jobNodeStorage.isJobNodeExisted("guarantee/started")).thenReturn(true);
-        when(jobNodeStorage.getJobNodeChildrenKeys("guarantee/started")).thenReturn(Arrays.asList("0", "1"));
-        assertFalse(guaranteeService.isAllStarted());
+    public void assertRegisterStartWhenIsNotLastArrivedWithExistedNodes() {
+        when(jobNodeStorage.createJobChildNodes("guarantee/started", Arrays.asList("guarantee/started/1", "guarantee/started/2"))).thenReturn(createCreatedChildNodes(100L, 3, 0));
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(3));
+        assertFalse(guaranteeService.registerStart(Arrays.asList(1, 2)).isLastArrived());
+    }
+    
+    @Test(expected = JobSystemException.class)
+    public void assertRegisterStartWhenRootNodeIsNotExisted() {
+        guaranteeService.registerStart(Arrays.asList(0, 1));
     }
     
     @Test
-    public void assertIsAllStarted() {
-        when(jobNodeStorage.isJobNodeExisted("guarantee/started")).thenReturn(true);
-        when(configService.load(false)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).build());
-        when(jobNodeStorage.getJobNodeChildrenKeys("guarantee/started")).thenReturn(Arrays.asList("0", "1", "2"));
-        assertTrue(guaranteeService.isAllStarted());
+    public void assertIsStartedPassedWhenRootNodeIsRecreated() {
+        when(jobNodeStorage.getJobNodeStat("guarantee/started")).thenReturn(createStat(200L, 1));
+        assertTrue(guaranteeService.isStartedPassed(new GuaranteeRound(100L, false)));
     }
     
     @Test
-    public void assertClearAllStartedInfo() {
-        guaranteeService.clearAllStartedInfo();
-        verify(jobNodeStorage).removeJobNodeIfExisted("guarantee/started");
+    public void assertIsStartedNotPassed() {
+        when(jobNodeStorage.getJobNodeStat("guarantee/started")).thenReturn(createStat(100L, 2));
+        assertFalse(guaranteeService.isStartedPassed(new GuaranteeRound(100L, false)));
     }
     
     @Test
-    public void assertRegisterComplete() {
-        guaranteeService.registerComplete(Arrays.asList(0, 1));
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/completed/0");
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/completed/1");
+    public void assertClearAllStartedInfo() {
+        guaranteeService.clearAllStartedInfo();
+        verify(jobNodeStorage).removeJobNodeIfExisted("guarantee/started");
     }
     
     @Test
-    public void assertIsNotAllCompletedWhenRootNodeIsNotExisted() {
-        when(jobNodeStorage.isJobNodeExisted("guarantee/completed")).thenReturn(false);
-        assertFalse(guaranteeService.isAllCompleted());
+    public void assertRegisterCompleteWhenIsLastArrived() {
+        when(jobNodeStorage.createJobChildNodes("guarantee/completed", Arrays.asList("guarantee/completed/0", "guarantee/completed/1"))).thenReturn(createCreatedChildNodes(100L, 3, 2));
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(3));
+        GuaranteeRound actual = guaranteeService.registerComplete(Arrays.asList(0, 1));
+        assertThat(actual.getId(), is(100L));
+        assertTrue(actual.isLastArrived());
     }
     
     @Test
-    public void assertIsNotAllCompleted() {
-        when(jobNodeStorage.isJobNodeExisted("guarantee/completed")).thenReturn(false);
-        assertFalse(guaranteeService.isAllCompleted());
+    public void assertRegisterCompleteWhenCountAlreadyReached() {
+        when(jobNodeStorage.createJobChildNodes("guarantee/completed", Collections.singletonList("guarantee/completed/3"))).thenReturn(createCreatedChildNodes(100L, 4, 1));
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(3));
+        assertFalse(guaranteeService.registerComplete(Collections.singletonList(3)).isLastArrived());
     }
     
     @Test
-    public void assertIsAllCompleted() {
-        when(jobNodeStorage.isJobNodeExisted("guarantee/completed")).thenReturn(true);
-        when(configService.load(false)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).build());
-        when(jobNodeStorage.getJobNodeChildrenKeys("guarantee/completed")).thenReturn(Arrays.asList("0", "1", "2"));
-        assertTrue(guaranteeService.isAllCompleted());
+    public void assertIsCompletedPassedWhenRootNodeIsNotExisted() {
+        assertTrue(guaranteeService.isCompletedPassed(new GuaranteeRound(100L, false)));
     }
     
     @Test
@@ -122,4 +133,19 @@ public final class GuaranteeServiceTest {
         guaranteeService.clearAllCompletedInfo();
         verify(jobNodeStorage).removeJobNodeIfExisted("guarantee/completed");
     }
+    
+    private CreatedChildNodes createCreatedChildNodes(final long czxid, final int numChildren, final int createdCount) {
+        return new CreatedChildNodes(createStat(czxid, numChildren), createdCount);
+    }
+    
+    private Stat createStat(final long czxid, final int numChildren) {
+        Stat result = new Stat();
+        result.setCzxid(czxid);
+        result.setNumChildren(numChildren);
+        return result;
+    }
+    
+    private LiteJobConfiguration createLiteJobConfiguration(final int shardingTotalCount) {
+        return LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", shardingTotalCount).build())).build();
+    }
 }
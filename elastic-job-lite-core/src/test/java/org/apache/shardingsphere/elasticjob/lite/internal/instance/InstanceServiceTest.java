@@ -30,6 +30,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -61,7 +62,7 @@ public final class InstanceServiceTest {
     @Test
     public void assertPersistOnline() {
         instanceService.persistOnline();
-        verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "");
+        verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", 1);
     }
         
     @Test
@@ -73,7 +74,7 @@ public final class InstanceServiceTest {
     @Test
     public void assertClearTriggerFlag() {
         instanceService.clearTriggerFlag();
-        jobNodeStorage.updateJobNode("instances/127.0.0.1@-@0", "");
+        verify(jobNodeStorage).updateJobNode("instances/127.0.0.1@-@0", 1);
     }
     
     @Test
@@ -83,6 +84,18 @@ public final class InstanceServiceTest {
         assertThat(instanceService.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
     }
     
+    @Test
+    public void assertGetAvailableJobInstancesWithWeight() {
+        when(jobNodeStorage.getJobNodeChildrenKeys("instances")).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.2@-@0"));
+        when(serverService.isEnableServer("127.0.0.1")).thenReturn(true);
+        when(serverService.isEnableServer("127.0.0.2")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("3");
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.2@-@0")).thenReturn("TRIGGER");
+        List<JobInstance> actual = instanceService.getAvailableJobInstances();
+        assertThat(actual.get(0).getWeight(), is(3));
+        assertThat(actual.get(1).getWeight(), is(1));
+    }
+    
     @Test
     public void assertIsLocalJobInstanceExisted() {
         when(jobNodeStorage.isJobNodeExisted("instances/127.0.0.1@-@0")).thenReturn(true);
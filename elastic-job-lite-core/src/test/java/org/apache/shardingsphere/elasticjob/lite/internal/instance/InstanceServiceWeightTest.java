@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.instance;
+
+import org.apache.shardingsphere.elasticjob.lite.fixture.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenter;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InstanceServiceWeightTest {
+    
+    private static final ZookeeperConfiguration ZOOKEEPER_CONFIGURATION = new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), InstanceServiceWeightTest.class.getName());
+    
+    private static ZookeeperRegistryCenter zkRegCenter;
+    
+    @BeforeClass
+    public static void setUp() {
+        EmbedTestingServer.start();
+        zkRegCenter = new ZookeeperRegistryCenter(ZOOKEEPER_CONFIGURATION);
+        ZOOKEEPER_CONFIGURATION.setConnectionTimeoutMilliseconds(30000);
+        zkRegCenter.init();
+        zkRegCenter.persist("/weight_job/servers/127.0.0.1", "");
+        zkRegCenter.persist("/weight_job/servers/127.0.0.2", "");
+        JobRegistry.getInstance().addJobInstance("weight_job", new JobInstance("127.0.0.1@-@0", 3));
+    }
+    
+    @AfterClass
+    public static void tearDown() {
+        zkRegCenter.close();
+    }
+    
+    @Test
+    public void assertGetAvailableJobInstancesWithPersistedWeight() {
+        InstanceService instanceService = new InstanceService(zkRegCenter, "weight_job");
+        instanceService.persistOnline();
+        zkRegCenter.persistEphemeral("/weight_job/instances/127.0.0.2@-@0", "TRIGGER");
+        List<JobInstance> actual = instanceService.getAvailableJobInstances();
+        assertThat(actual.size(), is(2));
+        assertThat(getWeight(actual, "127.0.0.1@-@0"), is(3));
+        assertThat(getWeight(actual, "127.0.0.2@-@0"), is(1));
+    }
+    
+    @Test
+    public void assertClearTriggerFlagRestoresWeight() {
+        InstanceService instanceService = new InstanceService(zkRegCenter, "weight_job");
+        instanceService.persistOnline();
+        zkRegCenter.update("/weight_job/instances/127.0.0.1@-@0", "TRIGGER");
+        instanceService.clearTriggerFlag();
+        assertThat(zkRegCenter.getDirectly("/weight_job/instances/127.0.0.1@-@0"), is("3"));
+        assertThat(getWeight(instanceService.getAvailableJobInstances(), "127.0.0.1@-@0"), is(3));
+    }
+    
+    private int getWeight(final List<JobInstance> jobInstances, final String jobInstanceId) {
+        return jobInstances.stream().filter(each -> jobInstanceId.equals(each.getJobInstanceId())).findFirst().map(JobInstance::getWeight).orElse(0);
+    }
+}
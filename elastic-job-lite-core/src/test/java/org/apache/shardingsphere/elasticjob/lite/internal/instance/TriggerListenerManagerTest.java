@@ -33,6 +33,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class TriggerListenerManagerTest {
@@ -101,6 +102,20 @@ public final class TriggerListenerManagerTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertQueueTriggerWhenJobIsRunning() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        JobRegistry.getInstance().setJobRunning("test_job", true);
+        when(jobScheduleController.queueTrigger()).thenReturn(true);
+        triggerListenerManager.new JobTriggerStatusJobListener().dataChanged("/test_job/instances/127.0.0.1@-@0", Type.NODE_UPDATED, InstanceOperation.TRIGGER.name());
+        verify(instanceService).clearTriggerFlag();
+        verify(jobScheduleController).queueTrigger();
+        verify(jobScheduleController, times(0)).triggerJob();
+        verify(jobScheduleController, times(0)).triggerQueuedIfNecessary();
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     public void assertTriggerWhenJobIsNotRunning() {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
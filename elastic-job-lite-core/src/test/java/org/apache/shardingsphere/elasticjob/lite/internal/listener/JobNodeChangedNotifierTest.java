@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.listener;
+
+import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class JobNodeChangedNotifierTest {
+    
+    @After
+    public void tearDown() {
+        JobNodeChangedNotifier.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertWaitUntilConditionSatisfied() {
+        assertTrue(JobNodeChangedNotifier.getInstance().waitUntil("test_job", () -> true, 0L));
+    }
+    
+    @Test
+    public void assertWaitUntilTimeoutWithoutRegistered() {
+        assertFalse(JobNodeChangedNotifier.getInstance().waitUntil("test_job", () -> false, 10L));
+    }
+    
+    @Test
+    public void assertWaitUntilTimeoutWithRegistered() {
+        JobNodeChangedNotifier.getInstance().register("test_job");
+        assertFalse(JobNodeChangedNotifier.getInstance().waitUntil("test_job", () -> false, 10L));
+    }
+    
+    @Test
+    public void assertWaitUntilWokenUpByJobNodeChanged() throws InterruptedException {
+        JobNodeChangedNotifier.getInstance().register("test_job");
+        AtomicBoolean condition = new AtomicBoolean();
+        AtomicBoolean actual = new AtomicBoolean();
+        Thread waitingThread = new Thread(() -> actual.set(JobNodeChangedNotifier.getInstance().waitUntil("test_job", condition::get, 10000L)));
+        waitingThread.start();
+        Thread.sleep(100L);
+        condition.set(true);
+        new JobNodeChangedJobListener("test_job").childEvent(null, new TreeCacheEvent(TreeCacheEvent.Type.NODE_REMOVED, null));
+        waitingThread.join();
+        assertTrue(actual.get());
+    }
+    
+    @Test
+    public void assertWaitUntilWokenUpByUnregistered() throws InterruptedException {
+        JobNodeChangedNotifier.getInstance().register("test_job");
+        AtomicBoolean condition = new AtomicBoolean();
+        AtomicBoolean actual = new AtomicBoolean();
+        Thread waitingThread = new Thread(() -> actual.set(JobNodeChangedNotifier.getInstance().waitUntil("test_job", condition::get, 10000L)));
+        waitingThread.start();
+        Thread.sleep(100L);
+        condition.set(true);
+        JobNodeChangedNotifier.getInstance().unregister("test_job");
+        waitingThread.join();
+        assertTrue(actual.get());
+    }
+}
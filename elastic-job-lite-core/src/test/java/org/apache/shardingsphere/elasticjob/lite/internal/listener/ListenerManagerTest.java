@@ -35,6 +35,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -97,5 +98,7 @@ public final class ListenerManagerTest {
         verify(rescheduleListenerManager).start();
         verify(guaranteeListenerManager).start();
         verify(jobNodeStorage).addConnectionStateListener(regCenterConnectionStateListener);
+        verify(jobNodeStorage).addDataListener(any(JobNodeChangedJobListener.class));
+        JobNodeChangedNotifier.getInstance().unregister("test_job");
     }
 }
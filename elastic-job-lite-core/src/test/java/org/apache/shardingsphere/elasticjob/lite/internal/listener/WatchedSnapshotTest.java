@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.listener;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class WatchedSnapshotTest {
+    
+    private final WatchedSnapshot<String> watchedSnapshot = new WatchedSnapshot<>();
+    
+    @Test
+    public void assertGetLoadedOnlyOnce() {
+        assertThat(watchedSnapshot.get(() -> "loaded"), is("loaded"));
+        assertThat(watchedSnapshot.get(() -> "reloaded"), is("loaded"));
+    }
+    
+    @Test
+    public void assertSet() {
+        watchedSnapshot.set("changed");
+        assertThat(watchedSnapshot.get(() -> "loaded"), is("changed"));
+    }
+    
+    @Test
+    public void assertUpdateWhenLoaded() {
+        watchedSnapshot.get(() -> "loaded");
+        watchedSnapshot.update(each -> each + "_updated");
+        assertThat(watchedSnapshot.get(() -> "reloaded"), is("loaded_updated"));
+    }
+    
+    @Test
+    public void assertUpdateWhenNotLoaded() {
+        watchedSnapshot.update(each -> each + "_updated");
+        assertThat(watchedSnapshot.get(() -> "loaded"), is("loaded"));
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        watchedSnapshot.get(() -> "loaded");
+        watchedSnapshot.invalidate();
+        assertThat(watchedSnapshot.get(() -> "reloaded"), is("reloaded"));
+    }
+    
+    @Test
+    public void assertGetWhenChangedWhileLoading() {
+        assertThat(watchedSnapshot.get(() -> {
+            watchedSnapshot.update(each -> each + "_updated");
+            return "loaded";
+        }), is("loaded"));
+        assertThat(watchedSnapshot.get(() -> "reloaded"), is("reloaded"));
+    }
+    
+    @Test
+    public void assertGetWhenSetWhileLoading() {
+        watchedSnapshot.get(() -> {
+            watchedSnapshot.set("changed");
+            return "loaded";
+        });
+        assertThat(watchedSnapshot.get(() -> "reloaded"), is("changed"));
+    }
+}
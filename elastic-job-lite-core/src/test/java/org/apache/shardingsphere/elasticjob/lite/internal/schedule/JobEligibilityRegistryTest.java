@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class JobEligibilityRegistryTest {
+    
+    @After
+    public void tearDown() {
+        JobEligibilityRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertIsEligibleWithoutRegistered() {
+        AtomicInteger loadedTimes = new AtomicInteger();
+        JobEligibilityRegistry.getInstance().isEligible("test_job", () -> loadedTimes.incrementAndGet() < 0);
+        assertTrue(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> loadedTimes.incrementAndGet() < 0));
+        assertThat(loadedTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertIsEligibleWithRegistered() {
+        JobEligibilityRegistry.getInstance().register("test_job");
+        AtomicInteger loadedTimes = new AtomicInteger();
+        JobEligibilityRegistry.getInstance().isEligible("test_job", () -> loadedTimes.incrementAndGet() < 0);
+        assertTrue(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> loadedTimes.incrementAndGet() < 0));
+        assertThat(loadedTimes.get(), is(1));
+    }
+    
+    @Test
+    public void assertIsEligibleAfterReshardingPendingUpdated() {
+        JobEligibilityRegistry.getInstance().register("test_job");
+        JobEligibilityRegistry.getInstance().updateReshardingPending("test_job", true);
+        assertFalse(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+        JobEligibilityRegistry.getInstance().updateReshardingPending("test_job", false);
+        assertTrue(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> true));
+    }
+    
+    @Test
+    public void assertIsEligibleWhenReshardingPendingUpdatedWhileLoading() {
+        JobEligibilityRegistry.getInstance().register("test_job");
+        assertTrue(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> {
+            JobEligibilityRegistry.getInstance().updateReshardingPending("test_job", true);
+            return false;
+        }));
+        assertFalse(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+    }
+    
+    @Test
+    public void assertIsEligibleWhenServerDisabled() {
+        JobEligibilityRegistry.getInstance().register("test_job");
+        JobEligibilityRegistry.getInstance().updateServerDisabled("test_job", true);
+        assertFalse(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+        JobEligibilityRegistry.getInstance().updateServerDisabled("test_job", false);
+        assertTrue(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+    }
+    
+    @Test
+    public void assertIsEligibleWhenSuspendedAndResumed() {
+        JobEligibilityRegistry.getInstance().register("test_job");
+        JobEligibilityRegistry.getInstance().updateReshardingPending("test_job", false);
+        JobEligibilityRegistry.getInstance().suspend("test_job");
+        assertFalse(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+        JobEligibilityRegistry.getInstance().resume("test_job");
+        assertFalse(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> true));
+    }
+}
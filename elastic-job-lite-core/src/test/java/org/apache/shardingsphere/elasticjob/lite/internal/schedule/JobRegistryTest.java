@@ -17,16 +17,24 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 
+import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.fixture.util.JobConfigurationUtil;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public final class JobRegistryTest {
@@ -64,6 +72,24 @@ public final class JobRegistryTest {
         assertTrue(JobRegistry.getInstance().isJobRunning("exist_job_instance"));
     }
     
+    @Test
+    public void assertSetJobRunningIfNotRunning() {
+        assertTrue(JobRegistry.getInstance().setJobRunningIfNotRunning("running_job_instance"));
+        assertFalse(JobRegistry.getInstance().setJobRunningIfNotRunning("running_job_instance"));
+        JobRegistry.getInstance().setJobRunning("running_job_instance", false);
+        assertTrue(JobRegistry.getInstance().setJobRunningIfNotRunning("running_job_instance"));
+        assertTrue(JobRegistry.getInstance().isJobRunning("running_job_instance"));
+    }
+    
+    @Test
+    public void assertTimeoutRunningItems() {
+        JobRegistry.getInstance().addTimeoutRunningItem("timeout_job_instance", 1);
+        assertTrue(JobRegistry.getInstance().hasTimeoutRunningItems("timeout_job_instance", Arrays.asList(0, 1)));
+        assertFalse(JobRegistry.getInstance().hasTimeoutRunningItems("timeout_job_instance", Arrays.asList(0, 2)));
+        JobRegistry.getInstance().removeTimeoutRunningItem("timeout_job_instance", 1);
+        assertFalse(JobRegistry.getInstance().hasTimeoutRunningItems("timeout_job_instance", Arrays.asList(0, 1)));
+    }
+    
     @Test
     public void assertGetCurrentShardingTotalCountIfNull() {
         assertThat(JobRegistry.getInstance().getCurrentShardingTotalCount("exist_job_instance"), is(0));
@@ -76,6 +102,33 @@ public final class JobRegistryTest {
         ReflectionUtils.setFieldValue(JobRegistry.getInstance(), "instance", null);
     }
     
+    @Test
+    public void assertGetJobConfigSnapshotIfDisabled() {
+        JobRegistry.getInstance().initJobConfigSnapshot("test_job_for_config_snapshot", JobConfigurationUtil.createSimpleLiteJobConfiguration());
+        assertNull(JobRegistry.getInstance().getJobConfigSnapshot("test_job_for_config_snapshot"));
+    }
+    
+    @Test
+    public void assertInitJobConfigSnapshot() {
+        LiteJobConfiguration liteJobConfig = JobConfigurationUtil.createSimpleLiteJobConfiguration();
+        JobRegistry.getInstance().enableJobConfigSnapshot("test_job_for_config_snapshot");
+        JobRegistry.getInstance().initJobConfigSnapshot("test_job_for_config_snapshot", liteJobConfig);
+        JobRegistry.getInstance().initJobConfigSnapshot("test_job_for_config_snapshot", JobConfigurationUtil.createSimpleLiteJobConfiguration());
+        assertThat(JobRegistry.getInstance().getJobConfigSnapshot("test_job_for_config_snapshot"), sameInstance(liteJobConfig));
+        JobRegistry.getInstance().shutdown("test_job_for_config_snapshot");
+        assertNull(JobRegistry.getInstance().getJobConfigSnapshot("test_job_for_config_snapshot"));
+    }
+    
+    @Test
+    public void assertUpdateJobConfigSnapshot() {
+        LiteJobConfiguration liteJobConfig = JobConfigurationUtil.createSimpleLiteJobConfiguration();
+        JobRegistry.getInstance().enableJobConfigSnapshot("test_job_for_config_snapshot");
+        JobRegistry.getInstance().initJobConfigSnapshot("test_job_for_config_snapshot", JobConfigurationUtil.createSimpleLiteJobConfiguration());
+        JobRegistry.getInstance().updateJobConfigSnapshot("test_job_for_config_snapshot", liteJobConfig);
+        assertThat(JobRegistry.getInstance().getJobConfigSnapshot("test_job_for_config_snapshot"), sameInstance(liteJobConfig));
+        JobRegistry.getInstance().shutdown("test_job_for_config_snapshot");
+    }
+    
     @Test
     public void assertShutdown() {
         JobScheduleController jobScheduleController = mock(JobScheduleController.class);
@@ -86,6 +139,33 @@ public final class JobRegistryTest {
         verify(regCenter).evictCacheData("/test_job_for_shutdown");
     }
     
+    @Test
+    public void assertShutdownWaitsForFiresCompleted() throws InterruptedException {
+        JobScheduleController jobScheduleController = mock(JobScheduleController.class);
+        CoordinatorRegistryCenter regCenter = mock(CoordinatorRegistryCenter.class);
+        JobRegistry.getInstance().registerJob("test_job_for_shutdown_with_fire", jobScheduleController, regCenter);
+        CompletableFuture<Void> fire = new CompletableFuture<>();
+        JobRegistry.getInstance().addFire("test_job_for_shutdown_with_fire", fire);
+        Thread shutdownThread = new Thread(() -> JobRegistry.getInstance().shutdown("test_job_for_shutdown_with_fire"));
+        shutdownThread.start();
+        shutdownThread.join(100L);
+        assertTrue(shutdownThread.isAlive());
+        verify(regCenter, never()).evictCacheData("/test_job_for_shutdown_with_fire");
+        fire.complete(null);
+        shutdownThread.join(1000L);
+        assertFalse(shutdownThread.isAlive());
+        verify(jobScheduleController).shutdown();
+        verify(regCenter).evictCacheData("/test_job_for_shutdown_with_fire");
+    }
+    
+    @Test
+    public void assertAwaitFiresCompletedWhenFireCompleted() {
+        CompletableFuture<Void> fire = new CompletableFuture<>();
+        JobRegistry.getInstance().addFire("test_job_for_completed_fire", fire);
+        fire.completeExceptionally(new RuntimeException());
+        JobRegistry.getInstance().awaitFiresCompleted("test_job_for_completed_fire");
+    }
+    
     @Test
     public void assertIsShutdownForJobSchedulerNull() {
         assertTrue(JobRegistry.getInstance().isShutdown("test_job_for_job_scheduler_null"));
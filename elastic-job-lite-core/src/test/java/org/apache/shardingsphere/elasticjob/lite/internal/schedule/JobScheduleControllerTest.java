@@ -17,26 +17,16 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 
-import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
-import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.quartz.JobDetail;
-import org.quartz.JobKey;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.Trigger;
-import org.quartz.TriggerKey;
-import org.quartz.impl.triggers.CronTriggerImpl;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,196 +35,86 @@ import static org.mockito.Mockito.when;
 public final class JobScheduleControllerTest {
     
     @Mock
-    private Scheduler scheduler;
-    
-    @Mock
-    private JobDetail jobDetail;
+    private JobTriggerEngine triggerEngine;
     
     private JobScheduleController jobScheduleController;
     
     @Before
     public void setUp() {
-        jobScheduleController = new JobScheduleController(scheduler, jobDetail, "test_job_Trigger");
-    }
-    
-    @Test(expected = JobSystemException.class)
-    public void assertIsPausedFailure() throws SchedulerException {
-        doThrow(SchedulerException.class).when(scheduler).getTriggerState(new TriggerKey("test_job_Trigger"));
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        try {
-            jobScheduleController.isPaused();
-        } finally {
-            verify(scheduler).getTriggerState(new TriggerKey("test_job_Trigger"));
-        }
+        jobScheduleController = new JobScheduleController(triggerEngine);
     }
     
     @Test
-    public void assertIsPausedIfTriggerStateIsNormal() throws SchedulerException {
-        when(scheduler.getTriggerState(new TriggerKey("test_job_Trigger"))).thenReturn(Trigger.TriggerState.NORMAL);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        assertFalse(jobScheduleController.isPaused());
+    public void assertScheduleJob() {
+        jobScheduleController.scheduleJob("0/1 * * * * ?");
+        verify(triggerEngine).schedule("0/1 * * * * ?");
     }
     
     @Test
-    public void assertIsPausedIfTriggerStateIsPaused() throws SchedulerException {
-        when(scheduler.getTriggerState(new TriggerKey("test_job_Trigger"))).thenReturn(Trigger.TriggerState.PAUSED);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        assertTrue(jobScheduleController.isPaused());
-    }
-    
-    @Test
-    public void assertIsPauseJobIfShutdown() throws SchedulerException {
-        when(scheduler.isShutdown()).thenReturn(true);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        assertFalse(jobScheduleController.isPaused());
+    public void assertRescheduleJob() {
+        jobScheduleController.rescheduleJob("0/1 * * * * ?");
+        verify(triggerEngine).reschedule("0/1 * * * * ?");
     }
     
     @Test
-    public void assertPauseJobIfShutdown() throws SchedulerException {
-        when(scheduler.isShutdown()).thenReturn(true);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        jobScheduleController.pauseJob();
-        verify(scheduler, times(0)).pauseAll();
-    }
-    
-    @Test(expected = JobSystemException.class)
-    public void assertPauseJobFailure() throws SchedulerException {
-        doThrow(SchedulerException.class).when(scheduler).pauseAll();
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        try {
-            jobScheduleController.pauseJob();
-        } finally {
-            verify(scheduler).pauseAll();
-        }
+    public void assertIsPaused() {
+        when(triggerEngine.isPaused()).thenReturn(true);
+        assertTrue(jobScheduleController.isPaused());
     }
     
     @Test
-    public void assertPauseJobSuccess() throws SchedulerException {
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
+    public void assertPauseJob() {
         jobScheduleController.pauseJob();
-        verify(scheduler).pauseAll();
+        verify(triggerEngine).pause();
     }
     
     @Test
-    public void assertResumeJobIfShutdown() throws SchedulerException {
-        when(scheduler.isShutdown()).thenReturn(true);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
+    public void assertResumeJob() {
         jobScheduleController.resumeJob();
-        verify(scheduler, times(0)).resumeAll();
-    }
-    
-    @Test(expected = JobSystemException.class)
-    public void assertResumeJobFailure() throws SchedulerException {
-        doThrow(SchedulerException.class).when(scheduler).resumeAll();
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        try {
-            jobScheduleController.resumeJob();
-        } finally {
-            verify(scheduler).resumeAll();
-        }
+        verify(triggerEngine).resume();
     }
     
     @Test
-    public void assertResumeJobSuccess() throws SchedulerException {
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        jobScheduleController.resumeJob();
-        verify(scheduler).resumeAll();
-    }
-    
-    @Test
-    public void assertTriggerJobIfShutdown() throws SchedulerException {
-        when(scheduler.isShutdown()).thenReturn(true);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
+    public void assertTriggerJob() {
         jobScheduleController.triggerJob();
-        verify(jobDetail, times(0)).getKey();
-        verify(scheduler, times(0)).triggerJob(any());
-    }
-    
-    @Test(expected = JobSystemException.class)
-    public void assertTriggerJobFailure() throws SchedulerException {
-        JobKey jobKey = new JobKey("test_job");
-        when(jobDetail.getKey()).thenReturn(jobKey);
-        doThrow(SchedulerException.class).when(scheduler).triggerJob(jobKey);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
-        try {
-            jobScheduleController.triggerJob();
-        } finally {
-            verify(jobDetail).getKey();
-            verify(scheduler).triggerJob(jobKey);
-        }
+        verify(triggerEngine).triggerNow();
     }
     
     @Test
-    public void assertTriggerJobSuccess() throws SchedulerException {
-        JobKey jobKey = new JobKey("test_job");
-        when(jobDetail.getKey()).thenReturn(jobKey);
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
-        jobScheduleController.triggerJob();
-        verify(jobDetail).getKey();
-        verify(scheduler).triggerJob(jobKey);
+    public void assertQueueTriggerWithoutMaxQueuedTriggers() {
+        assertFalse(jobScheduleController.queueTrigger());
+        assertThat(jobScheduleController.getQueuedTriggerCount(), is(0));
     }
     
     @Test
-    public void assertShutdownJobIfShutdown() throws SchedulerException {
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        when(scheduler.isShutdown()).thenReturn(true);
-        jobScheduleController.shutdown();
-        verify(scheduler, times(0)).shutdown();
-    }
-    
-    @Test(expected = JobSystemException.class)
-    public void assertShutdownFailure() throws SchedulerException {
-        doThrow(SchedulerException.class).when(scheduler).shutdown();
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        try {
-            jobScheduleController.shutdown();
-        } finally {
-            verify(scheduler).shutdown();
-        }
+    public void assertQueueTrigger() {
+        jobScheduleController = new JobScheduleController(triggerEngine, 2);
+        assertTrue(jobScheduleController.queueTrigger());
+        assertTrue(jobScheduleController.queueTrigger());
+        assertFalse(jobScheduleController.queueTrigger());
+        assertThat(jobScheduleController.getQueuedTriggerCount(), is(2));
     }
     
     @Test
-    public void assertShutdownSuccess() throws SchedulerException {
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        jobScheduleController.shutdown();
-        verify(scheduler).shutdown();
+    public void assertTriggerQueuedIfNecessaryWithoutQueuedTriggers() {
+        assertFalse(jobScheduleController.triggerQueuedIfNecessary());
+        verify(triggerEngine, times(0)).triggerNow();
     }
     
     @Test
-    public void assertRescheduleJobIfShutdown() throws SchedulerException {
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        when(scheduler.isShutdown()).thenReturn(true);
-        jobScheduleController.rescheduleJob("0/1 * * * * ?");
-        verify(scheduler, times(0)).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
-    }
-    
-    @Test(expected = JobSystemException.class)
-    public void assertRescheduleJobFailure() throws SchedulerException {
-        when(scheduler.getTrigger(TriggerKey.triggerKey("test_job_Trigger"))).thenReturn(new CronTriggerImpl());
-        doThrow(SchedulerException.class).when(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        try {
-            jobScheduleController.rescheduleJob("0/1 * * * * ?");
-        } finally {
-            verify(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
-        }
-    }
-    
-    @Test
-    public void assertRescheduleJobSuccess() throws SchedulerException {
-        when(scheduler.getTrigger(TriggerKey.triggerKey("test_job_Trigger"))).thenReturn(new CronTriggerImpl());
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        jobScheduleController.rescheduleJob("0/1 * * * * ?");
-        verify(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
+    public void assertTriggerQueuedIfNecessary() {
+        jobScheduleController = new JobScheduleController(triggerEngine, 2);
+        jobScheduleController.queueTrigger();
+        jobScheduleController.queueTrigger();
+        assertTrue(jobScheduleController.triggerQueuedIfNecessary());
+        verify(triggerEngine).triggerNow();
+        assertThat(jobScheduleController.getQueuedTriggerCount(), is(1));
     }
     
     @Test
-    public void assertRescheduleJobWhenTriggerIsNull() throws SchedulerException {
-        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
-        jobScheduleController.rescheduleJob("0/1 * * * * ?");
-        verify(scheduler, times(0)).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
+    public void assertShutdown() {
+        jobScheduleController.shutdown();
+        verify(triggerEngine).shutdown();
+        assertThat(jobScheduleController.getQueuedTriggerCount(), is(0));
     }
 }
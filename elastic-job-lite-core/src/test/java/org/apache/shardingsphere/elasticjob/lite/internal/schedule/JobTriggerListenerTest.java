@@ -51,12 +51,12 @@ public final class JobTriggerListenerTest {
     
     @Before
     public void setUp() {
-        jobTriggerListener = new JobTriggerListener(executionService, shardingService);
+        jobTriggerListener = new JobTriggerListener("test_job", executionService, shardingService);
     }
     
     @Test
     public void assertGetName() {
-        assertThat(jobTriggerListener.getName(), is("JobTriggerListener"));
+        assertThat(jobTriggerListener.getName(), is("JobTriggerListener-test_job"));
     }
     
     @Test
@@ -72,4 +72,11 @@ public final class JobTriggerListenerTest {
         jobTriggerListener.triggerMisfired(trigger);
         verify(executionService).setMisfire(Collections.singletonList(0));
     }
+    
+    @Test
+    public void assertTriggerMisfiredWithoutTrigger() {
+        when(shardingService.getLocalShardingItems()).thenReturn(Collections.singletonList(0));
+        jobTriggerListener.triggerMisfired();
+        verify(executionService).setMisfire(Collections.singletonList(0));
+    }
 }
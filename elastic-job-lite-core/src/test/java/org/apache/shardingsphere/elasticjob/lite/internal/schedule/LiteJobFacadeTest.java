@@ -27,11 +27,14 @@ import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfigur
 import org.apache.shardingsphere.elasticjob.lite.tracing.JobEventBus;
 import org.apache.shardingsphere.elasticjob.lite.exception.JobExecutionEnvironmentException;
 import org.apache.shardingsphere.elasticjob.lite.executor.ShardingContexts;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.lite.internal.failover.FailoverService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionContextService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.lite.internal.sharding.WorkStealingService;
+import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -44,6 +47,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,6 +55,12 @@ import static org.mockito.Mockito.when;
 @RunWith(MockitoJUnitRunner.class)
 public final class LiteJobFacadeTest {
     
+    @Mock
+    private CoordinatorRegistryCenter regCenter;
+    
+    @Mock
+    private JobScheduleController jobScheduleController;
+    
     @Mock
     private ConfigurationService configService;
     
@@ -66,6 +76,9 @@ public final class LiteJobFacadeTest {
     @Mock
     private FailoverService failoverService;
     
+    @Mock
+    private WorkStealingService workStealingService;
+    
     @Mock
     private JobEventBus eventBus;
     
@@ -82,6 +95,7 @@ public final class LiteJobFacadeTest {
         ReflectionUtils.setFieldValue(liteJobFacade, "executionContextService", executionContextService);
         ReflectionUtils.setFieldValue(liteJobFacade, "executionService", executionService);
         ReflectionUtils.setFieldValue(liteJobFacade, "failoverService", failoverService);
+        ReflectionUtils.setFieldValue(liteJobFacade, "workStealingService", workStealingService);
     }
     
     @Test
@@ -120,6 +134,44 @@ public final class LiteJobFacadeTest {
         verify(executionService).registerJobBegin(shardingContexts);
     }
     
+    @Test
+    public void assertRegisterExecutionDurations() {
+        liteJobFacade.registerExecutionDurations(Collections.singletonMap(0, 100L));
+        verify(executionService).registerExecutionDurations(Collections.singletonMap(0, 100L));
+    }
+    
+    @Test
+    public void assertGetSuggestedBatchSize() {
+        when(executionService.getSuggestedBatchSize(0)).thenReturn(50);
+        assertThat(liteJobFacade.getSuggestedBatchSize(0), is(50));
+    }
+    
+    @Test
+    public void assertRegisterSuggestedBatchSize() {
+        liteJobFacade.registerSuggestedBatchSize(0, 50);
+        verify(executionService).registerSuggestedBatchSize(0, 50);
+    }
+    
+    @Test
+    public void assertRegisterStealableItems() {
+        liteJobFacade.registerStealableItems(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.singletonMap(0, "")));
+        verify(workStealingService).registerStealableItems(Collections.singleton(0));
+    }
+    
+    @Test
+    public void assertClaimShardingItem() {
+        when(workStealingService.claimItem(0)).thenReturn(true);
+        assertTrue(liteJobFacade.claimShardingItem(0));
+    }
+    
+    @Test
+    public void assertGetStolenShardingContexts() {
+        ShardingContexts expected = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.singletonMap(1, ""));
+        when(workStealingService.stealItems()).thenReturn(Collections.singletonList(1));
+        when(executionContextService.getStolenJobShardingContext(Collections.singletonList(1))).thenReturn(expected);
+        assertThat(liteJobFacade.getStolenShardingContexts(), is(expected));
+    }
+    
     @Test
     public void assertRegisterJobCompletedWhenFailoverDisabled() {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
@@ -137,9 +189,28 @@ public final class LiteJobFacadeTest {
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).failover(true).build())).monitorExecution(true).build());
         liteJobFacade.registerJobCompleted(shardingContexts);
         verify(executionService).registerJobCompleted(shardingContexts);
+        verify(workStealingService).releaseStolenItems(shardingContexts.getShardingItemParameters().keySet());
         verify(failoverService).updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
     }
     
+    @Test
+    public void assertClearRunningFlag() {
+        liteJobFacade.clearRunningFlag();
+        verify(executionService).clearRunningFlag();
+    }
+    
+    @Test
+    public void assertRegisterTimeoutItemRunning() {
+        liteJobFacade.registerTimeoutItemRunning(1);
+        verify(executionService).registerTimeoutItemRunning(1);
+    }
+    
+    @Test
+    public void assertRegisterTimeoutItemFinished() {
+        liteJobFacade.registerTimeoutItemFinished(1);
+        verify(executionService).registerTimeoutItemFinished(1);
+    }
+    
     @Test
     public void assertGetShardingContextWhenIsFailoverEnableAndFailover() {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
@@ -234,14 +305,25 @@ public final class LiteJobFacadeTest {
         verify(configService).load(true);
     }
     
+    @Test
+    public void assertNotEligibleForJobRunningWhenShutdown() {
+        when(shardingService.isNeedSharding()).thenReturn(false);
+        when(configService.load(true)).thenReturn(
+                LiteJobConfiguration.newBuilder(new DataflowJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), true)).build());
+        assertThat(liteJobFacade.isEligibleForJobRunning(), is(false));
+    }
+    
     @Test
     public void assertEligibleForJobRunningWhenNotNeedShardingAndStreamingProcess() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
         when(shardingService.isNeedSharding()).thenReturn(false);
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new DataflowJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), true)).build());
         assertThat(liteJobFacade.isEligibleForJobRunning(), is(true));
         verify(shardingService).isNeedSharding();
         verify(configService).load(true);
+        JobRegistry.getInstance().shutdown("test_job");
     }
     
     @Test
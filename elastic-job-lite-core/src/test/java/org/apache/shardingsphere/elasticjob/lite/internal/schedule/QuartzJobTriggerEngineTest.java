@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import org.apache.shardingsphere.elasticjob.lite.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.ListenerManager;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.impl.triggers.CronTriggerImpl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QuartzJobTriggerEngineTest {
+    
+    @Mock
+    private Scheduler scheduler;
+    
+    @Mock
+    private JobDetail jobDetail;
+    
+    @Mock
+    private ListenerManager listenerManager;
+    
+    private QuartzJobTriggerEngine quartzJobTriggerEngine;
+    
+    @Before
+    public void setUp() {
+        quartzJobTriggerEngine = new QuartzJobTriggerEngine(scheduler, jobDetail, "test_job_Trigger");
+    }
+    
+    @Test(expected = JobSystemException.class)
+    public void assertIsPausedFailure() throws SchedulerException {
+        doThrow(SchedulerException.class).when(scheduler).getTriggerState(new TriggerKey("test_job_Trigger"));
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        try {
+            quartzJobTriggerEngine.isPaused();
+        } finally {
+            verify(scheduler).getTriggerState(new TriggerKey("test_job_Trigger"));
+        }
+    }
+    
+    @Test
+    public void assertIsPausedIfTriggerStateIsNormal() throws SchedulerException {
+        when(scheduler.getTriggerState(new TriggerKey("test_job_Trigger"))).thenReturn(Trigger.TriggerState.NORMAL);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        assertFalse(quartzJobTriggerEngine.isPaused());
+    }
+    
+    @Test
+    public void assertIsPausedIfTriggerStateIsPaused() throws SchedulerException {
+        when(scheduler.getTriggerState(new TriggerKey("test_job_Trigger"))).thenReturn(Trigger.TriggerState.PAUSED);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        assertTrue(quartzJobTriggerEngine.isPaused());
+    }
+    
+    @Test
+    public void assertIsPauseJobIfShutdown() throws SchedulerException {
+        when(scheduler.isShutdown()).thenReturn(true);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        assertFalse(quartzJobTriggerEngine.isPaused());
+    }
+    
+    @Test
+    public void assertPauseJobIfShutdown() throws SchedulerException {
+        when(scheduler.isShutdown()).thenReturn(true);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        quartzJobTriggerEngine.pause();
+        verify(scheduler, times(0)).pauseTrigger(any());
+    }
+    
+    @Test(expected = JobSystemException.class)
+    public void assertPauseJobFailure() throws SchedulerException {
+        doThrow(SchedulerException.class).when(scheduler).pauseTrigger(TriggerKey.triggerKey("test_job_Trigger"));
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        try {
+            quartzJobTriggerEngine.pause();
+        } finally {
+            verify(scheduler).pauseTrigger(TriggerKey.triggerKey("test_job_Trigger"));
+        }
+    }
+    
+    @Test
+    public void assertPauseJobSuccess() throws SchedulerException {
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        quartzJobTriggerEngine.pause();
+        verify(scheduler).pauseTrigger(TriggerKey.triggerKey("test_job_Trigger"));
+    }
+    
+    @Test
+    public void assertResumeJobIfShutdown() throws SchedulerException {
+        when(scheduler.isShutdown()).thenReturn(true);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        quartzJobTriggerEngine.resume();
+        verify(scheduler, times(0)).resumeTrigger(any());
+    }
+    
+    @Test(expected = JobSystemException.class)
+    public void assertResumeJobFailure() throws SchedulerException {
+        doThrow(SchedulerException.class).when(scheduler).resumeTrigger(TriggerKey.triggerKey("test_job_Trigger"));
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        try {
+            quartzJobTriggerEngine.resume();
+        } finally {
+            verify(scheduler).resumeTrigger(TriggerKey.triggerKey("test_job_Trigger"));
+        }
+    }
+    
+    @Test
+    public void assertResumeJobSuccess() throws SchedulerException {
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        quartzJobTriggerEngine.resume();
+        verify(scheduler).resumeTrigger(TriggerKey.triggerKey("test_job_Trigger"));
+    }
+    
+    @Test
+    public void assertTriggerJobIfShutdown() throws SchedulerException {
+        when(scheduler.isShutdown()).thenReturn(true);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "jobDetail", jobDetail);
+        quartzJobTriggerEngine.triggerNow();
+        verify(jobDetail, times(0)).getKey();
+        verify(scheduler, times(0)).triggerJob(any());
+    }
+    
+    @Test(expected = JobSystemException.class)
+    public void assertTriggerJobFailure() throws SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        doThrow(SchedulerException.class).when(scheduler).triggerJob(jobKey);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "jobDetail", jobDetail);
+        try {
+            quartzJobTriggerEngine.triggerNow();
+        } finally {
+            verify(jobDetail).getKey();
+            verify(scheduler).triggerJob(jobKey);
+        }
+    }
+    
+    @Test
+    public void assertTriggerJobSuccess() throws SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "jobDetail", jobDetail);
+        quartzJobTriggerEngine.triggerNow();
+        verify(jobDetail).getKey();
+        verify(scheduler).triggerJob(jobKey);
+    }
+    
+    @Test
+    public void assertShutdownJobIfShutdown() throws SchedulerException {
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        when(scheduler.isShutdown()).thenReturn(true);
+        quartzJobTriggerEngine.shutdown();
+        verify(scheduler, times(0)).shutdown();
+    }
+    
+    @Test(expected = JobSystemException.class)
+    public void assertShutdownFailure() throws SchedulerException {
+        doThrow(SchedulerException.class).when(scheduler).shutdown();
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        try {
+            quartzJobTriggerEngine.shutdown();
+        } finally {
+            verify(scheduler).shutdown();
+        }
+    }
+    
+    @Test
+    public void assertShutdownSuccess() throws SchedulerException {
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        quartzJobTriggerEngine.shutdown();
+        verify(scheduler).shutdown();
+    }
+    
+    @Test
+    public void assertShutdownWithSharedScheduler() throws SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        when(scheduler.getListenerManager()).thenReturn(listenerManager);
+        quartzJobTriggerEngine = new QuartzJobTriggerEngine(scheduler, jobDetail, "test_job", true);
+        quartzJobTriggerEngine.shutdown();
+        verify(scheduler).deleteJob(jobKey);
+        verify(listenerManager).removeTriggerListener("JobTriggerListener-test_job");
+        verify(scheduler, times(0)).shutdown();
+    }
+    
+    @Test
+    public void assertRescheduleJobIfShutdown() throws SchedulerException {
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        when(scheduler.isShutdown()).thenReturn(true);
+        quartzJobTriggerEngine.reschedule("0/1 * * * * ?");
+        verify(scheduler, times(0)).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
+    }
+    
+    @Test(expected = JobSystemException.class)
+    public void assertRescheduleJobFailure() throws SchedulerException {
+        when(scheduler.getTrigger(TriggerKey.triggerKey("test_job_Trigger"))).thenReturn(new CronTriggerImpl());
+        doThrow(SchedulerException.class).when(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        try {
+            quartzJobTriggerEngine.reschedule("0/1 * * * * ?");
+        } finally {
+            verify(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
+        }
+    }
+    
+    @Test
+    public void assertRescheduleJobSuccess() throws SchedulerException {
+        when(scheduler.getTrigger(TriggerKey.triggerKey("test_job_Trigger"))).thenReturn(new CronTriggerImpl());
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        quartzJobTriggerEngine.reschedule("0/1 * * * * ?");
+        verify(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
+    }
+    
+    @Test
+    public void assertRescheduleJobWhenTriggerIsNull() throws SchedulerException {
+        ReflectionUtils.setFieldValue(quartzJobTriggerEngine, "scheduler", scheduler);
+        quartzJobTriggerEngine.reschedule("0/1 * * * * ?");
+        verify(scheduler, times(0)).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import org.apache.shardingsphere.elasticjob.lite.exception.JobConfigurationException;
+import org.apache.shardingsphere.elasticjob.lite.util.concurrent.BlockUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TimerWheelJobTriggerEngineTest {
+    
+    private final AtomicInteger fireCount = new AtomicInteger();
+    
+    private final AtomicInteger misfireCount = new AtomicInteger();
+    
+    private TimerWheelJobTriggerEngine timerWheelJobTriggerEngine;
+    
+    @Before
+    public void setUp() {
+        timerWheelJobTriggerEngine = new TimerWheelJobTriggerEngine("test_job", fireCount::incrementAndGet, misfireCount::incrementAndGet);
+    }
+    
+    @After
+    public void tearDown() {
+        timerWheelJobTriggerEngine.shutdown();
+    }
+    
+    @Test(expected = JobConfigurationException.class)
+    public void assertScheduleWithInvalidCron() {
+        timerWheelJobTriggerEngine.schedule("invalid cron");
+    }
+    
+    @Test
+    public void assertScheduleAndFire() {
+        timerWheelJobTriggerEngine.schedule("0/1 * * * * ?");
+        waitForFireCount(2);
+        assertTrue(fireCount.get() >= 2);
+    }
+    
+    @Test
+    public void assertScheduleWithDaemonThreads() {
+        timerWheelJobTriggerEngine.schedule("0/1 * * * * ?");
+        waitForFireCount(1);
+        for (Thread each : Thread.getAllStackTraces().keySet()) {
+            if (each.getName().startsWith("elastic-job-timer-wheel")) {
+                assertTrue(each.isDaemon());
+            }
+        }
+    }
+    
+    @Test
+    public void assertMisfireWhenFireTimesSkipped() {
+        timerWheelJobTriggerEngine.schedule("0/1 * * * * ?");
+        synchronized (timerWheelJobTriggerEngine) {
+            BlockUtils.sleep(2500L);
+        }
+        waitForFireCount(1);
+        BlockUtils.waitingShortTime();
+        assertThat(misfireCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertMissedFireSkipped() {
+        AtomicLong firstFireTime = new AtomicLong();
+        TimerWheelJobTriggerEngine engine = new TimerWheelJobTriggerEngine("test_job", () -> firstFireTime.compareAndSet(0L, System.currentTimeMillis()), misfireCount::incrementAndGet);
+        try {
+            engine.schedule("0/1 * * * * ?");
+            synchronized (engine) {
+                // Engine is released in the middle of a second, so that missed fire executed at once is distinguished from next fire on time
+                BlockUtils.sleep(3500L - System.currentTimeMillis() % 1000L);
+            }
+            for (int i = 0; i < 300 && 0L == firstFireTime.get(); i++) {
+                BlockUtils.sleep(10L);
+            }
+            assertThat(misfireCount.get(), is(1));
+            assertTrue(firstFireTime.get() % 1000L < 400L);
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertNotMisfireWhenFireOnTime() {
+        timerWheelJobTriggerEngine.schedule("0/1 * * * * ?");
+        waitForFireCount(2);
+        assertThat(misfireCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertPauseAndResume() {
+        timerWheelJobTriggerEngine.schedule("0/1 * * * * ?");
+        timerWheelJobTriggerEngine.pause();
+        assertTrue(timerWheelJobTriggerEngine.isPaused());
+        int pausedFireCount = fireCount.get();
+        BlockUtils.sleep(1500L);
+        assertThat(fireCount.get(), is(pausedFireCount));
+        timerWheelJobTriggerEngine.resume();
+        assertFalse(timerWheelJobTriggerEngine.isPaused());
+        waitForFireCount(pausedFireCount + 1);
+        assertTrue(fireCount.get() > pausedFireCount);
+    }
+    
+    @Test
+    public void assertReschedule() {
+        timerWheelJobTriggerEngine.schedule("0 0 0 1 1 ? 2099");
+        timerWheelJobTriggerEngine.reschedule("0/1 * * * * ?");
+        waitForFireCount(1);
+        assertTrue(fireCount.get() >= 1);
+    }
+    
+    @Test
+    public void assertTriggerNowWhenPaused() {
+        timerWheelJobTriggerEngine.schedule("0 0 0 1 1 ? 2099");
+        timerWheelJobTriggerEngine.pause();
+        timerWheelJobTriggerEngine.triggerNow();
+        waitForFireCount(1);
+        assertThat(fireCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertTriggerNowBeforeSchedule() {
+        timerWheelJobTriggerEngine.triggerNow();
+        BlockUtils.sleep(100L);
+        assertThat(fireCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertShutdown() {
+        timerWheelJobTriggerEngine.schedule("0/1 * * * * ?");
+        timerWheelJobTriggerEngine.shutdown();
+        assertFalse(timerWheelJobTriggerEngine.isPaused());
+        int shutdownFireCount = fireCount.get();
+        BlockUtils.sleep(1500L);
+        assertThat(fireCount.get(), is(shutdownFireCount));
+    }
+    
+    private void waitForFireCount(final int expectedFireCount) {
+        for (int i = 0; i < 300 && fireCount.get() < expectedFireCount; i++) {
+            BlockUtils.sleep(10L);
+        }
+    }
+}
@@ -41,6 +41,8 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -93,6 +95,15 @@ public final class ExecutionContextServiceTest {
         assertShardingContext(executionContextService.getJobShardingContext(Lists.newArrayList(0, 1)), expected);
     }
     
+    @Test
+    public void assertGetStolenShardingContextWithoutRemovingRunningItems() {
+        when(configService.load(false)).thenReturn(LiteJobConfiguration.newBuilder(
+                new DataflowJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).shardingItemParameters("0=A,1=B,2=C").build(), true)).monitorExecution(true).build());
+        ShardingContexts expected = new ShardingContexts("fake_task_id", "test_job", 3, "", Collections.singletonMap(2, "C"));
+        assertShardingContext(executionContextService.getStolenJobShardingContext(Collections.singletonList(2)), expected);
+        verify(jobNodeStorage, times(0)).isJobNodeExisted("sharding/2/running");
+    }
+    
     private void assertShardingContext(final ShardingContexts actual, final ShardingContexts expected) {
         assertThat(actual.getJobName(), is(expected.getJobName()));
         assertThat(actual.getShardingTotalCount(), is(expected.getShardingTotalCount()));
@@ -39,6 +39,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -73,8 +74,8 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(false).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage, times(0)).fillEphemeralJobNode(any(), any());
-        assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNodes(any(), any());
+        assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
     @Test
@@ -82,10 +83,53 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(true).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/0/running", "");
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/1/running", "");
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/2/running", "");
-        assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
+        verify(jobNodeStorage).fillEphemeralJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"), "");
+        assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
+    }
+    
+    @Test
+    public void assertRegisterExecutionDurationsWithoutCostAwareJobShardingStrategy() {
+        when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).build());
+        executionService.registerExecutionDurations(Collections.singletonMap(0, 100L));
+        verify(jobNodeStorage, times(0)).fillJobNodes(any());
+    }
+    
+    @Test
+    public void assertRegisterExecutionDurationsWithCostAwareJobShardingStrategy() {
+        when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).jobShardingStrategyType("LOAD_AWARE").build());
+        when(jobNodeStorage.getJobNodeData("sharding/0/duration")).thenReturn("100");
+        Map<Integer, Long> itemDurations = new HashMap<>(2, 1);
+        itemDurations.put(0, 200L);
+        itemDurations.put(1, 50L);
+        executionService.registerExecutionDurations(itemDurations);
+        Map<String, Long> expected = new HashMap<>(2, 1);
+        expected.put("sharding/0/duration", 130L);
+        expected.put("sharding/1/duration", 50L);
+        verify(jobNodeStorage).fillJobNodes(expected);
+    }
+    
+    @Test
+    public void assertGetExecutionDurations() {
+        when(jobNodeStorage.getJobNodeData("sharding/0/duration")).thenReturn("100");
+        when(jobNodeStorage.getJobNodeData("sharding/2/duration")).thenReturn("300");
+        Map<Integer, Long> expected = new HashMap<>(2, 1);
+        expected.put(0, 100L);
+        expected.put(2, 300L);
+        assertThat(executionService.getExecutionDurations(3), is(expected));
+    }
+    
+    @Test
+    public void assertGetSuggestedBatchSize() {
+        when(jobNodeStorage.getJobNodeData("sharding/0/batch_size")).thenReturn("50");
+        assertThat(executionService.getSuggestedBatchSize(0), is(50));
+        assertNull(executionService.getSuggestedBatchSize(1));
+    }
+    
+    @Test
+    public void assertRegisterSuggestedBatchSize() {
+        executionService.registerSuggestedBatchSize(0, 50);
+        verify(jobNodeStorage).replaceJobNode("sharding/0/batch_size", 50);
     }
     
     @Test
@@ -94,9 +138,9 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(false).build());
         executionService.registerJobCompleted(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap()));
-        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted(any());
-        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded(any());
-        assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
+        verify(jobNodeStorage, times(0)).removeJobNodesIfExisted(any());
+        verify(jobNodeStorage, times(0)).createJobNodesIfNeeded(any());
+        assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
     @Test
@@ -105,9 +149,14 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(true).build());
         executionService.registerJobCompleted(getShardingContext());
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"));
+        assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
+    }
+    
+    @Test
+    public void assertClearRunningFlag() {
+        JobRegistry.getInstance().setJobRunning("test_job", true);
+        executionService.clearRunningFlag();
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -139,8 +188,8 @@ public final class ExecutionServiceTest {
     public void assertHasRunningItemsWithMonitorExecution() {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(true).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/running")).thenReturn(true);
         assertTrue(executionService.hasRunningItems(Arrays.asList(0, 1, 2)));
     }
     
@@ -148,26 +197,26 @@ public final class ExecutionServiceTest {
     public void assertNotHaveRunningItems() {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(true).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/2/running")).thenReturn(false);
         assertFalse(executionService.hasRunningItems(Arrays.asList(0, 1, 2)));
     }
     
     @Test
     public void assertHasRunningItemsForAll() {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/running")).thenReturn(true);
         assertTrue(executionService.hasRunningItems());
     }
     
     @Test
     public void assertNotHaveRunningItemsForAll() {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/2/running")).thenReturn(false);
         assertFalse(executionService.hasRunningItems());
     }
     
@@ -175,50 +224,73 @@ public final class ExecutionServiceTest {
     public void assertMisfireIfNotRunning() {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(true).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/2/running")).thenReturn(false);
+        assertFalse(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+        assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
+    }
+    
+    @Test
+    public void assertMisfireIfNotRunningThenMisfireUntilRunningFlagCleared() {
+        assertFalse(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+        assertTrue(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+        executionService.clearRunningFlag();
+        assertFalse(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
+    }
+    
+    @Test
+    public void assertMisfireIfTimeoutItemsRunning() {
+        executionService.registerTimeoutItemRunning(1);
+        assertTrue(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+        assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
+        executionService.registerTimeoutItemFinished(1);
         assertFalse(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
     public void assertMisfireIfRunning() {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).monitorExecution(true).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/running")).thenReturn(true);
+        assertTrue(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+    }
+    
+    @Test
+    public void assertMisfireIfPreviousExecutionIsRunningWithoutMonitorExecution() {
+        JobRegistry.getInstance().setJobRunning("test_job", true);
         assertTrue(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1, 2)));
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
     public void assertSetMisfire() {
         executionService.setMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/0/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/1/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/2/misfire");
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
     public void assertGetMisfiredJobItems() {
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/misfire")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/misfire")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/misfire")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/misfire")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/misfire")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/2/misfire")).thenReturn(false);
         assertThat(executionService.getMisfiredJobItems(Arrays.asList(0, 1, 2)), is(Arrays.asList(0, 1)));
     }
     
     @Test
     public void assertClearMisfire() {
         executionService.clearMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/misfire");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
     public void assertGetDisabledItems() {
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/disabled")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/disabled")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/disabled")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/disabled")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/disabled")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/2/disabled")).thenReturn(false);
         assertThat(executionService.getDisabledItems(Arrays.asList(0, 1, 2)), is(Arrays.asList(0, 1)));
     }
     
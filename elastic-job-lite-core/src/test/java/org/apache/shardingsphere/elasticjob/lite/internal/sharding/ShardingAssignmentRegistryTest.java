@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingAssignmentRegistryTest {
+    
+    @After
+    public void tearDown() {
+        ShardingAssignmentRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertGetWithoutRegistered() {
+        ShardingAssignment shardingAssignment = createShardingAssignment();
+        ShardingAssignmentRegistry.getInstance().get("test_job", () -> shardingAssignment);
+        assertThat(ShardingAssignmentRegistry.getInstance().get("test_job", this::createShardingAssignment), not(sameInstance(shardingAssignment)));
+    }
+    
+    @Test
+    public void assertGetWithRegistered() {
+        ShardingAssignmentRegistry.getInstance().register("test_job");
+        ShardingAssignment shardingAssignment = createShardingAssignment();
+        ShardingAssignmentRegistry.getInstance().get("test_job", () -> shardingAssignment);
+        assertThat(ShardingAssignmentRegistry.getInstance().get("test_job", this::createShardingAssignment), sameInstance(shardingAssignment));
+    }
+    
+    @Test
+    public void assertGetAfterInvalidated() {
+        ShardingAssignmentRegistry.getInstance().register("test_job");
+        ShardingAssignment shardingAssignment = createShardingAssignment();
+        ShardingAssignmentRegistry.getInstance().get("test_job", () -> shardingAssignment);
+        ShardingAssignmentRegistry.getInstance().invalidate("test_job");
+        assertThat(ShardingAssignmentRegistry.getInstance().get("test_job", this::createShardingAssignment), not(sameInstance(shardingAssignment)));
+    }
+    
+    @Test
+    public void assertGetWhenInvalidatedWhileLoading() {
+        ShardingAssignmentRegistry.getInstance().register("test_job");
+        ShardingAssignment shardingAssignment = createShardingAssignment();
+        ShardingAssignmentRegistry.getInstance().get("test_job", () -> {
+            ShardingAssignmentRegistry.getInstance().invalidate("test_job");
+            return shardingAssignment;
+        });
+        assertThat(ShardingAssignmentRegistry.getInstance().get("test_job", this::createShardingAssignment), not(sameInstance(shardingAssignment)));
+    }
+    
+    private ShardingAssignment createShardingAssignment() {
+        return new ShardingAssignment(Collections.singletonMap(0, "host0@-@0"));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingAssignmentTest {
+    
+    @Test
+    public void assertGetJobInstanceId() {
+        ShardingAssignment actual = createShardingAssignment();
+        assertThat(actual.getJobInstanceId(0), is("host0@-@0"));
+        assertThat(actual.getJobInstanceId(1), is("host1@-@0"));
+        assertNull(actual.getJobInstanceId(3));
+    }
+    
+    @Test
+    public void assertGetShardingItems() {
+        ShardingAssignment actual = createShardingAssignment();
+        assertThat(actual.getShardingItems("host0@-@0"), is(Arrays.asList(0, 2)));
+        assertThat(actual.getShardingItems("host1@-@0"), is(Collections.singletonList(1)));
+        assertTrue(actual.getShardingItems("host2@-@0").isEmpty());
+    }
+    
+    @Test
+    public void assertGetJobInstanceIds() {
+        assertThat(createShardingAssignment().getJobInstanceIds().size(), is(3));
+    }
+    
+    private ShardingAssignment createShardingAssignment() {
+        Map<Integer, String> jobInstanceIds = new HashMap<>();
+        jobInstanceIds.put(2, "host0@-@0");
+        jobInstanceIds.put(1, "host1@-@0");
+        jobInstanceIds.put(0, "host0@-@0");
+        return new ShardingAssignment(jobInstanceIds);
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.curator.framework.recipes.cache.TreeCacheEvent.Type;
 import org.apache.shardingsphere.elasticjob.lite.fixture.LiteJsonConstants;
 import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractJobListener;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobEligibilityRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
@@ -33,6 +34,12 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -64,7 +71,9 @@ public final class ShardingListenerManagerTest {
     @Test
     public void assertStart() {
         shardingListenerManager.start();
-        verify(jobNodeStorage, times(2)).addDataListener(ArgumentMatchers.<AbstractJobListener>any());
+        verify(jobNodeStorage, times(4)).addDataListener(ArgumentMatchers.<AbstractJobListener>any());
+        ShardingAssignmentRegistry.getInstance().unregister("test_job");
+        JobEligibilityRegistry.getInstance().unregister("test_job");
     }
     
     @Test
@@ -128,4 +137,44 @@ public final class ShardingListenerManagerTest {
         verify(shardingService).setReshardingFlag();
         JobRegistry.getInstance().shutdown("test_job");
     }
+    
+    @Test
+    public void assertShardingAssignmentChangedJobListenerWhenIsNotInstancePath() {
+        ShardingAssignmentRegistry.getInstance().register("test_job");
+        ShardingAssignment shardingAssignment = new ShardingAssignment(Collections.singletonMap(0, "127.0.0.1@-@0"));
+        ShardingAssignmentRegistry.getInstance().get("test_job", () -> shardingAssignment);
+        shardingListenerManager.new ShardingAssignmentChangedJobListener().dataChanged("/test_job/sharding/0/running", Type.NODE_ADDED, "");
+        assertThat(ShardingAssignmentRegistry.getInstance().get("test_job", () -> null), is(shardingAssignment));
+        ShardingAssignmentRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertShardingAssignmentChangedJobListenerWhenIsInstancePath() {
+        ShardingAssignmentRegistry.getInstance().register("test_job");
+        ShardingAssignmentRegistry.getInstance().get("test_job", () -> new ShardingAssignment(Collections.singletonMap(0, "127.0.0.1@-@0")));
+        shardingListenerManager.new ShardingAssignmentChangedJobListener().dataChanged("/test_job/sharding/0/instance", Type.NODE_UPDATED, "127.0.0.1@-@1");
+        assertThat(ShardingAssignmentRegistry.getInstance().get("test_job", () -> new ShardingAssignment(Collections.singletonMap(0, "127.0.0.1@-@1"))).getJobInstanceId(0), is("127.0.0.1@-@1"));
+        ShardingAssignmentRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertEligibilityChangedJobListenerWhenReshardingFlagChanged() {
+        JobEligibilityRegistry.getInstance().register("test_job");
+        shardingListenerManager.new EligibilityChangedJobListener().dataChanged("/test_job/leader/sharding/necessary", Type.NODE_ADDED, "");
+        assertFalse(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+        shardingListenerManager.new EligibilityChangedJobListener().dataChanged("/test_job/leader/sharding/necessary", Type.NODE_REMOVED, "");
+        assertTrue(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> true));
+        JobEligibilityRegistry.getInstance().unregister("test_job");
+    }
+    
+    @Test
+    public void assertEligibilityChangedJobListenerWhenLocalServerDisabled() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        JobEligibilityRegistry.getInstance().register("test_job");
+        shardingListenerManager.new EligibilityChangedJobListener().dataChanged("/test_job/servers/127.0.0.1", Type.NODE_UPDATED, "DISABLED");
+        assertFalse(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+        shardingListenerManager.new EligibilityChangedJobListener().dataChanged("/test_job/servers/127.0.0.1", Type.NODE_UPDATED, "");
+        assertTrue(JobEligibilityRegistry.getInstance().isEligible("test_job", () -> false));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
 }
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingNodeTest {
     
@@ -42,6 +44,23 @@ public final class ShardingNodeTest {
         assertNull(shardingNode.getItemByRunningItemPath("/test_job/sharding/0/completed"));
     }
     
+    @Test
+    public void assertIsInstancePath() {
+        assertTrue(shardingNode.isInstancePath("/test_job/sharding/0/instance"));
+    }
+    
+    @Test
+    public void assertIsNotInstancePath() {
+        assertFalse(shardingNode.isInstancePath("/test_job/sharding/0/running"));
+        assertFalse(shardingNode.isInstancePath("/test_job/instances/127.0.0.1@-@0"));
+    }
+    
+    @Test
+    public void assertIsNecessaryPath() {
+        assertTrue(shardingNode.isNecessaryPath("/test_job/leader/sharding/necessary"));
+        assertFalse(shardingNode.isNecessaryPath("/test_job/leader/sharding/processing"));
+    }
+    
     @Test
     public void assertGetItemByRunningItemPath() {
         assertThat(shardingNode.getItemByRunningItemPath("/test_job/sharding/0/running"), is(0));
@@ -21,6 +21,7 @@ import org.apache.curator.framework.api.transaction.CuratorTransactionBridge;
 import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
 import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
 import org.apache.curator.framework.api.transaction.TransactionDeleteBuilder;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfiguration;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationSe
 import org.apache.shardingsphere.elasticjob.lite.internal.election.LeaderService;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceService;
+import org.apache.shardingsphere.elasticjob.lite.internal.listener.JobNodeChangedNotifier;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
@@ -39,6 +41,7 @@ import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -47,12 +50,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -125,14 +133,40 @@ public final class ShardingServiceTest {
     
     @Test
     public void assertShardingWhenIsNotLeader() {
-        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true, false);
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("leader/sharding/necessary")).thenReturn(false);
         when(instanceService.getAvailableJobInstances()).thenReturn(Collections.singletonList(new JobInstance("127.0.0.1@-@0")));
         when(leaderService.isLeaderUntilBlock()).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("leader/sharding/processing")).thenReturn(true, false);
+        when(jobNodeStorage.isJobNodeExistedFromCache("leader/sharding/processing")).thenReturn(true, false);
         shardingService.shardingIfNecessary();
         verify(jobNodeStorage, times(0)).fillEphemeralJobNode(ShardingNode.PROCESSING, "");
     }
     
+    @Test
+    public void assertShardingWhenIsNotLeaderAndWokenUpByShardingCompleted() throws InterruptedException {
+        JobNodeChangedNotifier.getInstance().register("test_job");
+        AtomicBoolean shardingNecessary = new AtomicBoolean(true);
+        CountDownLatch waitingLatch = new CountDownLatch(2);
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("leader/sharding/necessary")).thenAnswer(invocation -> {
+            waitingLatch.countDown();
+            return shardingNecessary.get();
+        });
+        when(instanceService.getAvailableJobInstances()).thenReturn(Collections.singletonList(new JobInstance("127.0.0.1@-@0")));
+        when(leaderService.isLeaderUntilBlock()).thenReturn(false);
+        Thread follower = new Thread(() -> shardingService.shardingIfNecessary());
+        follower.start();
+        // Follower is blocked after it has checked sharding flag twice, by sharding and by waiting loop.
+        assertTrue(waitingLatch.await(10L, TimeUnit.SECONDS));
+        assertTrue(follower.isAlive());
+        shardingNecessary.set(false);
+        JobNodeChangedNotifier.getInstance().notifyChanged("test_job");
+        follower.join(10000L);
+        JobNodeChangedNotifier.getInstance().unregister("test_job");
+        assertFalse(follower.isAlive());
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNode(ShardingNode.PROCESSING, "");
+    }
+    
     @Test
     public void assertShardingNecessaryWhenMonitorExecutionEnabledAndIncreaseShardingTotalCount() {
         when(instanceService.getAvailableJobInstances()).thenReturn(Collections.singletonList(new JobInstance("127.0.0.1@-@0")));
@@ -174,6 +208,58 @@ public final class ShardingServiceTest {
         verify(jobNodeStorage).fillEphemeralJobNode("leader/sharding/processing", "");
         verify(jobNodeStorage).executeInTransaction(any(TransactionExecutionCallback.class));
     }
+    
+    @Test
+    public void assertShardingNecessaryWithCostAwareJobShardingStrategy() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@0"), new JobInstance("127.0.0.1@-@1")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build()))
+                .monitorExecution(false).jobShardingStrategyType("LOAD_AWARE").build());
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "1", "2"));
+        when(executionService.getExecutionDurations(3)).thenReturn(Collections.singletonMap(0, 100L));
+        shardingService.shardingIfNecessary();
+        verify(executionService).getExecutionDurations(3);
+        verify(jobNodeStorage).executeInTransaction(any(ShardingService.PersistShardingInfoTransactionExecutionCallback.class));
+    }
+    
+    @Test
+    public void assertShardingNecessaryWithIncrementalJobShardingStrategy() {
+        mockIncrementalSharding();
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted("sharding/0/instance");
+        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted("sharding/3");
+        verify(jobNodeStorage, times(0)).getJobNodeData(any());
+        verify(jobNodeStorage).createJobNodesIfNeeded(Collections.singletonList("sharding/2"));
+        verify(jobNodeStorage).fillEphemeralJobNode("leader/sharding/processing", "");
+        verify(jobNodeStorage).executeInTransaction(any(ShardingService.PersistChangedShardingInfoTransactionExecutionCallback.class), any(Runnable.class));
+    }
+    
+    @Test
+    public void assertShardingNecessaryWithIncrementalJobShardingStrategyWhenTransactionFailed() {
+        mockIncrementalSharding();
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(jobNodeStorage).executeInTransaction(any(ShardingService.PersistChangedShardingInfoTransactionExecutionCallback.class), any(Runnable.class));
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "1", "3"), Arrays.asList("0", "1", "2", "3"));
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/instance");
+        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/3");
+        verify(jobNodeStorage).executeInTransaction(any(ShardingService.PersistShardingInfoTransactionExecutionCallback.class));
+    }
+    
+    private void mockIncrementalSharding() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@0"), new JobInstance("127.0.0.1@-@1")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build()))
+                .monitorExecution(false).jobShardingStrategyType("STICKY").build());
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "1", "3"));
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/1/instance")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeChildrenKeys("sharding/3")).thenReturn(Collections.singletonList("instance"));
+    }
         
     @Test
     public void assertGetShardingItemsWithNotAvailableServer() {
@@ -192,6 +278,21 @@ public final class ShardingServiceTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertGetShardingItemsFromShardingAssignmentRegistry() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        ShardingAssignmentRegistry.getInstance().register("test_job");
+        when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
+        when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build())).build());
+        when(jobNodeStorage.getJobNodeData("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeData("sharding/1/instance")).thenReturn("127.0.0.1@-@1");
+        when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
+        assertThat(shardingService.getShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
+        assertThat(shardingService.getShardingItems("127.0.0.1@-@1"), is(Collections.singletonList(1)));
+        verify(jobNodeStorage, times(1)).getJobNodeData("sharding/0/instance");
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     public void assertGetLocalShardingItemsWithInstanceShutdown() {
         assertThat(shardingService.getLocalShardingItems(), is(Collections.<Integer>emptyList()));
@@ -263,4 +364,57 @@ public final class ShardingServiceTest {
         verify(transactionDeleteBuilder).forPath("/test_job/leader/sharding/processing");
         verify(curatorTransactionBridge, times(5)).and();
     }
+    
+    @Test
+    public void assertPersistChangedShardingInfoTransactionExecutionCallback() throws Exception {
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionCreateBuilder transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        TransactionSetDataBuilder transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        TransactionDeleteBuilder transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        when(curatorTransactionFinal.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.forPath("/test_job/sharding/2/instance", "host1@-@0".getBytes())).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionSetDataBuilder.forPath("/test_job/sharding/1/instance", "host1@-@0".getBytes())).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.delete()).thenReturn(transactionDeleteBuilder);
+        when(transactionDeleteBuilder.forPath("/test_job/leader/sharding/necessary")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/leader/sharding/processing")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        Map<JobInstance, List<Integer>> shardingResult = new HashMap<>();
+        shardingResult.put(new JobInstance("host0@-@0"), Collections.singletonList(0));
+        shardingResult.put(new JobInstance("host1@-@0"), Arrays.asList(1, 2));
+        Map<Integer, String> currentShardingResult = new HashMap<>();
+        currentShardingResult.put(0, "host0@-@0");
+        currentShardingResult.put(1, "host0@-@0");
+        ShardingService.PersistChangedShardingInfoTransactionExecutionCallback actual =
+                shardingService.new PersistChangedShardingInfoTransactionExecutionCallback(shardingResult, currentShardingResult, Collections.emptyList());
+        actual.execute(curatorTransactionFinal);
+        verify(curatorTransactionFinal).create();
+        verify(curatorTransactionFinal).setData();
+        verify(curatorTransactionFinal, times(2)).delete();
+        verify(curatorTransactionBridge, times(4)).and();
+    }
+    
+    @Test
+    public void assertPersistChangedShardingInfoTransactionExecutionCallbackWithRemovedNodes() throws Exception {
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionDeleteBuilder transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        when(curatorTransactionFinal.delete()).thenReturn(transactionDeleteBuilder);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/3/instance")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/3")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/leader/sharding/necessary")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/leader/sharding/processing")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        Map<JobInstance, List<Integer>> shardingResult = new HashMap<>();
+        shardingResult.put(new JobInstance("host0@-@0"), Collections.singletonList(0));
+        ShardingService.PersistChangedShardingInfoTransactionExecutionCallback actual = shardingService.new PersistChangedShardingInfoTransactionExecutionCallback(
+                shardingResult, Collections.singletonMap(0, "host0@-@0"), Arrays.asList("sharding/3/instance", "sharding/3"));
+        actual.execute(curatorTransactionFinal);
+        InOrder inOrder = inOrder(transactionDeleteBuilder);
+        inOrder.verify(transactionDeleteBuilder).forPath("/test_job/sharding/3/instance");
+        inOrder.verify(transactionDeleteBuilder).forPath("/test_job/sharding/3");
+        verify(curatorTransactionFinal, times(0)).create();
+        verify(curatorTransactionFinal, times(4)).delete();
+    }
 }
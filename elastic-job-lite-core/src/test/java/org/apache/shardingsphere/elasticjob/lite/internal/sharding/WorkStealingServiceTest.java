@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.LiteJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class WorkStealingServiceTest {
+    
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
+    @Mock
+    private ConfigurationService configService;
+    
+    private final WorkStealingService workStealingService = new WorkStealingService(null, "test_job");
+    
+    @Before
+    public void setUp() {
+        ReflectionUtils.setFieldValue(workStealingService, "jobNodeStorage", jobNodeStorage);
+        ReflectionUtils.setFieldValue(workStealingService, "configService", configService);
+        JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
+    }
+    
+    @After
+    public void tearDown() {
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertRegisterStealableItemsWhenWorkStealingDisabled() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(false));
+        workStealingService.registerStealableItems(Arrays.asList(0, 1));
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNodes(any(), any());
+    }
+    
+    @Test
+    public void assertRegisterStealableItemsWhenWorkStealingEnabled() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(true));
+        workStealingService.registerStealableItems(Arrays.asList(0, 1));
+        verify(jobNodeStorage).fillEphemeralJobNodes(Arrays.asList("sharding/0/stealable", "sharding/1/stealable"), "127.0.0.1@-@0");
+    }
+    
+    @Test
+    public void assertClaimItemWhenWorkStealingDisabled() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(false));
+        assertTrue(workStealingService.claimItem(0));
+        verify(jobNodeStorage, times(0)).tryRemoveJobNode(anyString());
+    }
+    
+    @Test
+    public void assertClaimItemWhenStolen() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(true));
+        when(jobNodeStorage.tryRemoveJobNode("sharding/0/stealable")).thenReturn(false);
+        assertFalse(workStealingService.claimItem(0));
+    }
+    
+    @Test
+    public void assertStealItemsWhenWorkStealingDisabled() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(false));
+        assertTrue(workStealingService.stealItems().isEmpty());
+    }
+    
+    @Test
+    public void assertStealItemsFromLastStealableItem() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(true));
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/2/stealable")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedFromCache("sharding/1/stealable")).thenReturn(true);
+        when(jobNodeStorage.tryRemoveJobNode("sharding/2/stealable")).thenReturn(false);
+        when(jobNodeStorage.tryRemoveJobNode("sharding/1/stealable")).thenReturn(true);
+        assertThat(workStealingService.stealItems(), is(Collections.singletonList(1)));
+        verify(jobNodeStorage, times(0)).isJobNodeExistedFromCache("sharding/0/stealable");
+        verify(jobNodeStorage).fillJobNode("sharding/1/stolen", "127.0.0.1@-@0");
+    }
+    
+    @Test
+    public void assertStealItemsWhenNothingStealable() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(true));
+        assertTrue(workStealingService.stealItems().isEmpty());
+        verify(jobNodeStorage, times(0)).tryRemoveJobNode(anyString());
+    }
+    
+    @Test
+    public void assertReleaseStolenItemsWhenWorkStealingDisabled() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(false));
+        workStealingService.releaseStolenItems(Arrays.asList(0, 1));
+        verify(jobNodeStorage, times(0)).removeJobNodesIfExisted(any());
+    }
+    
+    @Test
+    public void assertReleaseStolenItemsWhenWorkStealingEnabled() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(true));
+        workStealingService.releaseStolenItems(Arrays.asList(0, 1));
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/stolen", "sharding/1/stolen"));
+    }
+    
+    @Test
+    public void assertGetStolenItemsWhenWorkStealingDisabled() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(false));
+        assertTrue(workStealingService.getStolenItems("127.0.0.1@-@1").isEmpty());
+    }
+    
+    @Test
+    public void assertGetStolenItems() {
+        when(configService.load(true)).thenReturn(createLiteJobConfiguration(true));
+        when(jobNodeStorage.getJobNodeData("sharding/0/stolen")).thenReturn("127.0.0.1@-@1");
+        when(jobNodeStorage.getJobNodeData("sharding/1/stolen")).thenReturn("127.0.0.1@-@2");
+        assertThat(workStealingService.getStolenItems("127.0.0.1@-@1"), is(Collections.singletonList(0)));
+    }
+    
+    private LiteJobConfiguration createLiteJobConfiguration(final boolean workStealing) {
+        return LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).workStealing(workStealing).build())).build();
+    }
+}
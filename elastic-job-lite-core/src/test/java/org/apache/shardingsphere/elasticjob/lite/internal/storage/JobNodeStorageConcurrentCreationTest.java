@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.storage;
+
+import org.apache.shardingsphere.elasticjob.lite.fixture.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenter;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class JobNodeStorageConcurrentCreationTest {
+    
+    private static final ZookeeperConfiguration ZOOKEEPER_CONFIGURATION = new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), JobNodeStorageConcurrentCreationTest.class.getName());
+    
+    private static final int CREATOR_COUNT = 8;
+    
+    private static ZookeeperRegistryCenter zkRegCenter;
+    
+    @BeforeClass
+    public static void setUp() {
+        EmbedTestingServer.start();
+        zkRegCenter = new ZookeeperRegistryCenter(ZOOKEEPER_CONFIGURATION);
+        ZOOKEEPER_CONFIGURATION.setConnectionTimeoutMilliseconds(30000);
+        zkRegCenter.init();
+    }
+    
+    @AfterClass
+    public static void tearDown() {
+        zkRegCenter.close();
+    }
+    
+    @Test
+    public void assertCreateOverlappedJobChildNodesConcurrently() throws Exception {
+        zkRegCenter.persist("/concurrent_job/config", "");
+        JobNodeStorage jobNodeStorage = new JobNodeStorage(zkRegCenter, "concurrent_job");
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(CREATOR_COUNT);
+        Collection<Future<CreatedChildNodes>> futures = new ArrayList<>(CREATOR_COUNT);
+        for (int i = 0; i < CREATOR_COUNT; i++) {
+            // Every creator shares one item with the next creator, and parent nodes are created by all of them.
+            List<String> childNodes = Arrays.asList(String.format("guarantee/started/%d", i), String.format("guarantee/started/%d", (i + 1) % CREATOR_COUNT));
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return jobNodeStorage.createJobChildNodes("guarantee/started", childNodes);
+            }));
+        }
+        startLatch.countDown();
+        int createdCount = 0;
+        int lastArrivedCount = 0;
+        for (Future<CreatedChildNodes> each : futures) {
+            CreatedChildNodes actual = each.get();
+            assertNotNull(actual);
+            createdCount += actual.getCreatedCount();
+            int numChildren = actual.getParentStat().getNumChildren();
+            if (numChildren >= CREATOR_COUNT && numChildren - actual.getCreatedCount() < CREATOR_COUNT) {
+                lastArrivedCount++;
+            }
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertThat(createdCount, is(CREATOR_COUNT));
+        assertThat(lastArrivedCount, is(1));
+        assertThat(zkRegCenter.getNumChildren("/concurrent_job/guarantee/started"), is(CREATOR_COUNT));
+    }
+}
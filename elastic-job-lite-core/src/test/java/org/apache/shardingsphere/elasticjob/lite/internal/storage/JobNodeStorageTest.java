@@ -18,17 +18,25 @@
 package org.apache.shardingsphere.elasticjob.lite.internal.storage;
 
 import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.transaction.CuratorTransaction;
 import org.apache.curator.framework.api.transaction.CuratorTransactionBridge;
 import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
+import org.apache.curator.framework.api.transaction.CuratorTransactionResult;
+import org.apache.curator.framework.api.transaction.OperationType;
 import org.apache.curator.framework.api.transaction.TransactionCheckBuilder;
 import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionDeleteBuilder;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.TreeCache;
 import org.apache.curator.framework.recipes.cache.TreeCacheListener;
 import org.apache.curator.framework.state.ConnectionStateListener;
 import org.apache.shardingsphere.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,10 +44,16 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -66,6 +80,13 @@ public final class JobNodeStorageTest {
         verify(regCenter).isExisted("/test_job/config");
     }
     
+    @Test
+    public void assertIsJobNodeExistedFromCache() {
+        when(regCenter.isExistedFromCache("/test_job/sharding/0/running")).thenReturn(true);
+        assertTrue(jobNodeStorage.isJobNodeExistedFromCache("sharding/0/running"));
+        verify(regCenter).isExistedFromCache("/test_job/sharding/0/running");
+    }
+    
     @Test
     public void assertGetJobNodeData() {
         when(regCenter.get("/test_job/config/cron")).thenReturn("0/1 * * * * ?");
@@ -132,12 +153,304 @@ public final class JobNodeStorageTest {
         verify(regCenter, times(0)).remove("/test_job/config");
     }
     
+    @Test
+    public void assertCreateJobNodesIfNeededWithoutNodes() {
+        jobNodeStorage.createJobNodesIfNeeded(Collections.emptyList());
+        verify(regCenter, times(0)).getRawClient();
+    }
+    
+    @Test
+    public void assertCreateJobNodesIfNeededWhenAllNodesExistedInCache() {
+        when(regCenter.isExistedFromCache("/test_job/sharding/0/misfire")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/1/misfire")).thenReturn(true);
+        jobNodeStorage.createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        verify(regCenter, times(0)).getRawClient();
+    }
+    
+    @Test
+    public void assertCreateJobNodesIfNeededOnlyForAbsentNodes() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionCreateBuilder transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(regCenter.isExistedFromCache("/test_job/sharding/0/misfire")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/1/misfire")).thenReturn(false);
+        when(regCenter.isExistedFromCache("/test_job/sharding")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/1")).thenReturn(true);
+        when(curatorTransactionFinal.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.forPath("/test_job/sharding/1/misfire", new byte[0])).thenReturn(curatorTransactionBridge);
+        jobNodeStorage.createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        verify(curatorTransactionFinal).create();
+        verify(transactionCreateBuilder, times(0)).forPath("/test_job/sharding/0/misfire", new byte[0]);
+        verify(curatorTransactionFinal).commit();
+    }
+    
+    @Test
+    public void assertCreateJobChildNodesInTransaction() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionCreateBuilder transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        TransactionSetDataBuilder transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        Stat stat = new Stat();
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(regCenter.isExistedFromCache("/test_job/guarantee")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/guarantee/started")).thenReturn(true);
+        when(curatorTransactionFinal.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.forPath("/test_job/guarantee/started/0", new byte[0])).thenReturn(curatorTransactionBridge);
+        when(transactionCreateBuilder.forPath("/test_job/guarantee/started/1", new byte[0])).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionSetDataBuilder.forPath("/test_job/guarantee/started", new byte[0])).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.commit()).thenReturn(Arrays.asList(new CuratorTransactionResult(OperationType.CHECK, "/", null, null),
+                new CuratorTransactionResult(OperationType.CREATE, "/test_job/guarantee/started/0", "/test_job/guarantee/started/0", null),
+                new CuratorTransactionResult(OperationType.CREATE, "/test_job/guarantee/started/1", "/test_job/guarantee/started/1", null),
+                new CuratorTransactionResult(OperationType.SET_DATA, "/test_job/guarantee/started", null, stat)));
+        CreatedChildNodes actual = jobNodeStorage.createJobChildNodes("guarantee/started", Arrays.asList("guarantee/started/0", "guarantee/started/1"));
+        assertThat(actual.getParentStat(), is(stat));
+        assertThat(actual.getCreatedCount(), is(2));
+        verify(curatorTransactionFinal, times(2)).create();
+        verify(regCenter, times(0)).persist(any(), any());
+    }
+    
+    @Test
+    public void assertCreateJobChildNodesWithMissingNodesWhenTransactionFailure() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionCreateBuilder transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        TransactionSetDataBuilder transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        Stat stat = new Stat();
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(regCenter.isExistedFromCache("/test_job/guarantee")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/guarantee/started")).thenReturn(true);
+        when(curatorTransactionFinal.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.forPath("/test_job/guarantee/started/0", new byte[0])).thenReturn(curatorTransactionBridge);
+        when(transactionCreateBuilder.forPath("/test_job/guarantee/started/1", new byte[0])).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionSetDataBuilder.forPath("/test_job/guarantee/started", new byte[0])).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.commit()).thenThrow(new KeeperException.NodeExistsException()).thenReturn(Arrays.asList(new CuratorTransactionResult(OperationType.CHECK, "/", null, null),
+                new CuratorTransactionResult(OperationType.CREATE, "/test_job/guarantee/started/1", "/test_job/guarantee/started/1", null),
+                new CuratorTransactionResult(OperationType.SET_DATA, "/test_job/guarantee/started", null, stat)));
+        when(regCenter.isExisted("/test_job/guarantee")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/guarantee/started")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/guarantee/started/0")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/guarantee/started/1")).thenReturn(false);
+        CreatedChildNodes actual = jobNodeStorage.createJobChildNodes("guarantee/started", Arrays.asList("guarantee/started/0", "guarantee/started/1"));
+        assertThat(actual.getParentStat(), is(stat));
+        assertThat(actual.getCreatedCount(), is(1));
+        verify(transactionCreateBuilder).forPath("/test_job/guarantee/started/0", new byte[0]);
+        verify(transactionCreateBuilder, times(2)).forPath("/test_job/guarantee/started/1", new byte[0]);
+        verify(curatorTransactionFinal, times(2)).commit();
+        verify(regCenter, times(0)).persist(any(), any());
+    }
+    
+    @Test
+    public void assertCreateJobChildNodesWhenTransactionAlwaysFailure() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionSetDataBuilder transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(curatorTransactionFinal.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionSetDataBuilder.forPath("/test_job/guarantee/started", new byte[0])).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.commit()).thenThrow(new KeeperException.NoNodeException());
+        assertNull(jobNodeStorage.createJobChildNodes("guarantee/started", Collections.emptyList()));
+        verify(curatorTransactionFinal, times(3)).commit();
+    }
+    
+    @Test
+    public void assertGetJobNodeStatWhenNodeIsNotExisted() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        ExistsBuilder existsBuilder = mock(ExistsBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.checkExists()).thenReturn(existsBuilder);
+        assertNull(jobNodeStorage.getJobNodeStat("guarantee/started"));
+        verify(existsBuilder).forPath("/test_job/guarantee/started");
+    }
+    
+    @Test
+    public void assertRemoveJobNodesIfExistedInTransaction() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionDeleteBuilder transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(curatorTransactionFinal.delete()).thenReturn(transactionDeleteBuilder);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/0/running")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/1/running")).thenReturn(curatorTransactionBridge);
+        when(regCenter.isExistedFromCache("/test_job/sharding/0/running")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/1/running")).thenReturn(true);
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
+        verify(curatorTransactionFinal, times(2)).delete();
+        verify(curatorTransactionFinal).commit();
+        verify(regCenter, times(0)).remove(any());
+    }
+    
+    @Test
+    public void assertRemoveJobNodesIfExistedInTransactionWithoutNodesNotExistedInCache() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionDeleteBuilder transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(curatorTransactionFinal.delete()).thenReturn(transactionDeleteBuilder);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/0/running")).thenReturn(curatorTransactionBridge);
+        when(regCenter.isExistedFromCache("/test_job/sharding/0/running")).thenReturn(true);
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
+        verify(transactionDeleteBuilder, times(0)).forPath("/test_job/sharding/1/running");
+        verify(curatorTransactionFinal).commit();
+    }
+    
+    @Test
+    public void assertRemoveJobNodesIfExistedWhenNodesAreNotExistedInCache() {
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
+        verify(regCenter, times(0)).getRawClient();
+        verify(regCenter, times(0)).remove(any());
+    }
+    
+    @Test
+    public void assertRemoveJobNodesIfExistedOneByOneWhenTransactionFailure() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionDeleteBuilder transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(curatorTransactionFinal.delete()).thenReturn(transactionDeleteBuilder);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/0/running")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/1/running")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.commit()).thenThrow(new KeeperException.NoNodeException());
+        when(regCenter.isExistedFromCache("/test_job/sharding/0/running")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/1/running")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/sharding/0/running")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/sharding/1/running")).thenReturn(false);
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
+        verify(regCenter).remove("/test_job/sharding/0/running");
+        verify(regCenter, times(0)).remove("/test_job/sharding/1/running");
+    }
+    
+    @Test
+    public void assertTryRemoveJobNodeSuccess() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        DeleteBuilder deleteBuilder = mock(DeleteBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.delete()).thenReturn(deleteBuilder);
+        assertTrue(jobNodeStorage.tryRemoveJobNode("sharding/0/stealable"));
+        verify(deleteBuilder).forPath("/test_job/sharding/0/stealable");
+    }
+    
+    @Test
+    public void assertTryRemoveJobNodeWhenNodeIsNotExisted() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        DeleteBuilder deleteBuilder = mock(DeleteBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.delete()).thenReturn(deleteBuilder);
+        when(deleteBuilder.forPath("/test_job/sharding/0/stealable")).thenThrow(new KeeperException.NoNodeException());
+        assertFalse(jobNodeStorage.tryRemoveJobNode("sharding/0/stealable"));
+    }
+    
     @Test
     public void assertFillJobNode() {
         jobNodeStorage.fillJobNode("config/cron", "0/1 * * * * ?");
         verify(regCenter).persist("/test_job/config/cron", "0/1 * * * * ?");
     }
     
+    @Test
+    public void assertFillJobNodesInTransaction() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionSetDataBuilder transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        TransactionCreateBuilder transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(regCenter.isExistedFromCache("/test_job/sharding")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/0")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/1")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/0/duration")).thenReturn(true);
+        when(curatorTransactionFinal.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionSetDataBuilder.forPath("/test_job/sharding/0/duration", "100".getBytes())).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.forPath("/test_job/sharding/1/duration", "200".getBytes())).thenReturn(curatorTransactionBridge);
+        Map<String, Long> nodes = new LinkedHashMap<>(2, 1);
+        nodes.put("sharding/0/duration", 100L);
+        nodes.put("sharding/1/duration", 200L);
+        jobNodeStorage.fillJobNodes(nodes);
+        verify(curatorTransactionFinal).setData();
+        verify(curatorTransactionFinal).create();
+        verify(curatorTransactionFinal).commit();
+        verify(regCenter, times(0)).persist(any(), any());
+    }
+    
+    @Test
+    public void assertFillJobNodesOneByOneWhenTransactionFailure() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class);
+        CuratorTransaction curatorTransaction = mock(CuratorTransaction.class);
+        TransactionCheckBuilder transactionCheckBuilder = mock(TransactionCheckBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionCreateBuilder transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction()).thenReturn(curatorTransaction);
+        when(curatorTransaction.check()).thenReturn(transactionCheckBuilder);
+        when(transactionCheckBuilder.forPath("/")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        when(regCenter.isExistedFromCache("/test_job/sharding")).thenReturn(true);
+        when(regCenter.isExistedFromCache("/test_job/sharding/0")).thenReturn(true);
+        when(curatorTransactionFinal.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.forPath("/test_job/sharding/0/duration", "100".getBytes())).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionFinal.commit()).thenThrow(new KeeperException.NodeExistsException());
+        jobNodeStorage.fillJobNodes(Collections.singletonMap("sharding/0/duration", 100L));
+        verify(regCenter).persist("/test_job/sharding/0/duration", "100");
+    }
+    
     @Test
     public void assertFillEphemeralJobNode() {
         jobNodeStorage.fillEphemeralJobNode("config/cron", "0/1 * * * * ?");
@@ -182,7 +495,7 @@ public final class JobNodeStorageTest {
         verify(transactionCreateBuilder).forPath("/test_transaction");
         verify(curatorTransactionFinal).commit();
     }
-
+    
     @Test(expected = RuntimeException.class)
     public void assertExecuteInTransactionFailure() throws Exception {
         CuratorFramework client = mock(CuratorFramework.class);
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.storage;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.retry.RetryOneTime;
+import org.apache.shardingsphere.elasticjob.lite.fixture.EmbedTestingServer;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LeaderLatchHolderTest {
+    
+    private static final int SEQUENTIAL_CALL_COUNT = 50;
+    
+    private static CuratorFramework client;
+    
+    @BeforeClass
+    public static void init() throws InterruptedException {
+        EmbedTestingServer.start();
+        client = CuratorFrameworkFactory.newClient(EmbedTestingServer.getConnectionString(), new RetryOneTime(2000));
+        client.start();
+        client.blockUntilConnected();
+    }
+    
+    @AfterClass
+    public static void close() {
+        client.close();
+    }
+    
+    @Test
+    public void assertExecuteSerially() throws Exception {
+        LeaderLatchHolder leaderLatchHolder = new LeaderLatchHolder("/test_job/leader/serial/latch");
+        AtomicInteger concurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        AtomicInteger executedCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        Collection<Future<?>> futures = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                leaderLatchHolder.execute(client, () -> {
+                    maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                    executedCount.incrementAndGet();
+                    concurrency.decrementAndGet();
+                });
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertThat(executedCount.get(), is(10));
+        assertThat(maxConcurrency.get(), is(1));
+    }
+    
+    @Test
+    public void assertExecuteAgainAfterReleased() throws Exception {
+        LeaderLatchHolder leaderLatchHolder = new LeaderLatchHolder("/test_job/leader/released/latch", 0L);
+        AtomicInteger executedCount = new AtomicInteger();
+        leaderLatchHolder.execute(client, executedCount::incrementAndGet);
+        leaderLatchHolder.execute(client, executedCount::incrementAndGet);
+        assertThat(executedCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertReuseLatchWithinIdleGracePeriod() throws Exception {
+        String latchPath = "/test_job/leader/reused/latch";
+        executeSequentially(new LeaderLatchHolder(latchPath, 60000L));
+        assertThat(client.getChildren().forPath(latchPath).size(), is(1));
+        assertThat(getLatchNodeChangedCount(latchPath), is(1));
+    }
+    
+    @Test
+    public void assertCreateLatchPerCallWithoutIdleGracePeriod() throws Exception {
+        String latchPath = "/test_job/leader/recreated/latch";
+        executeSequentially(new LeaderLatchHolder(latchPath, 0L));
+        assertTrue(waitUntilLatchNodeDeleted(latchPath));
+        assertThat(getLatchNodeChangedCount(latchPath), is(SEQUENTIAL_CALL_COUNT * 2));
+    }
+    
+    @Test
+    public void assertReleaseAfterIdleGracePeriod() throws Exception {
+        String latchPath = "/test_job/leader/idle/latch";
+        new LeaderLatchHolder(latchPath, 100L).execute(client, () -> { });
+        assertThat(client.getChildren().forPath(latchPath).size(), is(1));
+        assertTrue(waitUntilLatchNodeDeleted(latchPath));
+        assertThat(getLatchNodeChangedCount(latchPath), is(2));
+    }
+    
+    @Test
+    public void assertClose() throws Exception {
+        String latchPath = "/test_job/leader/closed/latch";
+        LeaderLatchHolder leaderLatchHolder = new LeaderLatchHolder(latchPath, 60000L);
+        leaderLatchHolder.execute(client, () -> { });
+        assertThat(client.getChildren().forPath(latchPath).size(), is(1));
+        leaderLatchHolder.close();
+        assertTrue(client.getChildren().forPath(latchPath).isEmpty());
+    }
+    
+    private void executeSequentially(final LeaderLatchHolder leaderLatchHolder) throws Exception {
+        for (int i = 0; i < SEQUENTIAL_CALL_COUNT; i++) {
+            leaderLatchHolder.execute(client, () -> { });
+        }
+    }
+    
+    private boolean waitUntilLatchNodeDeleted(final String latchPath) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!client.getChildren().forPath(latchPath).isEmpty()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10L);
+        }
+        return true;
+    }
+    
+    private int getLatchNodeChangedCount(final String latchPath) throws Exception {
+        // Child version of latch path is increased once by each latch node created or deleted.
+        return client.checkExists().forPath(latchPath).getCversion();
+    }
+}
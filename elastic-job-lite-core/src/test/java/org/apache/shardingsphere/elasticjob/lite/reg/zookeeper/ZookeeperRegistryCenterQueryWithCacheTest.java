@@ -23,9 +23,13 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ZookeeperRegistryCenterQueryWithCacheTest {
     
@@ -59,4 +63,24 @@ public final class ZookeeperRegistryCenterQueryWithCacheTest {
         assertThat(zkRegCenter.get("/test"), is("test"));
         assertThat(zkRegCenter.get("/test/deep/nested"), is("deepNested"));
     }
+    
+    @Test
+    public void assertIsExistedFromCache() {
+        assertTrue(zkRegCenter.isExistedFromCache("/test/deep/nested"));
+        assertFalse(zkRegCenter.isExistedFromCache("/test/notExisted"));
+    }
+    
+    @Test
+    public void assertGetChildrenKeysFromCache() {
+        assertThat(zkRegCenter.getChildrenKeysFromCache("/test/deep"), is(Collections.singletonList("nested")));
+        assertThat(zkRegCenter.getChildrenKeysFromCache("/test/child"), is(Collections.<String>emptyList()));
+        assertThat(zkRegCenter.getChildrenKeysFromCache("/test/notExisted"), is(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    public void assertGetNumChildrenFromCache() {
+        assertThat(zkRegCenter.getNumChildrenFromCache("/test/deep"), is(1));
+        assertThat(zkRegCenter.getNumChildrenFromCache("/test/child"), is(0));
+        assertThat(zkRegCenter.getNumChildrenFromCache("/test/notExisted"), is(0));
+    }
 }
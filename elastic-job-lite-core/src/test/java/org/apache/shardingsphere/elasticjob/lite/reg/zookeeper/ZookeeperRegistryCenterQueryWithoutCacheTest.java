@@ -83,6 +83,13 @@ public final class ZookeeperRegistryCenterQueryWithoutCacheTest {
         assertFalse(zkRegCenter.isExisted("/notExisted"));
     }
     
+    @Test
+    public void assertReadFromServerIfCacheAbsent() {
+        assertTrue(zkRegCenter.isExistedFromCache("/test/deep/nested"));
+        assertThat(zkRegCenter.getChildrenKeysFromCache("/test"), is(Arrays.asList("deep", "child")));
+        assertThat(zkRegCenter.getNumChildrenFromCache("/test"), is(2));
+    }
+    
     @Test
     public void assertGetRegistryCenterTime() {
         long regCenterTime = zkRegCenter.getRegistryCenterTime("/_systemTime/current");
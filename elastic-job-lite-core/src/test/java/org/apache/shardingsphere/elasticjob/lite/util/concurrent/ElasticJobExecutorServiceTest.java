@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.lite.util.concurrent;
 import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -50,6 +51,24 @@ public final class ElasticJobExecutorServiceTest {
         assertTrue(executorServiceObject.isShutdown());
     }
     
+    @Test
+    public void assertResize() {
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService("executor-service-resize-test", 1);
+        ExecutorService executorService = executorServiceObject.createExecutorService();
+        executorService.submit(new FooTask());
+        BlockUtils.waitingShortTime();
+        executorServiceObject.resize(2, 2, new ThreadPoolExecutor.AbortPolicy());
+        executorService.submit(new FooTask());
+        BlockUtils.waitingShortTime();
+        assertThat(executorServiceObject.getActiveThreadCount(), is(2));
+        assertThat(executorServiceObject.getWorkQueueSize(), is(0));
+        executorServiceObject.resize(1, 1, new ThreadPoolExecutor.AbortPolicy());
+        executorService.submit(new FooTask());
+        BlockUtils.waitingShortTime();
+        assertThat(executorServiceObject.getWorkQueueSize(), is(1));
+        executorService.shutdownNow();
+    }
+    
     class FooTask implements Runnable {
         
         @Override
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.util.concurrent;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HashedWheelTimerTest {
+    
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", 10L, 8);
+    
+    @After
+    public void tearDown() {
+        timer.stop();
+    }
+    
+    @Test
+    public void assertNewTimeout() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+        timer.newTimeout(latch::countDown, 200L);
+        assertTrue(latch.await(2L, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 200L);
+    }
+    
+    @Test
+    public void assertNewTimeoutWithDelayLongerThanWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+        timer.newTimeout(latch::countDown, 250L);
+        assertTrue(latch.await(2L, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 250L);
+    }
+    
+    @Test
+    public void assertCancel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 100L);
+        timeout.cancel();
+        assertTrue(timeout.isCancelled());
+        assertFalse(latch.await(300L, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void assertTaskFailureNotStopTimer() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(() -> {
+            throw new RuntimeException("test");
+        }, 10L);
+        timer.newTimeout(latch::countDown, 50L);
+        assertTrue(latch.await(2L, TimeUnit.SECONDS));
+        assertThat(latch.getCount(), is(0L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertNewTimeoutAfterStopped() {
+        timer.stop();
+        timer.newTimeout(() -> { }, 10L);
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.elasticjob.lite.util.json;
 
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
+import org.apache.shardingsphere.elasticjob.lite.config.JobCoreConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.config.JobTypeConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.config.simple.SimpleJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.fixture.APIJsonConstants;
 import org.apache.shardingsphere.elasticjob.lite.fixture.config.TestDataflowJobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.fixture.config.TestJobRootConfiguration;
@@ -31,6 +34,7 @@ import org.junit.Test;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class JobConfigurationGsonTypeAdapterTest {
@@ -78,6 +82,53 @@ public final class JobConfigurationGsonTypeAdapterTest {
         assertThat(GsonFactory.getGson().toJson(actual), is(GsonFactory.getGson().toJson(expected)));
     }
     
+    @Test
+    public void assertThreadPoolPropertiesRoundTrip() {
+        TestJobRootConfiguration expected = new TestJobRootConfiguration(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3)
+                .jobExecutorServiceHandlerType("BOUNDED").threadPoolName("shared").threadPoolCoreSize(2).threadPoolMaxSize(4).threadPoolQueueCapacity(8).threadPoolRejectionPolicy("ABORT").build()));
+        TestJobRootConfiguration actual = GsonFactory.getGson().fromJson(GsonFactory.getGson().toJson(expected), TestJobRootConfiguration.class);
+        JobCoreConfiguration actualCoreConfig = actual.getTypeConfig().getCoreConfig();
+        assertThat(actualCoreConfig.getThreadPoolName(), is("shared"));
+        assertThat(actualCoreConfig.getThreadPoolCoreSize(), is(2));
+        assertThat(actualCoreConfig.getThreadPoolMaxSize(), is(4));
+        assertThat(actualCoreConfig.getThreadPoolQueueCapacity(), is(8));
+        assertThat(actualCoreConfig.getThreadPoolRejectionPolicy(), is("ABORT"));
+    }
+    
+    @Test
+    public void assertFailoverBatchRoundTrip() {
+        TestJobRootConfiguration expected = new TestJobRootConfiguration(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).failover(true).failoverBatchSize(10).failoverFairnessPolicy("GREEDY").build()));
+        TestJobRootConfiguration actual = GsonFactory.getGson().fromJson(GsonFactory.getGson().toJson(expected), TestJobRootConfiguration.class);
+        assertThat(actual.getTypeConfig().getCoreConfig().getFailoverBatchSize(), is(10));
+        assertThat(actual.getTypeConfig().getCoreConfig().getFailoverFairnessPolicy(), is("GREEDY"));
+    }
+    
+    @Test
+    public void assertItemTimeoutMillisecondsRoundTrip() {
+        TestJobRootConfiguration expected = new TestJobRootConfiguration(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).itemTimeoutMilliseconds(1000L).build()));
+        TestJobRootConfiguration actual = GsonFactory.getGson().fromJson(GsonFactory.getGson().toJson(expected), TestJobRootConfiguration.class);
+        assertThat(actual.getTypeConfig().getCoreConfig().getItemTimeoutMilliseconds(), is(1000L));
+    }
+    
+    @Test
+    public void assertPrefetchDepthRoundTrip() {
+        TestJobRootConfiguration expected = new TestJobRootConfiguration(
+                DataflowJobConfiguration.newBuilder(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), true).prefetchDepth(4).build());
+        TestJobRootConfiguration actual = GsonFactory.getGson().fromJson(GsonFactory.getGson().toJson(expected), TestJobRootConfiguration.class);
+        assertThat(((DataflowJobConfiguration) actual.getTypeConfig()).getPrefetchDepth(), is(4));
+    }
+    
+    @Test
+    public void assertProcessSubBatchRoundTrip() {
+        TestJobRootConfiguration expected = new TestJobRootConfiguration(DataflowJobConfiguration.newBuilder(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), false)
+                .processSubBatchSize(100).processSubBatchOrdered(false).build());
+        TestJobRootConfiguration actual = GsonFactory.getGson().fromJson(GsonFactory.getGson().toJson(expected), TestJobRootConfiguration.class);
+        assertThat(((DataflowJobConfiguration) actual.getTypeConfig()).getProcessSubBatchSize(), is(100));
+        assertFalse(((DataflowJobConfiguration) actual.getTypeConfig()).isProcessSubBatchOrdered());
+    }
+    
     private static class JobConfigurationGsonTypeAdapter extends AbstractJobConfigurationGsonTypeAdapter<TestJobRootConfiguration> {
     
         @Override
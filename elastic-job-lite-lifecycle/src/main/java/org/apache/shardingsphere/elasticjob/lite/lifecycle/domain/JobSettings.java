@@ -47,20 +47,48 @@ public final class JobSettings implements Serializable {
     
     private boolean streamingProcess;
     
+    private int prefetchDepth;
+    
+    private int processSubBatchSize;
+    
+    private boolean processSubBatchOrdered = true;
+    
+    private long targetBatchLatencyMilliseconds;
+    
+    private int maxBatchSize;
+    
     private int maxTimeDiffSeconds;
     
     private int monitorPort = -1;
     
     private boolean failover;
     
+    private int failoverBatchSize;
+    
+    private String failoverFairnessPolicy;
+    
     private boolean misfire;
     
+    private boolean workStealing;
+    
+    private long itemTimeoutMilliseconds;
+    
     private String jobShardingStrategyType;
     
     private String jobErrorHandlerType;
     
     private String jobExecutorServiceHandlerType;
     
+    private String threadPoolName;
+    
+    private int threadPoolCoreSize;
+    
+    private int threadPoolMaxSize;
+    
+    private int threadPoolQueueCapacity;
+    
+    private String threadPoolRejectionPolicy;
+    
     private String description;
     
     private String scriptCommandLine;
@@ -41,6 +41,8 @@ public final class ShardingInfo implements Serializable, Comparable<ShardingInfo
     
     private boolean failover;
     
+    private Integer suggestedBatchSize;
+    
     @Override
     public int compareTo(final ShardingInfo o) {
         return getItem() - o.getItem();
@@ -65,9 +65,18 @@ public final class JobSettingsAPIImpl implements JobSettingsAPI {
         result.setMaxTimeDiffSeconds(liteJobConfig.getMaxTimeDiffSeconds());
         result.setMonitorPort(liteJobConfig.getMonitorPort());
         result.setFailover(liteJobConfig.getTypeConfig().getCoreConfig().isFailover());
+        result.setFailoverBatchSize(liteJobConfig.getTypeConfig().getCoreConfig().getFailoverBatchSize());
+        result.setFailoverFairnessPolicy(liteJobConfig.getTypeConfig().getCoreConfig().getFailoverFairnessPolicy());
         result.setMisfire(liteJobConfig.getTypeConfig().getCoreConfig().isMisfire());
+        result.setWorkStealing(liteJobConfig.getTypeConfig().getCoreConfig().isWorkStealing());
+        result.setItemTimeoutMilliseconds(liteJobConfig.getTypeConfig().getCoreConfig().getItemTimeoutMilliseconds());
         result.setJobShardingStrategyType(liteJobConfig.getJobShardingStrategyType());
         result.setJobExecutorServiceHandlerType(liteJobConfig.getTypeConfig().getCoreConfig().getJobExecutorServiceHandlerType());
+        result.setThreadPoolName(liteJobConfig.getTypeConfig().getCoreConfig().getThreadPoolName());
+        result.setThreadPoolCoreSize(liteJobConfig.getTypeConfig().getCoreConfig().getThreadPoolCoreSize());
+        result.setThreadPoolMaxSize(liteJobConfig.getTypeConfig().getCoreConfig().getThreadPoolMaxSize());
+        result.setThreadPoolQueueCapacity(liteJobConfig.getTypeConfig().getCoreConfig().getThreadPoolQueueCapacity());
+        result.setThreadPoolRejectionPolicy(liteJobConfig.getTypeConfig().getCoreConfig().getThreadPoolRejectionPolicy());
         result.setJobErrorHandlerType(liteJobConfig.getTypeConfig().getCoreConfig().getJobErrorHandlerType());
         result.setReconcileIntervalMinutes(liteJobConfig.getReconcileIntervalMinutes());
         result.setDescription(liteJobConfig.getTypeConfig().getCoreConfig().getDescription());
@@ -75,6 +84,11 @@ public final class JobSettingsAPIImpl implements JobSettingsAPI {
     
     private void buildDataflowJobSettings(final JobSettings result, final DataflowJobConfiguration config) {
         result.setStreamingProcess(config.isStreamingProcess());
+        result.setPrefetchDepth(config.getPrefetchDepth());
+        result.setProcessSubBatchSize(config.getProcessSubBatchSize());
+        result.setProcessSubBatchOrdered(config.isProcessSubBatchOrdered());
+        result.setTargetBatchLatencyMilliseconds(config.getTargetBatchLatencyMilliseconds());
+        result.setMaxBatchSize(config.getMaxBatchSize());
     }
     
     private void buildScriptJobSettings(final JobSettings result, final ScriptJobConfiguration config) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.lite.lifecycle.internal.statistics;
 
+import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lite.lifecycle.api.ShardingStatisticsAPI;
@@ -38,26 +39,31 @@ public final class ShardingStatisticsAPIImpl implements ShardingStatisticsAPI {
     
     @Override
     public Collection<ShardingInfo> getShardingInfo(final String jobName) {
-        String shardingRootPath = new JobNodePath(jobName).getShardingNodePath();
-        List<String> items = regCenter.getChildrenKeys(shardingRootPath);
+        JobNodePath jobNodePath = new JobNodePath(jobName);
+        List<String> items = regCenter.getChildrenKeys(jobNodePath.getShardingNodePath());
+        List<String> onlineInstances = regCenter.getChildrenKeys(jobNodePath.getInstancesNodePath());
         List<ShardingInfo> result = new ArrayList<>(items.size());
         for (String each : items) {
-            result.add(getShardingInfo(jobName, each));
+            result.add(getShardingInfo(jobNodePath, onlineInstances, each));
         }
         Collections.sort(result);
         return result;
     }
     
-    private ShardingInfo getShardingInfo(final String jobName, final String item) {
+    private ShardingInfo getShardingInfo(final JobNodePath jobNodePath, final List<String> onlineInstances, final String item) {
         ShardingInfo result = new ShardingInfo();
         result.setItem(Integer.parseInt(item));
-        JobNodePath jobNodePath = new JobNodePath(jobName);
-        String instanceId = regCenter.get(jobNodePath.getShardingNodePath(item, "instance"));
-        boolean disabled = regCenter.isExisted(jobNodePath.getShardingNodePath(item, "disabled"));
-        boolean running = regCenter.isExisted(jobNodePath.getShardingNodePath(item, "running"));
-        boolean shardingError = !regCenter.isExisted(jobNodePath.getInstanceNodePath(instanceId));
+        List<String> itemNodes = regCenter.getChildrenKeys(String.format("%s/%s", jobNodePath.getShardingNodePath(), item));
+        String instanceId = itemNodes.contains("instance") ? regCenter.get(jobNodePath.getShardingNodePath(item, "instance")) : null;
+        boolean disabled = itemNodes.contains("disabled");
+        boolean running = itemNodes.contains("running");
+        boolean shardingError = !onlineInstances.contains(instanceId);
         result.setStatus(ShardingInfo.ShardingStatus.getShardingStatus(disabled, running, shardingError));
-        result.setFailover(regCenter.isExisted(jobNodePath.getShardingNodePath(item, "failover")));
+        result.setFailover(itemNodes.contains("failover"));
+        String batchSize = itemNodes.contains("batch_size") ? regCenter.get(jobNodePath.getShardingNodePath(item, "batch_size")) : null;
+        if (!Strings.isNullOrEmpty(batchSize)) {
+            result.setSuggestedBatchSize(Integer.valueOf(batchSize));
+        }
         if (null != instanceId) {
             String[] ipAndPid = instanceId.split("@-@");
             result.setServerIp(ipAndPid[0]);
@@ -100,8 +100,10 @@ public final class JobSettingsAPIImplTest {
         jobSettings.setReconcileIntervalMinutes(70);
         jobSettingsAPI.updateJobSettings(jobSettings);
         verify(regCenter).update("/test_job/config", "{\"jobName\":\"test_job\","
-                + "\"cron\":\"0/1 * * * * ?\",\"shardingTotalCount\":10,\"monitorExecution\":true,\"streamingProcess\":true,"
-                + "\"maxTimeDiffSeconds\":-1,\"monitorPort\":-1,\"failover\":false,\"misfire\":true,\"reconcileIntervalMinutes\":70}");
+                + "\"cron\":\"0/1 * * * * ?\",\"shardingTotalCount\":10,\"monitorExecution\":true,\"streamingProcess\":true,\"prefetchDepth\":0,"
+                + "\"processSubBatchSize\":0,\"processSubBatchOrdered\":true,\"targetBatchLatencyMilliseconds\":0,\"maxBatchSize\":0,"
+                + "\"maxTimeDiffSeconds\":-1,\"monitorPort\":-1,\"failover\":false,\"failoverBatchSize\":0,\"misfire\":true,\"workStealing\":false,"
+                + "\"itemTimeoutMilliseconds\":0,\"threadPoolCoreSize\":0,\"threadPoolMaxSize\":0,\"threadPoolQueueCapacity\":0,\"reconcileIntervalMinutes\":70}");
     }
     
     @Test(expected = IllegalArgumentException.class)
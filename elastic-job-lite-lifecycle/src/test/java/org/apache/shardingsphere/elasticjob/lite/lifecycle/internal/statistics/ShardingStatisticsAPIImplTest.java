@@ -27,8 +27,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -49,18 +51,16 @@ public final class ShardingStatisticsAPIImplTest {
     @Test
     public void assertGetShardingInfo() {
         when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Arrays.asList("0", "1", "2", "3"));
+        when(regCenter.getChildrenKeys("/test_job/instances")).thenReturn(Collections.singletonList("ip4@-@4123"));
+        when(regCenter.getChildrenKeys("/test_job/sharding/0")).thenReturn(Arrays.asList("running", "instance"));
+        when(regCenter.getChildrenKeys("/test_job/sharding/1")).thenReturn(Arrays.asList("instance", "failover", "batch_size"));
+        when(regCenter.getChildrenKeys("/test_job/sharding/2")).thenReturn(Arrays.asList("instance", "disabled"));
+        when(regCenter.getChildrenKeys("/test_job/sharding/3")).thenReturn(Collections.singletonList("instance"));
         when(regCenter.get("/test_job/sharding/0/instance")).thenReturn("ip1@-@1234");
         when(regCenter.get("/test_job/sharding/1/instance")).thenReturn("ip2@-@2341");
+        when(regCenter.get("/test_job/sharding/1/batch_size")).thenReturn("50");
         when(regCenter.get("/test_job/sharding/2/instance")).thenReturn("ip3@-@3412");
         when(regCenter.get("/test_job/sharding/3/instance")).thenReturn("ip4@-@4123");
-        when(regCenter.isExisted("/test_job/instances/ip4@-@4123")).thenReturn(true);
-        when(regCenter.isExisted("/test_job/sharding/0/running")).thenReturn(true);
-        when(regCenter.isExisted("/test_job/sharding/1/running")).thenReturn(false);
-        when(regCenter.isExisted("/test_job/sharding/2/running")).thenReturn(false);
-        when(regCenter.isExisted("/test_job/sharding/3/running")).thenReturn(false);
-        when(regCenter.isExisted("/test_job/sharding/0/failover")).thenReturn(false);
-        when(regCenter.isExisted("/test_job/sharding/1/failover")).thenReturn(true);
-        when(regCenter.isExisted("/test_job/sharding/2/disabled")).thenReturn(true);
         int i = 0;
         for (ShardingInfo each : shardingStatisticsAPI.getShardingInfo("test_job")) {
             i++;
@@ -70,12 +70,14 @@ public final class ShardingStatisticsAPIImplTest {
                     assertThat(each.getStatus(), is(ShardingInfo.ShardingStatus.RUNNING));
                     assertThat(each.getServerIp(), is("ip1"));
                     assertThat(each.getInstanceId(), is("1234"));
+                    assertNull(each.getSuggestedBatchSize());
                     break;
                 case 2:
                     assertTrue(each.isFailover());
                     assertThat(each.getStatus(), is(ShardingInfo.ShardingStatus.SHARDING_FLAG));
                     assertThat(each.getServerIp(), is("ip2"));
                     assertThat(each.getInstanceId(), is("2341"));
+                    assertThat(each.getSuggestedBatchSize(), is(50));
                     break;
                 case 3:
                     assertThat(each.getStatus(), is(ShardingInfo.ShardingStatus.DISABLED));
@@ -92,4 +94,16 @@ public final class ShardingStatisticsAPIImplTest {
             }
         }
     }
+    
+    @Test
+    public void assertGetShardingInfoWhenBatchSizeIsEmpty() {
+        when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Collections.singletonList("0"));
+        when(regCenter.getChildrenKeys("/test_job/instances")).thenReturn(Collections.singletonList("ip1@-@1234"));
+        when(regCenter.getChildrenKeys("/test_job/sharding/0")).thenReturn(Arrays.asList("instance", "batch_size"));
+        when(regCenter.get("/test_job/sharding/0/instance")).thenReturn("ip1@-@1234");
+        when(regCenter.get("/test_job/sharding/0/batch_size")).thenReturn("");
+        ShardingInfo actual = shardingStatisticsAPI.getShardingInfo("test_job").iterator().next();
+        assertThat(actual.getStatus(), is(ShardingInfo.ShardingStatus.PENDING));
+        assertNull(actual.getSuggestedBatchSize());
+    }
 }
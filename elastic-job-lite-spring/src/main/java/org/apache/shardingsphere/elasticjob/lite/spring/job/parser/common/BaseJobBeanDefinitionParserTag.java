@@ -46,10 +46,18 @@ public final class BaseJobBeanDefinitionParserTag {
     
     public static final String FAILOVER_ATTRIBUTE = "failover";
     
+    public static final String FAILOVER_BATCH_SIZE_ATTRIBUTE = "failover-batch-size";
+    
+    public static final String FAILOVER_FAIRNESS_POLICY_ATTRIBUTE = "failover-fairness-policy";
+    
     public static final String MAX_TIME_DIFF_SECONDS_ATTRIBUTE = "max-time-diff-seconds";
     
     public static final String MISFIRE_ATTRIBUTE = "misfire";
     
+    public static final String WORK_STEALING_ATTRIBUTE = "work-stealing";
+    
+    public static final String ITEM_TIMEOUT_MILLISECONDS_ATTRIBUTE = "item-timeout-milliseconds";
+    
     public static final String JOB_SHARDING_STRATEGY_TYPE_ATTRIBUTE = "job-sharding-strategy-type";
     
     public static final String DESCRIPTION_ATTRIBUTE = "description";
@@ -58,6 +66,14 @@ public final class BaseJobBeanDefinitionParserTag {
     
     public static final String OVERWRITE_ATTRIBUTE = "overwrite";
     
+    public static final String SHARED_SCHEDULER_ATTRIBUTE = "shared-scheduler";
+    
+    public static final String TRIGGER_ENGINE_TYPE_ATTRIBUTE = "trigger-engine-type";
+    
+    public static final String MAX_QUEUED_TRIGGERS_ATTRIBUTE = "max-queued-triggers";
+    
+    public static final String INSTANCE_WEIGHT_ATTRIBUTE = "instance-weight";
+    
     public static final String LISTENER_TAG = "listener";
     
     public static final String DISTRIBUTED_LISTENER_TAG = "distributed-listener";
@@ -68,6 +84,16 @@ public final class BaseJobBeanDefinitionParserTag {
     
     public static final String JOB_EXECUTOR_SERVICE_HANDLER_ATTRIBUTE = "job-executor-service-handler";
     
+    public static final String THREAD_POOL_NAME_ATTRIBUTE = "thread-pool-name";
+    
+    public static final String THREAD_POOL_CORE_SIZE_ATTRIBUTE = "thread-pool-core-size";
+    
+    public static final String THREAD_POOL_MAX_SIZE_ATTRIBUTE = "thread-pool-max-size";
+    
+    public static final String THREAD_POOL_QUEUE_CAPACITY_ATTRIBUTE = "thread-pool-queue-capacity";
+    
+    public static final String THREAD_POOL_REJECTION_POLICY_ATTRIBUTE = "thread-pool-rejection-policy";
+    
     public static final String JOB_ERROR_HANDLER_ATTRIBUTE = "job-error-handler";
     
     public static final String EVENT_TRACE_RDB_DATA_SOURCE_ATTRIBUTE = "event-trace-rdb-data-source";
@@ -34,6 +34,11 @@ public final class DataflowJobBeanDefinitionParser extends AbstractJobBeanDefini
         BeanDefinitionBuilder result = BeanDefinitionBuilder.rootBeanDefinition(DataflowJobConfiguration.class);
         result.addConstructorArgValue(jobCoreConfigurationBeanDefinition);
         result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.STREAMING_PROCESS_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.PREFETCH_DEPTH_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.PROCESS_SUB_BATCH_SIZE_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.PROCESS_SUB_BATCH_ORDERED_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.TARGET_BATCH_LATENCY_MILLISECONDS_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.MAX_BATCH_SIZE_ATTRIBUTE));
         return result.getBeanDefinition();
     }
 }
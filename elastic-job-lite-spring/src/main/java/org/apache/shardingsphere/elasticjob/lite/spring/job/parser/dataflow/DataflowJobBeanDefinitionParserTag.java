@@ -27,4 +27,14 @@ import lombok.NoArgsConstructor;
 public final class DataflowJobBeanDefinitionParserTag {
     
     public static final String STREAMING_PROCESS_ATTRIBUTE = "streaming-process";
+    
+    public static final String PREFETCH_DEPTH_ATTRIBUTE = "prefetch-depth";
+    
+    public static final String PROCESS_SUB_BATCH_SIZE_ATTRIBUTE = "process-sub-batch-size";
+    
+    public static final String PROCESS_SUB_BATCH_ORDERED_ATTRIBUTE = "process-sub-batch-ordered";
+    
+    public static final String TARGET_BATCH_LATENCY_MILLISECONDS_ATTRIBUTE = "target-batch-latency-milliseconds";
+    
+    public static final String MAX_BATCH_SIZE_ATTRIBUTE = "max-batch-size";
 }
@@ -89,6 +89,6 @@ public final class JobExecutionEvent implements JobEvent {
      */
     public enum ExecutionSource {
         
-        NORMAL_TRIGGER, MISFIRE, FAILOVER
+        NORMAL_TRIGGER, MISFIRE, FAILOVER, WORK_STEALING
     }
 }